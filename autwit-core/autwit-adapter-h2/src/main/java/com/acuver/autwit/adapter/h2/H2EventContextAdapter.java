@@ -4,16 +4,30 @@ import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "autwit.database", havingValue = "h2")
 public class H2EventContextAdapter implements EventContextPort {
 
+    /** Upper bound on pairs per IN query (keeps bind-parameter count well below driver limits). */
+    private static final int BATCH_CHUNK_SIZE = 1000;
+
     private final H2EventContextRepository repo;
 
     // =====================================================================
@@ -21,7 +35,61 @@ public class H2EventContextAdapter implements EventContextPort {
     // =====================================================================
     @Override
     public void save(EventContextEntities ctx) {
-        repo.save(toEntity(ctx));
+        H2EventContextEntity entity = toEntity(ctx);
+        if (!ctx.isPaused()) {
+            // Event row: keep the state of a paused scenario with the same key
+            Optional<H2EventContextEntity> existing = repo.findByCanonicalKey(ctx.getCanonicalKey());
+            if (existing.isPresent()) {
+                entity = withPausedState(entity, existing.get());
+            }
+        }
+        repo.save(entity);
+    }
+
+    /**
+     * One transaction for the whole batch. Duplicate keys are collapsed first
+     * (last wins, as on Postgres); existing rows are read per chunk so event
+     * rows keep a paused scenario's state, then written through one saveAll.
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<EventContextEntities> contexts) {
+        if (contexts == null || contexts.isEmpty()) {
+            return;
+        }
+        Map<String, EventContextEntities> latest = new LinkedHashMap<>();
+        for (EventContextEntities ctx : contexts) {
+            latest.put(ctx.getCanonicalKey(), ctx);
+        }
+        List<String> keys = List.copyOf(latest.keySet());
+
+        Map<String, H2EventContextEntity> existing = new HashMap<>();
+        for (int i = 0; i < keys.size(); i += BATCH_CHUNK_SIZE) {
+            for (H2EventContextEntity e : repo.findAllById(keys.subList(i, Math.min(i + BATCH_CHUNK_SIZE, keys.size())))) {
+                existing.put(e.getCanonicalKey(), e);
+            }
+        }
+
+        List<H2EventContextEntity> entities = new ArrayList<>(latest.size());
+        for (EventContextEntities ctx : latest.values()) {
+            H2EventContextEntity entity = toEntity(ctx);
+            H2EventContextEntity current = existing.get(ctx.getCanonicalKey());
+            if (!ctx.isPaused() && current != null) {
+                entity = withPausedState(entity, current);
+            }
+            entities.add(entity);
+        }
+        repo.saveAll(entities);
+    }
+
+    private static H2EventContextEntity withPausedState(H2EventContextEntity entity, H2EventContextEntity existing) {
+        return entity.toBuilder()
+                .paused(existing.isPaused())
+                .resumeReady(existing.isResumeReady())
+                .retryCount(existing.getRetryCount())
+                .firstPausedAt(existing.getFirstPausedAt())
+                .lastRetryAt(existing.getLastRetryAt())
+                .build();
     }
 
     // =====================================================================
@@ -33,6 +101,38 @@ public class H2EventContextAdapter implements EventContextPort {
                 .map(this::toDomain);
     }
 
+    // =====================================================================
+    // BATCHED FIND LATEST (ONE QUERY PER CHUNK)
+    // =====================================================================
+    @Override
+    public Map<OrderEventKey, EventContextEntities> findLatestBatch(Collection<OrderEventKey> keys) {
+        Map<OrderEventKey, EventContextEntities> result = new HashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        Set<OrderEventKey> requested = keys.stream()
+                .filter(k -> k.orderId() != null && k.eventType() != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<OrderEventKey> ordered = List.copyOf(requested);
+
+        for (int i = 0; i < ordered.size(); i += BATCH_CHUNK_SIZE) {
+            List<OrderEventKey> chunk = ordered.subList(i, Math.min(i + BATCH_CHUNK_SIZE, ordered.size()));
+            Set<String> orderIds = chunk.stream().map(OrderEventKey::orderId).collect(Collectors.toSet());
+            Set<String> eventTypes = chunk.stream().map(OrderEventKey::eventType).collect(Collectors.toSet());
+
+            for (H2EventContextEntity e : repo.findLatestForOrdersAndEventTypes(orderIds, eventTypes)) {
+                OrderEventKey key = new OrderEventKey(e.getOrderId(), e.getEventType());
+                // IN x IN is a cross product — keep only pairs that were actually asked for
+                if (requested.contains(key)) {
+                    result.merge(key, toDomain(e),
+                            (a, b) -> a.getEventTimestamp() >= b.getEventTimestamp() ? a : b);
+                }
+            }
+        }
+        return result;
+    }
+
     // =====================================================================
     // FIND BY CANONICAL KEY
     // =====================================================================
@@ -45,53 +145,30 @@ public class H2EventContextAdapter implements EventContextPort {
     // MARK PAUSED
     // =====================================================================
     @Override
-    public void markPaused(EventContextEntities ctx) {
-
-        repo.findByCanonicalKey(ctx.getCanonicalKey()).ifPresentOrElse(existing -> {
-
-            // Update existing entity using toBuilder()
-            H2EventContextEntity updated = existing.toBuilder()
-                    .paused(true)
-                    .firstPausedAt(existing.getFirstPausedAt() == 0L
-                            ? System.currentTimeMillis()
-                            : existing.getFirstPausedAt())
-                    .lastRetryAt(System.currentTimeMillis())
-                    .build();
-
-            repo.save(updated);
-
-        }, () -> {
-            // Create new paused record
-            H2EventContextEntity saved = H2EventContextEntity.builder()
-                    .canonicalKey(ctx.getCanonicalKey())
-                    .orderId(ctx.getOrderId())
-                    .eventType(ctx.getEventType())
-                    .eventTimestamp(ctx.getEventTimestamp())
-                    .kafkaPayload(ctx.getKafkaPayload())
-                    .paused(true)
-                    .resumeReady(false)
-                    .retryCount(1)
-                    .firstPausedAt(System.currentTimeMillis())
-                    .lastRetryAt(System.currentTimeMillis())
-                    .status(ctx.getStatus())
-                    .createdAt(System.currentTimeMillis())
-                    .build();
-
-            repo.save(saved);
-        });
+    public int markPaused(EventContextEntities ctx) {
+        long now = System.currentTimeMillis();
+        // The poller's keyset mark orders by created_at: keep the caller's value
+        long createdAt = ctx.getCreatedAt() > 0 ? ctx.getCreatedAt() : now;
+        try {
+            return upsertPaused(ctx, createdAt, now);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent pause inserted the row between MERGE's match and insert: it now matches
+            return upsertPaused(ctx, createdAt, now);
+        }
+    }
+
+    private int upsertPaused(EventContextEntities ctx, long createdAt, long now) {
+        return repo.upsertPaused(ctx.getCanonicalKey(), ctx.getOrderId(), ctx.getEventType(),
+                ctx.getEventTimestamp(), ctx.getKafkaPayload(), ctx.getRetryCount(), ctx.getStatus(),
+                createdAt, now);
     }
 
     // =====================================================================
     // MARK RESUME READY
     // =====================================================================
     @Override
-    public void markResumeReady(String canonicalKey) {
-        repo.findByCanonicalKey(canonicalKey).ifPresent(existing -> {
-            H2EventContextEntity updated = existing.toBuilder()
-                    .resumeReady(true)
-                    .build();
-            repo.save(updated);
-        });
+    public int markResumeReady(String canonicalKey) {
+        return repo.markResumeReadyIfPaused(canonicalKey);
     }
 
     // =====================================================================
@@ -126,6 +203,23 @@ public class H2EventContextAdapter implements EventContextPort {
                 .toList();
     }
 
+    @Override
+    public List<EventContextEntities> findResumeReady(int limit) {
+        return repo.findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc(PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                       int limit) {
+        return repo.findCreatedAfter(afterCreatedAt, afterKey, untilInclusive, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     // =====================================================================
     // MAPPING: DOMAIN → ENTITY
     // =====================================================================
@@ -1,5 +1,6 @@
 package com.acuver.autwit.adapter.h2;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
@@ -14,23 +15,37 @@ import lombok.*;
 @Table(name = "event_context")
 public class H2EventContextEntity {
 
+    // Column names match schema-h2.sql (managed DDL, ddl-auto: none)
+
     @Id
+    @Column(name = "canonical_key")
     private String canonicalKey;   // primary id across DBs
 
+    @Column(name = "order_id")
     private String orderId;
+    @Column(name = "event_type")
     private String eventType;
+    @Column(name = "event_timestamp")
     private long eventTimestamp;
 
     @Lob
+    @Column(name = "kafka_payload")
     private String kafkaPayload;
 
+    @Column(name = "paused")
     private boolean paused;
+    @Column(name = "resume_ready")
     private boolean resumeReady;
 
+    @Column(name = "retry_count")
     private int retryCount;
+    @Column(name = "first_paused_at")
     private long firstPausedAt;
+    @Column(name = "last_retry_at")
     private long lastRetryAt;
 
+    @Column(name = "status")
     private String status;
+    @Column(name = "created_at")
     private long createdAt;
 }
@@ -1,7 +1,13 @@
 package com.acuver.autwit.adapter.h2;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,70 @@ public interface H2EventContextRepository extends JpaRepository<H2EventContextEn
 
     Optional<H2EventContextEntity> findByCanonicalKey(String canonicalKey);
     List<H2EventContextEntity> findByPausedTrue();
-}
\ No newline at end of file
+
+    List<H2EventContextEntity> findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc(Pageable pageable);
+
+    /**
+     * Keyset page for the poller: rows after (afterTs, afterKey) in
+     * (createdAt, canonicalKey) order, up to the until bound.
+     */
+    @Query("SELECT e FROM H2EventContextEntity e WHERE e.createdAt <= :until " +
+            "AND (e.createdAt > :afterTs OR (e.createdAt = :afterTs AND e.canonicalKey > :afterKey)) " +
+            "ORDER BY e.createdAt ASC, e.canonicalKey ASC")
+    List<H2EventContextEntity> findCreatedAfter(@Param("afterTs") long afterCreatedAt,
+                                                @Param("afterKey") String afterKey,
+                                                @Param("until") long untilInclusive,
+                                                Pageable pageable);
+
+    /**
+     * Latest event per (orderId, eventType) for all pairs in the cross product
+     * of the given ids/types — one round trip. Callers filter to the exact
+     * requested pairs and break eventTimestamp ties.
+     */
+    @Query("SELECT e FROM H2EventContextEntity e " +
+            "WHERE e.orderId IN :orderIds AND e.eventType IN :eventTypes " +
+            "AND e.eventTimestamp = (" +
+            "  SELECT MAX(x.eventTimestamp) FROM H2EventContextEntity x " +
+            "  WHERE x.orderId = e.orderId AND x.eventType = e.eventType)")
+    List<H2EventContextEntity> findLatestForOrdersAndEventTypes(
+            @Param("orderIds") Collection<String> orderIds,
+            @Param("eventTypes") Collection<String> eventTypes);
+
+    /**
+     * Atomic paused → resumeReady transition.
+     *
+     * @return 1 if the row moved to resumeReady, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE H2EventContextEntity e SET e.resumeReady = true " +
+            "WHERE e.canonicalKey = :key AND e.paused = true AND e.resumeReady = false")
+    int markResumeReadyIfPaused(@Param("key") String canonicalKey);
+
+    /**
+     * Pause as one MERGE: a missing row is inserted paused, an existing row
+     * only gets paused / lastRetryAt, and firstPausedAt is kept once set.
+     *
+     * @return 1 (row inserted or updated)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "MERGE INTO event_context t USING (VALUES (CAST(:key AS VARCHAR(200)))) s(canonical_key) " +
+            "ON t.canonical_key = s.canonical_key " +
+            "WHEN MATCHED THEN UPDATE SET paused = TRUE, last_retry_at = :now, " +
+            "first_paused_at = CASE WHEN COALESCE(t.first_paused_at, 0) = 0 THEN :now ELSE t.first_paused_at END " +
+            "WHEN NOT MATCHED THEN INSERT (canonical_key, order_id, event_type, event_timestamp, kafka_payload, " +
+            "paused, resume_ready, retry_count, first_paused_at, last_retry_at, status, created_at) " +
+            "VALUES (:key, :orderId, :eventType, :eventTimestamp, :payload, TRUE, FALSE, :retryCount, " +
+            ":now, :now, :status, :createdAt)",
+            nativeQuery = true)
+    int upsertPaused(@Param("key") String canonicalKey,
+                     @Param("orderId") String orderId,
+                     @Param("eventType") String eventType,
+                     @Param("eventTimestamp") long eventTimestamp,
+                     @Param("payload") String kafkaPayload,
+                     @Param("retryCount") int retryCount,
+                     @Param("status") String status,
+                     @Param("createdAt") long createdAt,
+                     @Param("now") long now);
+}
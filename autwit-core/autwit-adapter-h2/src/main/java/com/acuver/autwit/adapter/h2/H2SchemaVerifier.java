@@ -0,0 +1,132 @@
+package com.acuver.autwit.adapter.h2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * H2SchemaVerifier - Startup check of the managed event_context index set.
+ *
+ * <p>H2 counterpart of PostgresSchemaVerifier: reports the applied
+ * {@code autwit_schema_version}, warns about indexes missing from
+ * {@code INFORMATION_SCHEMA.INDEXES} and logs the {@code EXPLAIN} plan of
+ * each EventContextPort query shape.</p>
+ *
+ * <p>H2 has no partial indexes, so schema-h2.sql covers the paused/resume
+ * predicates with one composite index instead.</p>
+ *
+ * <p>Disable with {@code autwit.schema.verify=false}.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "autwit.database", havingValue = "h2")
+public class H2SchemaVerifier {
+
+    private static final Logger log = LogManager.getLogger(H2SchemaVerifier.class);
+
+    /** Must match schema-h2.sql. */
+    private static final List<String> EXPECTED_INDEXES = List.of(
+            "idx_event_context_order_event_ts",
+            "idx_event_context_paused",
+            "idx_event_context_created_key"
+    );
+
+    /** Native equivalents of the H2EventContextRepository queries. */
+    private static final Map<String, String> PORT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        PORT_QUERIES.put("findLatest",
+                "SELECT * FROM event_context WHERE order_id = 'o' AND event_type = 't' " +
+                "ORDER BY event_timestamp DESC LIMIT 1");
+        PORT_QUERIES.put("findLatestBatch",
+                "SELECT * FROM event_context e WHERE e.order_id IN ('o1','o2') " +
+                "AND e.event_type IN ('t1','t2') AND e.event_timestamp = (" +
+                "SELECT MAX(x.event_timestamp) FROM event_context x " +
+                "WHERE x.order_id = e.order_id AND x.event_type = e.event_type)");
+        PORT_QUERIES.put("findByCanonicalKey",
+                "SELECT * FROM event_context WHERE canonical_key = 'k'");
+        PORT_QUERIES.put("findByOrderId",
+                "SELECT * FROM event_context WHERE order_id = 'o'");
+        PORT_QUERIES.put("findPaused",
+                "SELECT * FROM event_context WHERE paused = true");
+        PORT_QUERIES.put("findResumeReady",
+                "SELECT * FROM event_context WHERE paused = true AND resume_ready = true " +
+                "ORDER BY first_paused_at ASC LIMIT 500");
+        PORT_QUERIES.put("findCreatedAfter",
+                "SELECT * FROM event_context WHERE created_at <= 9000000000000 " +
+                "AND (created_at > 0 OR (created_at = 0 AND canonical_key > 'k')) " +
+                "ORDER BY created_at ASC, canonical_key ASC LIMIT 1000");
+        PORT_QUERIES.put("markResumeReady",
+                "UPDATE event_context SET resume_ready = true " +
+                "WHERE canonical_key = 'k' AND paused = true AND resume_ready = false");
+    }
+
+    private final DataSource dataSource;
+
+    @Value("${autwit.schema.verify:true}")
+    private boolean enabled;
+
+    public H2SchemaVerifier(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        try {
+            Integer version = jdbc.queryForObject(
+                    "SELECT MAX(version) FROM autwit_schema_version", Integer.class);
+            log.info("📐 event_context schema version: {}", version);
+        } catch (Exception e) {
+            log.warn("⚠️ autwit_schema_version not readable - schema-h2.sql not applied? {}",
+                    e.getMessage());
+        }
+
+        try {
+            // H2 stores unquoted identifiers upper-case
+            Set<String> present = new HashSet<>(jdbc.queryForList(
+                    "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'EVENT_CONTEXT'",
+                    String.class));
+            int missing = 0;
+            for (String index : EXPECTED_INDEXES) {
+                if (!present.contains(index.toUpperCase(Locale.ROOT))) {
+                    missing++;
+                    log.warn("⚠️ Missing index on event_context: {}", index);
+                }
+            }
+            if (missing == 0) {
+                log.info("✅ event_context indexes present: {}", EXPECTED_INDEXES.size());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Could not read event_context indexes: {}", e.getMessage());
+        }
+
+        PORT_QUERIES.forEach((name, sql) -> {
+            try {
+                List<String> plan = jdbc.queryForList("EXPLAIN " + sql, String.class);
+                log.info("🔎 EXPLAIN {}:\n  {}", name, String.join("\n  ", plan));
+            } catch (Exception e) {
+                log.warn("⚠️ EXPLAIN {} failed: {}", name, e.getMessage());
+            }
+        });
+    }
+}
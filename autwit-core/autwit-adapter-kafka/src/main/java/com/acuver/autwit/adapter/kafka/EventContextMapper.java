@@ -2,12 +2,17 @@ package com.acuver.autwit.adapter.kafka;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.utils.CanonicalKeyGenerator;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
 /**
  * EventContextMapper - Converts Kafka JSON payload to EventContextEntities domain object.
  *
@@ -47,27 +52,60 @@ public class EventContextMapper {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * Convert Kafka JSON payload to EventContextEntities domain object.
+     * Convert a raw Kafka record value to EventContextEntities.
      *
-     * <p>Extracts required fields from JSON and generates appropriate canonical key.
-     * If scenarioName is present in the payload, V2 key format is used. Otherwise,
-     * falls back to V1 format.</p>
+     * <p>Streams the document and reads only the top-level routing fields
+     * ({@code orderId}, {@code eventType}, {@code eventTimestamp},
+     * {@code scenarioName}), stopping as soon as all four are seen. No tree is
+     * built; the bytes are decoded to the stored {@code kafkaPayload} String
+     * once, and consumers parse it fully only if they need other fields.</p>
      *
-     * @param json Raw JSON string from Kafka
+     * <p>If scenarioName is present in the payload, V2 key format is used.
+     * Otherwise, falls back to V1 format.</p>
+     *
+     * @param json Raw UTF-8 JSON bytes from Kafka
      * @return EventContextEntities domain object
      * @throws RuntimeException if mapping fails
      */
+    public EventContextEntities fromJson(byte[] json) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return map(parser, () -> new String(json, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.error("EventContextMapper: Failed to map Kafka JSON to EventContextEntities: {}",
+                    e.getMessage(), e);
+            throw new RuntimeException("EventContextEntities mapping failed", e);
+        }
+    }
+
+    /**
+     * Convert Kafka JSON payload to EventContextEntities domain object.
+     *
+     * @param json Raw JSON string
+     * @return EventContextEntities domain object
+     * @throws RuntimeException if mapping fails
+     * @see #fromJson(byte[])
+     */
     public EventContextEntities fromJson(String json) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return map(parser, () -> json);
+        } catch (IOException e) {
+            log.error("EventContextMapper: Failed to map Kafka JSON to EventContextEntities: {}",
+                    e.getMessage(), e);
+            throw new RuntimeException("EventContextEntities mapping failed", e);
+        }
+    }
+
+    private EventContextEntities map(JsonParser parser, Supplier<String> payload) {
         try {
-            JsonNode node = objectMapper.readTree(json);
+            RoutingFields fields = readRoutingFields(parser);
 
             // Extract required fields
-            String orderId = readString(node, "orderId");
-            String eventType = readString(node, "eventType");
-            long eventTimestamp = readLong(node, "eventTimestamp", System.currentTimeMillis());
+            String orderId = fields.orderId;
+            String eventType = fields.eventType;
+            long eventTimestamp = fields.eventTimestamp != null ? fields.eventTimestamp : System.currentTimeMillis();
 
             // Extract optional scenario name for V2 key format
-            String scenarioName = readString(node, "scenarioName");
+            String scenarioName = fields.scenarioName;
 
             // Validate required fields
             if (orderId == null || orderId.isBlank()) {
@@ -107,7 +145,7 @@ public class EventContextMapper {
                     .eventType(eventType)
                     .eventTimestamp(eventTimestamp)
                     .canonicalKey(canonicalKey)
-                    .kafkaPayload(json)
+                    .kafkaPayload(payload.get())
 
                     // Resume engine defaults - these are system events, not paused tests
                     .paused(false)
@@ -136,6 +174,42 @@ public class EventContextMapper {
         }
     }
 
+    /**
+     * Read only the top-level {@code orderId} of a Kafka record value.
+     *
+     * <p>Streams the document and stops at the field, so the relevance filter
+     * and the key-ordered dispatcher can route events before full mapping.</p>
+     *
+     * @param json Raw UTF-8 JSON bytes from Kafka
+     * @return orderId, or null if absent or the payload is not a JSON object
+     */
+    public String readOrderId(byte[] json) {
+        if (json == null) {
+            return null;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return readOrderId(parser);
+        } catch (Exception e) {
+            log.trace("EventContextMapper: Could not read orderId: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String readOrderId(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("orderId".equals(field)) {
+                return readText(parser);
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
     /**
      * Convert EventContextEntities to JSON string.
      *
@@ -184,42 +258,59 @@ public class EventContextMapper {
     // =========================================================================
 
     /**
-     * Read string value from JSON node.
+     * Top-level routing fields of an event payload.
      */
-    private String readString(JsonNode node, String field) {
-        if (node.has(field) && !node.get(field).isNull()) {
-            return node.get(field).asText();
-        }
-        return null;
+    private static final class RoutingFields {
+        private String orderId;
+        private String eventType;
+        private Long eventTimestamp;
+        private String scenarioName;
+        private int seen;
     }
 
-    /**
-     * Read long value from JSON node with default.
-     */
-    private long readLong(JsonNode node, String field, long defaultValue) {
-        if (node.has(field) && !node.get(field).isNull()) {
-            return node.get(field).asLong();
-        }
-        return defaultValue;
-    }
+    private static final int ROUTING_FIELD_COUNT = 4;
 
     /**
-     * Read integer value from JSON node with default.
+     * Stream the top-level object, skipping nested values, until all routing
+     * fields are seen or the object ends. A non-object payload yields no fields.
      */
-    private int readInt(JsonNode node, String field, int defaultValue) {
-        if (node.has(field) && !node.get(field).isNull()) {
-            return node.get(field).asInt();
+    private RoutingFields readRoutingFields(JsonParser parser) throws IOException {
+        RoutingFields fields = new RoutingFields();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return fields;
+        }
+        while (fields.seen < ROUTING_FIELD_COUNT && parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "orderId" -> fields.orderId = readText(parser);
+                case "eventType" -> fields.eventType = readText(parser);
+                case "scenarioName" -> fields.scenarioName = readText(parser);
+                case "eventTimestamp" -> fields.eventTimestamp =
+                        value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong(0L);
+                default -> {
+                    parser.skipChildren();
+                    continue;
+                }
+            }
+            fields.seen++;
         }
-        return defaultValue;
+        return fields;
     }
 
     /**
-     * Read boolean value from JSON node with default.
+     * Scalar value as text; null for JSON null, empty for objects and arrays
+     * (same as {@code JsonNode.asText()}).
      */
-    private boolean readBoolean(JsonNode node, String field, boolean defaultValue) {
-        if (node.has(field) && !node.get(field).isNull()) {
-            return node.get(field).asBoolean();
+    private static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return "";
         }
-        return defaultValue;
+        return parser.getValueAsString();
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,23 @@
 package com.acuver.autwit.adapter.kafka;
 
+import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 @Configuration
 @ConditionalOnProperty(name = "autwit.adapter.kafka.enabled", havingValue = "true")
@@ -22,12 +27,13 @@ public class KafkaConfig {
         this.props = props;
     }
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         Map<String, Object> cfg = new HashMap<>();
         cfg.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, props.getBootstrapServers());
         cfg.put(ConsumerConfig.GROUP_ID_CONFIG, props.getGroupId());
         cfg.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        cfg.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // raw bytes: EventContextMapper streams the routing fields, no String/tree per record
+        cfg.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         cfg.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         cfg.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // manual ack
         // Add security properties if provided
@@ -38,8 +44,8 @@ public class KafkaConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory() {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
         factory.setConsumerFactory(consumerFactory());
         // manual ack so we persist before committing offset
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
@@ -47,6 +53,26 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Batch listener mode (autwit.kafka.batch.enabled=true): the listener gets a
+     * whole poll, persists it with one saveAll and acknowledges once, so offsets
+     * are committed once per batch instead of once per record.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaBatchListenerContainerFactory() {
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        // manual ack: one commit after the whole batch is persisted (or a partial one via nack)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                String.valueOf(Math.max(1, props.getBatch().getMaxPollRecords())));
+        factory.getContainerProperties().setKafkaConsumerProperties(overrides);
+        factory.setConcurrency(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        return factory;
+    }
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> cfg = new HashMap<>();
@@ -64,4 +90,45 @@ public class KafkaConfig {
     public KafkaTemplate<String, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * Raw-bytes template used by KafkaFailureRouter to move failed records to
+     * the retry topic and the DLT unchanged. acks=all: the source record is
+     * only acknowledged once its copy is durable.
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> failureKafkaTemplate() {
+        Map<String, Object> cfg = new HashMap<>();
+        cfg.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, props.getBootstrapServers());
+        cfg.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        cfg.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        cfg.put(ProducerConfig.ACKS_CONFIG, "all");
+        if (props.getSecurityProtocol() != null) cfg.put("security.protocol", props.getSecurityProtocol());
+        if (props.getSaslMechanism() != null) cfg.put("sasl.mechanism", props.getSaslMechanism());
+        if (props.getSaslJaasConfig() != null) cfg.put("sasl.jaas.config", props.getSaslJaasConfig());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(cfg));
+    }
+
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        Map<String, Object> cfg = new HashMap<>();
+        cfg.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, props.getBootstrapServers());
+        if (props.getSecurityProtocol() != null) cfg.put("security.protocol", props.getSecurityProtocol());
+        if (props.getSaslMechanism() != null) cfg.put("sasl.mechanism", props.getSaslMechanism());
+        if (props.getSaslJaasConfig() != null) cfg.put("sasl.jaas.config", props.getSaslJaasConfig());
+        return new KafkaAdmin(cfg);
+    }
+
+    /**
+     * Retry topic and DLT used by KafkaFailureRouter (autwit.kafka.retry.enabled=true).
+     * KafkaAdmin creates them at startup when missing, with the broker's default
+     * partition count and replication factor; existing topics are left as they are.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "autwit.kafka.retry.enabled", havingValue = "true")
+    public KafkaAdmin.NewTopics failureTopics(KafkaFailureRouter failureRouter) {
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name(failureRouter.getRetryTopic()).build(),
+                TopicBuilder.name(failureRouter.getDltTopic()).build());
+    }
 }
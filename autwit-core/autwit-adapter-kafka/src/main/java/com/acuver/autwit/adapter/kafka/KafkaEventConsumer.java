@@ -2,24 +2,87 @@ package com.acuver.autwit.adapter.kafka;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventReceiverPort;
+import jakarta.annotation.PreDestroy;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
 @Component
 @ConditionalOnProperty(name = "autwit.adapter.kafka.enabled", havingValue = "true")
-public class KafkaEventConsumer {
+public class KafkaEventConsumer implements ConsumerSeekAware {
     private static final Logger LOG = LogManager.getLogger(KafkaEventConsumer.class);
     private final EventContextMapper mapper;
     private final EventContextPort storage;
+    private final EventReceiverPort eventBus;
+    private final Duration nackSleep;
+    private final KafkaRelevanceFilter relevance;
+    private final KafkaKeyOrderedDispatcher dispatcher;
+    private final KafkaFailureRouter failureRouter;
+
+    /** Main event topic; only its partitions are positioned at the run start. */
+    private final String topicEvents;
+    /** Epoch millis to seek to on first assignment, or -1 to use committed offsets. */
+    private final long runStartMs;
+    private final Set<TopicPartition> seeded = ConcurrentHashMap.newKeySet();
+
+    /** Below this size a batch is mapped on the listener thread. */
+    private static final int PARALLEL_MAP_MIN = 64;
+
+    // ═══════════════════════════════════════════════════════════════
+    // BATCH METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchRecords = new LongAdder();
+    private final LongAdder mapFailures = new LongAdder();
+    private final LongAdder batchFallbacks = new LongAdder();
+    private final LongAdder partialCommits = new LongAdder();
+    private final LongAdder persistNanos = new LongAdder();
 
-    public KafkaEventConsumer(EventContextMapper mapper, EventContextPort storage) {
+    public KafkaEventConsumer(EventContextMapper mapper,
+                              EventContextPort storage,
+                              ObjectProvider<EventReceiverPort> eventBusProvider,
+                              KafkaProperties props,
+                              KafkaRelevanceFilter relevance,
+                              KafkaKeyOrderedDispatcher dispatcher,
+                              KafkaFailureRouter failureRouter,
+                              @Value("${autwit.kafka.topicEvents}") String topicEvents) {
         this.mapper = mapper;
         this.storage = storage;
+        this.nackSleep = Duration.ofMillis(Math.max(0, props.getBatch().getNackSleepMs()));
+        this.relevance = relevance;
+        this.dispatcher = dispatcher;
+        this.failureRouter = failureRouter;
+        this.topicEvents = topicEvents;
+        this.runStartMs = props.getRelevance().isSeekToRunStart()
+                ? ManagementFactory.getRuntimeMXBean().getStartTime() - props.getRelevance().getRunStartLookbackMs()
+                : -1;
+        relevance.setReleaseHandler(this::ingestReleased);
+        this.eventBus = eventBusProvider.getIfAvailable();
+        if (eventBus == null) {
+            LOG.warn("No EventReceiverPort available — Kafka events will only reach ResumeEngine via pollers");
+        }
     }
 
     /**
@@ -29,25 +92,43 @@ public class KafkaEventConsumer {
     /**
      * Listens on configured Kafka topic & persists EventContextEntities.
      * Uses manual ack — only acknowledge after successful storage.
+     *
+     * After the event is durable it is published to the EventReceiverPort
+     * (InMemoryEventBus) so ResumeEngine and step waiters react immediately
+     * instead of waiting for the next poller sweep.
+     *
+     * With autwit.kafka.retry.enabled=true a record that cannot be mapped or
+     * stored is handed to KafkaFailureRouter (retry topic / DLT) and acked, so
+     * it does not block the partition.
      */
     @KafkaListener(
             topics = "${autwit.kafka.topicEvents}",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${autwit.kafka.batch.enabled:false}}"
     )
-    public void handle(ConsumerRecord<String, String> rec, Acknowledgment ack) {
+    public void handle(ConsumerRecord<String, byte[]> rec, Acknowledgment ack) {
 
-        String payload = rec.value();
+        byte[] payload = rec.value();
         String key = rec.key();
 
         LOG.debug("Kafka received key={} partition={} offset={}", key, rec.partition(), rec.offset());
 
+        if (!relevance.admit(payload)) {
+            // Not an order of this run - nothing to store
+            ack.acknowledge();
+            return;
+        }
+
         EventContextEntities ctx;
         try {
             ctx = mapper.fromJson(payload);
         } catch (Exception e) {
             LOG.error("Failed to map Kafka message → EventContextEntities. key={}  Error={}",
                     key, e.getMessage(), e);
-            // Do NOT ack — either retry or your DLQ policy handles it.
+            // Parked on the DLT → ack; otherwise do NOT ack and let redelivery handle it.
+            if (failureRouter.route(rec, e, false)) {
+                ack.acknowledge();
+            }
             return;
         }
 
@@ -59,9 +140,379 @@ public class KafkaEventConsumer {
                     ctx.getCanonicalKey(), ctx.getOrderId(), ctx.getEventType());
 
         } catch (Exception e) {
+            if (failureRouter.route(rec, e, true)) {
+                // A copy waits on the retry topic - keep the partition moving
+                ack.acknowledge();
+                return;
+            }
             LOG.error("❌ Failed to store EventContextEntities canonicalKey={} — Not ACKing. Error={}",
                     ctx.getCanonicalKey(), e.getMessage(), e);
             // Message will be retried depending on Kafka consumer configuration.
+            return;
+        }
+
+        publish(ctx);
+    }
+
+    /**
+     * Retry topic listener (autwit.kafka.retry.enabled=true).
+     *
+     * A copy is processed once its autwit-due-at header has passed; before
+     * that the record is nacked for the remaining delay, which pauses only
+     * the retry topic. Relevance is not re-checked - the copy was admitted
+     * on the main topic. Failures go back through KafkaFailureRouter, which
+     * dead-letters the record once max-attempts is reached.
+     */
+    @KafkaListener(
+            topics = "#{@kafkaFailureRouter.retryTopic}",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "${autwit.kafka.retry.enabled:false}"
+    )
+    public void handleRetry(ConsumerRecord<String, byte[]> rec, Acknowledgment ack) {
+
+        long wait = KafkaFailureRouter.dueAt(rec) - System.currentTimeMillis();
+        if (wait > 0) {
+            ack.nack(Duration.ofMillis(wait));
+            return;
+        }
+
+        EventContextEntities ctx;
+        try {
+            ctx = mapper.fromJson(rec.value());
+        } catch (Exception e) {
+            if (failureRouter.route(rec, e, false)) {
+                ack.acknowledge();
+            }
+            return;
+        }
+
+        try {
+            storage.save(ctx);
+        } catch (Exception e) {
+            if (failureRouter.route(rec, e, true)) {
+                ack.acknowledge();
+            }
+            return;
+        }
+        ack.acknowledge();
+        failureRouter.recovered();
+
+        LOG.info("✔ Kafka event persisted on retry: canonicalKey={} orderId={} eventType={}",
+                ctx.getCanonicalKey(), ctx.getOrderId(), ctx.getEventType());
+
+        publish(ctx);
+    }
+
+    /**
+     * Batch listener (autwit.kafka.batch.enabled=true).
+     *
+     * <h2>FLOW</h2>
+     * <ol>
+     *   <li>Map every record of the poll (in parallel for large polls, order kept).</li>
+     *   <li>Persist all mapped events with one {@link EventContextPort#saveAll}.</li>
+     *   <li>Acknowledge once - one offset commit for the whole batch.</li>
+     *   <li>Publish the persisted events to the bus.</li>
+     * </ol>
+     *
+     * <h2>PARTIAL FAILURE (AT-LEAST-ONCE)</h2>
+     * <p>If the batched write fails, the batch is retried record by record in
+     * offset order. At the first record that still fails, offsets before it are
+     * committed and it is redelivered with the rest of the batch
+     * ({@link Acknowledgment#nack(int, Duration)}). Nothing is committed ahead
+     * of an event that is not stored; redelivered events are idempotent upserts
+     * on the canonical key.</p>
+     *
+     * <p>Unmappable records, and records dropped by the relevance filter, are
+     * skipped as in record mode (the batch commit moves past them).</p>
+     *
+     * <p>With autwit.kafka.parallel.enabled=true the poll is processed by
+     * {@link #handleBatchKeyOrdered} instead.</p>
+     */
+    @KafkaListener(
+            topics = "${autwit.kafka.topicEvents}",
+            containerFactory = "kafkaBatchListenerContainerFactory",
+            autoStartup = "${autwit.kafka.batch.enabled:false}"
+    )
+    public void handleBatch(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        if (records.isEmpty()) {
+            return;
+        }
+        batches.increment();
+        batchRecords.add(records.size());
+
+        if (dispatcher.isEnabled()) {
+            handleBatchKeyOrdered(records, ack);
+            return;
+        }
+
+        // 1. Map - null marks an unmappable record, positions stay aligned with offsets
+        List<EventContextEntities> mapped =
+                (records.size() >= PARALLEL_MAP_MIN ? records.parallelStream() : records.stream())
+                        .map(this::mapOrNull)
+                        .toList();
+        List<EventContextEntities> events = mapped.stream().filter(Objects::nonNull).toList();
+
+        // 2. Persist
+        long start = System.nanoTime();
+        try {
+            storage.saveAll(events);
+        } catch (Exception e) {
+            batchFallbacks.increment();
+            LOG.warn("Batch save of {} events failed, retrying record by record. Error={}",
+                    events.size(), e.getMessage());
+
+            List<EventContextEntities> stored = new ArrayList<>(events.size());
+            int failedAt = saveEach(records, mapped, stored);
+            if (failedAt >= 0) {
+                // 3a. Commit what is stored, redeliver from the failed record on
+                partialCommits.increment();
+                ack.nack(failedAt, nackSleep);
+                persistNanos.add(System.nanoTime() - start);
+                publishAll(stored);
+                return;
+            }
+            // Records routed to the retry topic are not on the bus yet
+            events = stored;
+        }
+        persistNanos.add(System.nanoTime() - start);
+
+        // 3. One offset commit for the whole batch
+        ack.acknowledge();
+        LOG.debug("✔ Kafka batch persisted: {} records, {} events", records.size(), events.size());
+
+        // 4. Bus
+        publishAll(events);
+    }
+
+    /**
+     * Key-ordered parallel variant of the batch listener.
+     *
+     * <p>Records are split into lanes by orderId ({@link KafkaKeyOrderedDispatcher});
+     * each lane maps, saves (one saveAll per lane) and publishes its records in
+     * offset order. Once every lane is done the batch is acknowledged, or - if a
+     * lane stopped at a record it could not store - offsets are committed up to
+     * the lowest such record and the rest is redelivered.</p>
+     *
+     * <p>Unlike the serial batch path, events are published to the bus by their
+     * lane before the commit; a redelivered event is published again, which the
+     * bus subscribers tolerate (conditional resume, idempotent upsert).</p>
+     */
+    private void handleBatchKeyOrdered(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        // orderId read once: lane key (record key when absent) and relevance check
+        List<String> orderIds = new ArrayList<>(records.size());
+        List<String> laneKeys = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> rec : records) {
+            String orderId = mapper.readOrderId(rec.value());
+            orderIds.add(orderId);
+            laneKeys.add(orderId != null ? orderId : rec.key());
+        }
+
+        long start = System.nanoTime();
+        int failedAt = dispatcher.dispatch(laneKeys, Function.identity(),
+                lane -> processLane(records, orderIds, lane));
+        persistNanos.add(System.nanoTime() - start);
+
+        if (failedAt >= 0) {
+            partialCommits.increment();
+            ack.nack(failedAt, nackSleep);
+            return;
+        }
+        ack.acknowledge();
+        LOG.debug("✔ Kafka batch persisted by key-ordered lanes: {} records", records.size());
+    }
+
+    /**
+     * One lane: ascending record indices. Runs on a lane thread.
+     *
+     * @return first index that could not be stored, or -1
+     */
+    private int processLane(List<ConsumerRecord<String, byte[]>> records, List<String> orderIds, List<Integer> lane) {
+        List<Integer> positions = new ArrayList<>(lane.size());
+        List<EventContextEntities> events = new ArrayList<>(lane.size());
+        for (int i : lane) {
+            EventContextEntities ctx = mapOrNull(records.get(i), orderIds.get(i));
+            if (ctx != null) {
+                positions.add(i);
+                events.add(ctx);
+            }
+        }
+
+        int failedAt = -1;
+        List<EventContextEntities> stored = events;
+        try {
+            storage.saveAll(events);
+        } catch (Exception e) {
+            batchFallbacks.increment();
+            LOG.warn("Lane save of {} events failed, retrying record by record. Error={}",
+                    events.size(), e.getMessage());
+            stored = new ArrayList<>(events.size());
+            for (int k = 0; k < events.size(); k++) {
+                try {
+                    storage.save(events.get(k));
+                    stored.add(events.get(k));
+                } catch (Exception rowError) {
+                    ConsumerRecord<String, byte[]> rec = records.get(positions.get(k));
+                    if (failureRouter.route(rec, rowError, true)) {
+                        continue;
+                    }
+                    LOG.error("❌ Failed to store EventContextEntities canonicalKey={} partition={} offset={} " +
+                                    "— committing up to it and redelivering. Error={}",
+                            events.get(k).getCanonicalKey(), rec.partition(), rec.offset(),
+                            rowError.getMessage(), rowError);
+                    failedAt = positions.get(k);
+                    break;
+                }
+            }
+        }
+        publishAll(stored);
+        return failedAt;
+    }
+
+    private EventContextEntities mapOrNull(ConsumerRecord<String, byte[]> rec) {
+        return relevance.admit(rec.value()) ? mapAdmitted(rec) : null;
+    }
+
+    private EventContextEntities mapOrNull(ConsumerRecord<String, byte[]> rec, String orderId) {
+        return relevance.admit(orderId, rec.value()) ? mapAdmitted(rec) : null;
+    }
+
+    private EventContextEntities mapAdmitted(ConsumerRecord<String, byte[]> rec) {
+        try {
+            return mapper.fromJson(rec.value());
+        } catch (Exception e) {
+            mapFailures.increment();
+            LOG.error("Failed to map Kafka message → EventContextEntities. key={} partition={} offset={} Error={}",
+                    rec.key(), rec.partition(), rec.offset(), e.getMessage());
+            // Skipped either way; with retry routing on, a copy is kept on the DLT
+            failureRouter.route(rec, e, false);
+            return null;
+        }
+    }
+
+    /**
+     * Record-by-record fallback. A record that fails is routed to the retry
+     * topic when routing is enabled, and processing continues past it.
+     *
+     * @param stored receives the events that were stored, in order
+     * @return index of the first record that could not be stored or routed, -1 if none
+     */
+    private int saveEach(List<ConsumerRecord<String, byte[]>> records, List<EventContextEntities> mapped,
+                         List<EventContextEntities> stored) {
+        for (int i = 0; i < mapped.size(); i++) {
+            EventContextEntities ctx = mapped.get(i);
+            if (ctx == null) {
+                continue;
+            }
+            try {
+                storage.save(ctx);
+                stored.add(ctx);
+            } catch (Exception e) {
+                ConsumerRecord<String, byte[]> rec = records.get(i);
+                if (failureRouter.route(rec, e, true)) {
+                    continue;
+                }
+                LOG.error("❌ Failed to store EventContextEntities canonicalKey={} partition={} offset={} " +
+                                "— committing up to it and redelivering. Error={}",
+                        ctx.getCanonicalKey(), rec.partition(), rec.offset(), e.getMessage(), e);
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Events parked by the relevance filter whose order was registered later.
+     * Runs on the registering thread; their offsets are already committed, so
+     * a failure here is logged only.
+     */
+    private void ingestReleased(List<byte[]> payloads) {
+        List<EventContextEntities> events = payloads.stream()
+                .map(payload -> {
+                    try {
+                        return mapper.fromJson(payload);
+                    } catch (Exception e) {
+                        mapFailures.increment();
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+        try {
+            storage.saveAll(events);
+        } catch (Exception e) {
+            LOG.error("❌ Failed to store {} late-registered events. Error={}", events.size(), e.getMessage(), e);
+            return;
+        }
+        publishAll(events);
+    }
+
+    // ==========================================================================
+    // SEEK TO RUN START
+    // ==========================================================================
+
+    /**
+     * With autwit.kafka.relevance.seek-to-run-start=true, each partition is
+     * positioned at the run start (JVM start minus run-start-lookback-ms) the
+     * first time it is assigned, instead of replaying the topic from the
+     * beginning (auto.offset.reset=earliest). Later rebalances keep the
+     * committed offsets. Retry-topic partitions are never moved: their copies
+     * were written after the failure and must all be reprocessed.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (runStartMs < 0) {
+            return;
+        }
+        List<TopicPartition> fresh = assignments.keySet().stream()
+                .filter(tp -> topicEvents.equals(tp.topic()))
+                .filter(seeded::add)
+                .toList();
+        if (!fresh.isEmpty()) {
+            callback.seekToTimestamp(fresh, runStartMs);
+            LOG.info("Kafka: {} partition(s) positioned at run start {}", fresh.size(), Instant.ofEpochMilli(runStartMs));
+        }
+    }
+
+    private void publishAll(List<EventContextEntities> events) {
+        for (EventContextEntities ctx : events) {
+            if (ctx != null) {
+                publish(ctx);
+            }
+        }
+    }
+
+    /**
+     * Push the persisted event onto the engine bus.
+     * Failures here are non-fatal: the event is already stored and acked,
+     * so the poller reconciliation sweep will still pick it up.
+     */
+    private void publish(EventContextEntities ctx) {
+        if (eventBus == null) {
+            return;
+        }
+        try {
+            eventBus.receive(ctx);
+        } catch (Exception e) {
+            LOG.warn("Failed to publish event to bus canonicalKey={} — poller sweep will reconcile. Error={}",
+                    ctx.getCanonicalKey(), e.getMessage());
+        }
+    }
+
+    // ==========================================================================
+    // LIFECYCLE
+    // ==========================================================================
+
+    @PreDestroy
+    public void logBatchMetrics() {
+        long n = batches.sum();
+        if (n == 0) {
+            return;
         }
+        long records = batchRecords.sum();
+        LOG.info("📊 Kafka batch ingestion: {} records in {} batches (avg {}), persist avg {} ms/batch, " +
+                        "{} unmappable, {} batch fallbacks, {} partial commits",
+                records, n, String.format("%.1f", (double) records / n),
+                String.format("%.2f", TimeUnit.NANOSECONDS.toMicros(persistNanos.sum()) / 1000.0 / n),
+                mapFailures.sum(), batchFallbacks.sum(), partialCommits.sum());
     }
 }
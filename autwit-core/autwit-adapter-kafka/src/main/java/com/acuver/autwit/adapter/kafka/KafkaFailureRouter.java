@@ -0,0 +1,250 @@
+package com.acuver.autwit.adapter.kafka;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * KafkaFailureRouter - Moves failed event records to a retry topic or the DLT.
+ *
+ * <h2>WHY</h2>
+ * <p>A record that cannot be mapped or stored must not hold back the events
+ * behind it in its partition. With {@code autwit.kafka.retry.enabled=true} the
+ * listener copies such a record - unchanged bytes, same key - to the retry
+ * topic or the dead-letter topic and acknowledges it, so the main partition
+ * keeps flowing at full rate.</p>
+ *
+ * <h2>ROUTING</h2>
+ * <pre>
+ * unmappable (bad JSON, missing orderId/eventType)   → DLT
+ * storage failure, fewer than max-attempts retries  → retry topic, due after backoff
+ * storage failure, retries exhausted                → DLT
+ * </pre>
+ * <p>Backoff is exponential: {@code initial-backoff-ms * multiplier^(attempt-1)},
+ * capped at {@code max-backoff-ms}. The retry listener waits for the due time
+ * by pausing only the retry topic.</p>
+ *
+ * <h2>HEADERS</h2>
+ * <pre>
+ * autwit-attempt          retry attempt the copy is for (1-based)
+ * autwit-due-at           epoch millis before which the copy is not processed
+ * autwit-original-*       topic / partition / offset of the first failure
+ * autwit-exception        exception class and message of the last failure
+ * </pre>
+ *
+ * <h2>DELIVERY</h2>
+ * <p>The copy is sent synchronously (acks=all) before the source record is
+ * acknowledged. If the send fails, {@link #route} returns false and the
+ * listener falls back to leaving the record unacknowledged.</p>
+ *
+ * <h2>ORDERING</h2>
+ * <p>A retried event is stored after later events of the same order that
+ * succeeded first. Rows are keyed by scenario/order/eventType, so this only
+ * matters for a repeated eventType of one order.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "autwit.adapter.kafka.enabled", havingValue = "true")
+public class KafkaFailureRouter {
+
+    private static final Logger LOG = LogManager.getLogger(KafkaFailureRouter.class);
+
+    static final String ATTEMPT = "autwit-attempt";
+    static final String DUE_AT = "autwit-due-at";
+    static final String ORIGINAL_TOPIC = "autwit-original-topic";
+    static final String ORIGINAL_PARTITION = "autwit-original-partition";
+    static final String ORIGINAL_OFFSET = "autwit-original-offset";
+    static final String EXCEPTION = "autwit-exception";
+
+    private static final long SEND_TIMEOUT_MS = 10_000;
+
+    private final KafkaTemplate<String, byte[]> template;
+    private final boolean enabled;
+    private final String retryTopic;
+    private final String dltTopic;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final double multiplier;
+    private final long maxBackoffMs;
+
+    // ═══════════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder routeFailures = new LongAdder();
+
+    public KafkaFailureRouter(@Qualifier("failureKafkaTemplate") KafkaTemplate<String, byte[]> template,
+                              KafkaProperties props,
+                              @Value("${autwit.kafka.topicEvents}") String topicEvents) {
+        KafkaProperties.Retry cfg = props.getRetry();
+        this.template = template;
+        this.enabled = cfg.isEnabled();
+        this.retryTopic = isBlank(cfg.getTopic()) ? topicEvents + "-retry" : cfg.getTopic();
+        this.dltTopic = isBlank(cfg.getDltTopic()) ? topicEvents + "-dlt" : cfg.getDltTopic();
+        this.maxAttempts = Math.max(0, cfg.getMaxAttempts());
+        this.initialBackoffMs = Math.max(0, cfg.getInitialBackoffMs());
+        this.multiplier = Math.max(1.0, cfg.getMultiplier());
+        this.maxBackoffMs = Math.max(this.initialBackoffMs, cfg.getMaxBackoffMs());
+        if (enabled) {
+            LOG.info("Kafka failure routing enabled: retry={} (max {} attempts, backoff {} ms x{} ≤ {} ms), dlt={}",
+                    retryTopic, maxAttempts, initialBackoffMs, multiplier, maxBackoffMs, dltTopic);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getRetryTopic() {
+        return retryTopic;
+    }
+
+    public String getDltTopic() {
+        return dltTopic;
+    }
+
+    // ==========================================================================
+    // ROUTING
+    // ==========================================================================
+
+    /**
+     * Park a failed record on the retry topic (storage failures with attempts
+     * left) or the DLT (everything else).
+     *
+     * @param rec       the record that failed
+     * @param cause     why it failed
+     * @param retryable true for storage failures, false for mapping failures
+     * @return true if a copy is durably parked and the record may be acknowledged
+     */
+    public boolean route(ConsumerRecord<String, byte[]> rec, Exception cause, boolean retryable) {
+        if (!enabled) {
+            return false;
+        }
+        int attempt = attemptOf(rec) + 1;
+        boolean retry = retryable && attempt <= maxAttempts;
+        String target = retry ? retryTopic : dltTopic;
+
+        ProducerRecord<String, byte[]> copy = new ProducerRecord<>(target, rec.key(), rec.value());
+        Headers headers = copy.headers();
+        headers.add(ORIGINAL_TOPIC, bytes(header(rec, ORIGINAL_TOPIC, rec.topic())));
+        headers.add(ORIGINAL_PARTITION, bytes(header(rec, ORIGINAL_PARTITION, String.valueOf(rec.partition()))));
+        headers.add(ORIGINAL_OFFSET, bytes(header(rec, ORIGINAL_OFFSET, String.valueOf(rec.offset()))));
+        headers.add(EXCEPTION, bytes(cause.getClass().getName() + ": " + cause.getMessage()));
+        if (retry) {
+            headers.add(ATTEMPT, bytes(String.valueOf(attempt)));
+            headers.add(DUE_AT, bytes(String.valueOf(System.currentTimeMillis() + backoffMs(attempt))));
+        }
+
+        try {
+            template.send(copy).get(SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            routeFailures.increment();
+            LOG.error("❌ Could not park failed record partition={} offset={} on {}: {}",
+                    rec.partition(), rec.offset(), target, e.getMessage());
+            return false;
+        }
+
+        if (retry) {
+            retried.increment();
+            LOG.warn("↪ Event record partition={} offset={} sent to {} (attempt {}/{}): {}",
+                    rec.partition(), rec.offset(), target, attempt, maxAttempts, cause.getMessage());
+        } else {
+            deadLettered.increment();
+            LOG.error("☠ Event record partition={} offset={} dead-lettered to {}: {}",
+                    rec.partition(), rec.offset(), target, cause.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * A retried record was stored.
+     */
+    void recovered() {
+        recovered.increment();
+    }
+
+    /**
+     * @return epoch millis before which a retry copy must not be processed (0 for main-topic records)
+     */
+    static long dueAt(ConsumerRecord<String, byte[]> rec) {
+        String due = lastHeader(rec, DUE_AT);
+        return due == null ? 0L : Long.parseLong(due);
+    }
+
+    long backoffMs(int attempt) {
+        double delay = initialBackoffMs * Math.pow(multiplier, Math.max(0, attempt - 1));
+        return (long) Math.min(delay, maxBackoffMs);
+    }
+
+    // ==========================================================================
+    // HEADERS
+    // ==========================================================================
+
+    private static int attemptOf(ConsumerRecord<String, byte[]> rec) {
+        String attempt = lastHeader(rec, ATTEMPT);
+        return attempt == null ? 0 : Integer.parseInt(attempt);
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> rec, String name, String fallback) {
+        String value = lastHeader(rec, name);
+        return value != null ? value : fallback;
+    }
+
+    private static String lastHeader(ConsumerRecord<String, byte[]> rec, String name) {
+        Header header = rec.headers().lastHeader(name);
+        return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public long getRetried() {
+        return retried.sum();
+    }
+
+    public long getDeadLettered() {
+        return deadLettered.sum();
+    }
+
+    public long getRecovered() {
+        return recovered.sum();
+    }
+
+    @PreDestroy
+    public void logMetrics() {
+        if (!enabled) {
+            return;
+        }
+        LOG.info("📊 Kafka failure routing: {} retried, {} recovered, {} dead-lettered, {} routing failures",
+                retried.sum(), recovered.sum(), deadLettered.sum(), routeFailures.sum());
+    }
+}
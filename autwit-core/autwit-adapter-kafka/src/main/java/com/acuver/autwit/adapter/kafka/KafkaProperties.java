@@ -13,6 +13,10 @@ public class KafkaProperties {
     private String securityProtocol;
     private String saslMechanism;
     private String saslJaasConfig;
+    private Batch batch = new Batch();
+    private Relevance relevance = new Relevance();
+    private Parallel parallel = new Parallel();
+    private Retry retry = new Retry();
 
     public String getBootstrapServers() { return bootstrapServers; }
     public void setBootstrapServers(String bootstrapServers) { this.bootstrapServers = bootstrapServers; }
@@ -31,4 +35,117 @@ public class KafkaProperties {
 
     public String getSaslJaasConfig() { return saslJaasConfig; }
     public void setSaslJaasConfig(String saslJaasConfig) { this.saslJaasConfig = saslJaasConfig; }
+
+    public Batch getBatch() { return batch; }
+    public void setBatch(Batch batch) { this.batch = batch; }
+
+    public Relevance getRelevance() { return relevance; }
+    public void setRelevance(Relevance relevance) { this.relevance = relevance; }
+
+    public Parallel getParallel() { return parallel; }
+    public void setParallel(Parallel parallel) { this.parallel = parallel; }
+
+    public Retry getRetry() { return retry; }
+    public void setRetry(Retry retry) { this.retry = retry; }
+
+    /**
+     * Batch listener mode (autwit.kafka.batch.*): one poll is mapped, persisted
+     * with a single saveAll and committed with a single offset commit.
+     */
+    public static class Batch {
+
+        private boolean enabled;
+        private int maxPollRecords = 500;
+        private long nackSleepMs = 1000;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public int getMaxPollRecords() { return maxPollRecords; }
+        public void setMaxPollRecords(int maxPollRecords) { this.maxPollRecords = maxPollRecords; }
+
+        public long getNackSleepMs() { return nackSleepMs; }
+        public void setNackSleepMs(long nackSleepMs) { this.nackSleepMs = nackSleepMs; }
+    }
+
+    /**
+     * Ingestion relevance (autwit.kafka.relevance.*): store only events for
+     * orders owned by the run, and start consuming at run start.
+     */
+    public static class Relevance {
+
+        private boolean enabled;
+        private long graceMs = 120_000;
+        private int parkedMax = 10_000;
+        private boolean seekToRunStart;
+        private long runStartLookbackMs = 60_000;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public long getGraceMs() { return graceMs; }
+        public void setGraceMs(long graceMs) { this.graceMs = graceMs; }
+
+        public int getParkedMax() { return parkedMax; }
+        public void setParkedMax(int parkedMax) { this.parkedMax = parkedMax; }
+
+        public boolean isSeekToRunStart() { return seekToRunStart; }
+        public void setSeekToRunStart(boolean seekToRunStart) { this.seekToRunStart = seekToRunStart; }
+
+        public long getRunStartLookbackMs() { return runStartLookbackMs; }
+        public void setRunStartLookbackMs(long runStartLookbackMs) { this.runStartLookbackMs = runStartLookbackMs; }
+    }
+
+    /**
+     * Key-ordered parallel processing (autwit.kafka.parallel.*) of batch
+     * listener polls: per-orderId ordering, cross-order parallelism.
+     */
+    public static class Parallel {
+
+        private boolean enabled;
+        private int workers;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public int getWorkers() { return workers; }
+        public void setWorkers(int workers) { this.workers = workers; }
+    }
+
+    /**
+     * Non-blocking retry (autwit.kafka.retry.*): records that cannot be mapped
+     * or stored leave the main partition for a retry topic, then a DLT.
+     * Empty topic names default to {@code <topicEvents>-retry} / {@code -dlt}.
+     */
+    public static class Retry {
+
+        private boolean enabled;
+        private String topic;
+        private String dltTopic;
+        private int maxAttempts = 4;
+        private long initialBackoffMs = 1_000;
+        private double multiplier = 2.0;
+        private long maxBackoffMs = 60_000;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public String getTopic() { return topic; }
+        public void setTopic(String topic) { this.topic = topic; }
+
+        public String getDltTopic() { return dltTopic; }
+        public void setDltTopic(String dltTopic) { this.dltTopic = dltTopic; }
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public long getInitialBackoffMs() { return initialBackoffMs; }
+        public void setInitialBackoffMs(long initialBackoffMs) { this.initialBackoffMs = initialBackoffMs; }
+
+        public double getMultiplier() { return multiplier; }
+        public void setMultiplier(double multiplier) { this.multiplier = multiplier; }
+
+        public long getMaxBackoffMs() { return maxBackoffMs; }
+        public void setMaxBackoffMs(long maxBackoffMs) { this.maxBackoffMs = maxBackoffMs; }
+    }
 }
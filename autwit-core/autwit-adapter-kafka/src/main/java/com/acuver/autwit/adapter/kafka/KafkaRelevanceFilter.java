@@ -0,0 +1,242 @@
+package com.acuver.autwit.adapter.kafka;
+
+import com.acuver.autwit.core.ports.RunOrderRegistryPort;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * KafkaRelevanceFilter - Drops events for orders the current run does not own.
+ *
+ * <h2>WHY</h2>
+ * <p>In shared environments the events topic carries traffic for orders no
+ * scenario will ever wait on. With {@code autwit.kafka.relevance.enabled=true}
+ * only events whose orderId is in the {@link RunOrderRegistryPort} are mapped
+ * and stored; the orderId is read with a streaming parser, before mapping.</p>
+ *
+ * <h2>LATE REGISTRATION</h2>
+ * <p>An event can be consumed before its order is registered (Sterling may
+ * publish before the createOrder response is captured). Dropped payloads are
+ * therefore parked for {@code grace-ms}, bounded by {@code parked-max}; when
+ * their orderId is registered they are handed back to the consumer and stored
+ * as if they had just arrived.</p>
+ * <p>Registration can land between the ownership check and parking, after
+ * the registry's release found nothing parked. Ownership is therefore checked
+ * again while holding the parking lock; an order that turned out to be owned
+ * is admitted at once instead of parked.</p>
+ *
+ * <h2>CONFIGURATION</h2>
+ * <pre>
+ * autwit.kafka.relevance.enabled     (default false)
+ * autwit.kafka.relevance.grace-ms    (default 120000)
+ * autwit.kafka.relevance.parked-max  (default 10000)
+ * </pre>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "autwit.adapter.kafka.enabled", havingValue = "true")
+public class KafkaRelevanceFilter {
+
+    private static final Logger LOG = LogManager.getLogger(KafkaRelevanceFilter.class);
+
+    private final EventContextMapper mapper;
+    private final RunOrderRegistryPort runOrders;
+    private final boolean enabled;
+    private final long graceMs;
+    private final int parkedMax;
+
+    /** Parked payloads by orderId, oldest first. Guarded by itself. */
+    private final LinkedHashMap<String, List<Parked>> parked = new LinkedHashMap<>();
+    private int parkedCount;
+
+    private volatile Consumer<List<byte[]>> releaseHandler = payloads -> { };
+
+    // ═══════════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    public KafkaRelevanceFilter(EventContextMapper mapper,
+                                ObjectProvider<RunOrderRegistryPort> runOrdersProvider,
+                                KafkaProperties props) {
+        this.mapper = mapper;
+        this.runOrders = runOrdersProvider.getIfAvailable();
+        KafkaProperties.Relevance cfg = props.getRelevance();
+        this.enabled = cfg.isEnabled() && runOrders != null;
+        this.graceMs = Math.max(0, cfg.getGraceMs());
+        this.parkedMax = Math.max(0, cfg.getParkedMax());
+
+        if (cfg.isEnabled() && runOrders == null) {
+            LOG.warn("autwit.kafka.relevance.enabled=true but no RunOrderRegistryPort - storing every event");
+        }
+        if (enabled) {
+            runOrders.onRegistered(this::release);
+            LOG.info("Kafka relevance filter enabled (grace {} ms, up to {} parked events)", graceMs, parkedMax);
+        }
+    }
+
+    /**
+     * Where released payloads go (the consumer's ingest path).
+     */
+    void setReleaseHandler(Consumer<List<byte[]>> releaseHandler) {
+        this.releaseHandler = releaseHandler;
+    }
+
+    /**
+     * @return true if the payload should be mapped and stored now; false if it
+     *         was dropped (and parked in case its order is registered later)
+     */
+    public boolean admit(byte[] payload) {
+        if (!enabled) {
+            return true;
+        }
+        return admit(mapper.readOrderId(payload), payload);
+    }
+
+    /**
+     * {@link #admit(byte[])} for callers that already read the orderId.
+     */
+    public boolean admit(String orderId, byte[] payload) {
+        if (!enabled) {
+            return true;
+        }
+        if (orderId == null || runOrders.isOwned(orderId) || !park(orderId, payload)) {
+            // Without an orderId the mapper decides (it rejects the payload)
+            accepted.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    // ==========================================================================
+    // PARKING
+    // ==========================================================================
+
+    /**
+     * Park a payload whose order is not owned yet.
+     *
+     * <p>Ownership is re-checked under the lock that {@link #release} takes:
+     * either the registration is seen here, or its release runs after this
+     * entry is parked and hands it back.</p>
+     *
+     * @return false if the order was registered meanwhile (admit the payload now)
+     */
+    private boolean park(String orderId, byte[] payload) {
+        if (parkedMax == 0 || graceMs == 0) {
+            return !runOrders.isOwned(orderId);
+        }
+        long now = System.currentTimeMillis();
+        synchronized (parked) {
+            if (runOrders.isOwned(orderId)) {
+                return false;
+            }
+            expire(now);
+            while (parkedCount >= parkedMax && evictOldest()) {
+                expired.increment();
+            }
+            parked.computeIfAbsent(orderId, k -> new ArrayList<>(1)).add(new Parked(payload, now + graceMs));
+            parkedCount++;
+        }
+        return true;
+    }
+
+    private void release(String orderId) {
+        List<Parked> entries;
+        synchronized (parked) {
+            entries = parked.remove(orderId);
+            if (entries == null) {
+                return;
+            }
+            parkedCount -= entries.size();
+        }
+        long now = System.currentTimeMillis();
+        List<byte[]> payloads = entries.stream()
+                .filter(p -> p.expiresAt >= now)
+                .map(Parked::payload)
+                .toList();
+        if (payloads.isEmpty()) {
+            return;
+        }
+        released.add(payloads.size());
+        LOG.debug("Releasing {} parked event(s) for newly registered orderId={}", payloads.size(), orderId);
+        releaseHandler.accept(payloads);
+    }
+
+    /**
+     * Drop expired orderId entries from the oldest end, stopping at the first
+     * one still fresh. Stale payloads left behind it are bounded by parked-max
+     * and skipped on release. Caller holds the lock.
+     */
+    private void expire(long now) {
+        Iterator<Map.Entry<String, List<Parked>>> it = parked.entrySet().iterator();
+        while (it.hasNext()) {
+            List<Parked> entries = it.next().getValue();
+            if (entries.get(entries.size() - 1).expiresAt >= now) {
+                break;
+            }
+            it.remove();
+            parkedCount -= entries.size();
+            expired.add(entries.size());
+        }
+    }
+
+    /** Caller holds the lock. */
+    private boolean evictOldest() {
+        Iterator<Map.Entry<String, List<Parked>>> it = parked.entrySet().iterator();
+        if (!it.hasNext()) {
+            return false;
+        }
+        List<Parked> entries = it.next().getValue();
+        entries.remove(0);
+        parkedCount--;
+        if (entries.isEmpty()) {
+            it.remove();
+        }
+        return true;
+    }
+
+    private record Parked(byte[] payload, long expiresAt) {
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getReleased() {
+        return released.sum();
+    }
+
+    @PreDestroy
+    public void logMetrics() {
+        if (!enabled) {
+            return;
+        }
+        LOG.info("📊 Kafka relevance filter: {} accepted, {} dropped ({} released late, {} expired), {} orders owned",
+                accepted.sum(), dropped.sum(), released.sum(), expired.sum(), runOrders.size());
+    }
+}
@@ -0,0 +1,159 @@
+package com.acuver.autwit.adapter.kafka;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.utils.CanonicalKeyGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventContextMapper: raw-bytes streaming vs the previous String + JsonNode path.
+ *
+ * <p>{@code stringTree} is what the consumer did before records were read as
+ * byte[]: StringDeserializer decodes the value, {@code readTree} builds the
+ * whole tree, the routing fields are read from it. {@code byteStream} is the
+ * current {@link EventContextMapper#fromJson(byte[])}. Both return the same
+ * entity; the payload shapes are:</p>
+ * <ul>
+ *   <li>{@code small}: routing fields only</li>
+ *   <li>{@code large}: routing fields first, then a nested order of {@code lines} lines</li>
+ *   <li>{@code routingLast}: the nested order first, so streaming has to skip it</li>
+ * </ul>
+ *
+ * <p>Not run by surefire (no TestNG methods). Run it from the test classpath (in autwit-core):</p>
+ * <pre>
+ * mvn -pl autwit-adapter-kafka test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.acuver.autwit.adapter.kafka.EventContextMapperBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventContextMapperBenchmark {
+
+    @Param({"small", "large", "routingLast"})
+    public String shape;
+
+    @Param({"200"})
+    public int lines;
+
+    private final EventContextMapper mapper = new EventContextMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        value = payload(shape, lines).getBytes(StandardCharsets.UTF_8);
+
+        // Compare like with like: both paths must map the record identically
+        EventContextEntities streamed = byteStream();
+        EventContextEntities tree = stringTree();
+        if (!streamed.getCanonicalKey().equals(tree.getCanonicalKey())
+                || streamed.getEventTimestamp() != tree.getEventTimestamp()
+                || !streamed.getKafkaPayload().equals(tree.getKafkaPayload())) {
+            throw new IllegalStateException("paths disagree for shape " + shape);
+        }
+    }
+
+    @Benchmark
+    public EventContextEntities byteStream() {
+        return mapper.fromJson(value);
+    }
+
+    @Benchmark
+    public EventContextEntities stringTree() {
+        String json = new String(value, StandardCharsets.UTF_8);
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            String orderId = readString(node, "orderId");
+            String eventType = readString(node, "eventType");
+            long eventTimestamp = readLong(node, "eventTimestamp", System.currentTimeMillis());
+            String scenarioName = readString(node, "scenarioName");
+
+            String canonicalKey = scenarioName != null && !scenarioName.isBlank()
+                    ? CanonicalKeyGenerator.generate(scenarioName, orderId, eventType)
+                    : CanonicalKeyGenerator.forOrder(orderId, eventType);
+
+            return EventContextEntities.builder()
+                    .orderId(orderId)
+                    .eventType(eventType)
+                    .eventTimestamp(eventTimestamp)
+                    .canonicalKey(canonicalKey)
+                    .kafkaPayload(json)
+                    .status("RECEIVED")
+                    .createdAt(System.currentTimeMillis())
+                    .build();
+        } catch (Exception e) {
+            throw new RuntimeException("EventContextEntities mapping failed", e);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EventContextMapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    // ==========================================================================
+    // HELPERS
+    // ==========================================================================
+
+    private static String readString(JsonNode node, String field) {
+        if (node.has(field) && !node.get(field).isNull()) {
+            return node.get(field).asText();
+        }
+        return null;
+    }
+
+    private static long readLong(JsonNode node, String field, long defaultValue) {
+        if (node.has(field) && !node.get(field).isNull()) {
+            return node.get(field).asLong();
+        }
+        return defaultValue;
+    }
+
+    private static String payload(String shape, int lines) {
+        String routing = "\"orderId\":\"ORD-100042\",\"eventType\":\"ORDER_SHIPPED\","
+                + "\"eventTimestamp\":1705012345678,\"scenarioName\":\"Verify_Order_Ships\"";
+        if ("small".equals(shape)) {
+            return "{" + routing + "}";
+        }
+        StringBuilder order = new StringBuilder("\"order\":{\"shipNode\":\"DC-01\",\"lines\":[");
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) {
+                order.append(',');
+            }
+            order.append("{\"lineNo\":").append(i)
+                    .append(",\"sku\":\"SKU-").append(100_000 + i)
+                    .append("\",\"qty\":").append(1 + i % 5)
+                    .append(",\"price\":").append(9.99 + i)
+                    .append(",\"attributes\":{\"color\":\"blue\",\"size\":\"M\",\"gift\":false}}");
+        }
+        order.append("]}");
+        return "routingLast".equals(shape)
+                ? "{" + order + "," + routing + "}"
+                : "{" + routing + "," + order + "}";
+    }
+}
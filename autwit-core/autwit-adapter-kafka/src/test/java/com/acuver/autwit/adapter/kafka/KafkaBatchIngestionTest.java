@@ -0,0 +1,89 @@
+package com.acuver.autwit.adapter.kafka;
+
+import com.acuver.autwit.core.utils.CanonicalKeyGenerator;
+import org.apache.kafka.clients.producer.Producer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+import static com.acuver.autwit.adapter.kafka.KafkaIngestionHarness.await;
+import static com.acuver.autwit.adapter.kafka.KafkaIngestionHarness.event;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Batch listener mode (autwit.kafka.batch.enabled=true) against an embedded broker.
+ */
+public class KafkaBatchIngestionTest {
+
+    private static final String TOPIC_BULK = "autwit-events-batch";
+    private static final String TOPIC_FAILURE = "autwit-events-batch-failure";
+    private static final String EVENT_TYPE = "ORDER_CREATED";
+
+    private EmbeddedKafkaBroker broker;
+
+    @BeforeClass
+    public void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 4, TOPIC_BULK, TOPIC_FAILURE);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopBroker() {
+        if (broker != null) {
+            broker.destroy();
+        }
+    }
+
+    @Test
+    public void batchModeStoresEveryEventWithOneSaveAllPerPoll() throws Exception {
+        int events = 2000;
+        send(TOPIC_BULK, "ORD-B-", events);
+
+        RecordingEventContextPort storage = new RecordingEventContextPort(0);
+        try (KafkaIngestionHarness harness = new KafkaIngestionHarness(broker.getBrokersAsString(), TOPIC_BULK,
+                storage, Map.of("autwit.kafka.batch.enabled", "true"))) {
+
+            assertTrue(await(() -> harness.published.size() >= events, 60_000),
+                    "published " + harness.published.size() + " of " + events);
+            assertEquals(storage.rows.size(), events);
+            assertEquals(storage.saveCalls.sum(), 0L, "no record-by-record fallback expected");
+            assertTrue(storage.saveAllCalls.sum() * 10 <= events,
+                    "expected batches of 10+ records, got " + storage.saveAllCalls.sum() + " saveAll calls");
+        }
+    }
+
+    @Test
+    public void failedRecordIsRedeliveredAndNoLaterEventIsLost() throws Exception {
+        int events = 1000;
+        String failing = CanonicalKeyGenerator.forOrder("ORD-F-417", EVENT_TYPE);
+
+        RecordingEventContextPort storage = new RecordingEventContextPort(0);
+        // saveAll, then the record-by-record fallback, then the redelivered batch
+        storage.failTimes(failing, 3);
+        send(TOPIC_FAILURE, "ORD-F-", events);
+
+        try (KafkaIngestionHarness harness = new KafkaIngestionHarness(broker.getBrokersAsString(), TOPIC_FAILURE,
+                storage, Map.of("autwit.kafka.batch.enabled", "true", "autwit.kafka.batch.nack-sleep-ms", "100"))) {
+
+            assertTrue(await(() -> storage.rows.size() >= events, 60_000),
+                    "stored " + storage.rows.size() + " of " + events);
+            assertTrue(storage.rows.containsKey(failing));
+            assertEquals(storage.failuresLeft(failing), 0);
+            assertTrue(storage.saveCalls.sum() > 0, "record-by-record fallback expected");
+        }
+    }
+
+    private void send(String topic, String orderPrefix, int events) {
+        try (Producer<String, byte[]> producer = KafkaIngestionHarness.producer(broker.getBrokersAsString())) {
+            for (int i = 0; i < events; i++) {
+                producer.send(event(topic, orderPrefix + i, EVENT_TYPE));
+            }
+            producer.flush();
+        }
+    }
+}
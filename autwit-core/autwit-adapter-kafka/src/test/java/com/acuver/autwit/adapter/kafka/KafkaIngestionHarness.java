@@ -0,0 +1,95 @@
+package com.acuver.autwit.adapter.kafka;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventReceiverPort;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.kafka.annotation.EnableKafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The Kafka adapter wired as in the runner (component scan of the adapter
+ * package, autwit.kafka.* properties) against an embedded broker, with a
+ * {@link RecordingEventContextPort} in place of the database.
+ */
+final class KafkaIngestionHarness implements AutoCloseable {
+
+    final RecordingEventContextPort storage;
+    final List<EventContextEntities> published = new CopyOnWriteArrayList<>();
+
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+
+    KafkaIngestionHarness(String bootstrapServers, String topic, RecordingEventContextPort storage,
+                          Map<String, Object> overrides) {
+        this.storage = storage;
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("autwit.adapter.kafka.enabled", "true");
+        props.put("autwit.kafka.bootstrap-servers", bootstrapServers);
+        props.put("autwit.kafka.group-id", "autwit-test-" + UUID.randomUUID());
+        props.put("autwit.kafka.topicEvents", topic);
+        props.putAll(overrides);
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("kafka-test", props));
+
+        context.registerBean(EventContextPort.class, () -> storage);
+        context.registerBean(EventReceiverPort.class, () -> published::add);
+        context.register(KafkaTestConfig.class);
+        context.scan(KafkaEventConsumer.class.getPackageName());
+        context.refresh();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    @EnableKafka
+    @EnableConfigurationProperties
+    static class KafkaTestConfig {
+    }
+
+    // ==========================================================================
+    // HELPERS
+    // ==========================================================================
+
+    static Producer<String, byte[]> producer(String bootstrapServers) {
+        Map<String, Object> cfg = new HashMap<>();
+        cfg.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        cfg.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        return new org.apache.kafka.clients.producer.KafkaProducer<>(cfg, new StringSerializer(), new ByteArraySerializer());
+    }
+
+    static ProducerRecord<String, byte[]> event(String topic, String orderId, String eventType) {
+        String json = "{\"orderId\":\"" + orderId + "\",\"eventType\":\"" + eventType + "\"," +
+                "\"eventTimestamp\":" + System.currentTimeMillis() + "}";
+        return new ProducerRecord<>(topic, orderId, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return true if the condition held before the timeout
+     */
+    static boolean await(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return condition.getAsBoolean();
+    }
+}
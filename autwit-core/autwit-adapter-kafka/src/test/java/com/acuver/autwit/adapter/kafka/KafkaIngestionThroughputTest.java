@@ -0,0 +1,123 @@
+package com.acuver.autwit.adapter.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.acuver.autwit.adapter.kafka.KafkaIngestionHarness.await;
+import static com.acuver.autwit.adapter.kafka.KafkaIngestionHarness.event;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Record vs batch ingestion at 1k and 10k events/s.
+ *
+ * <p>Events are produced at a fixed rate for {@link #DURATION_MS}; every write
+ * to the in-memory store costs one simulated {@link #DB_ROUND_TRIP_MICROS}
+ * round trip, which is what bounds record mode in production. Reported per
+ * run: sustained ingest rate and how far ingestion lagged behind the producer
+ * when it stopped.</p>
+ *
+ * <p>Timing-sensitive and slow (four embedded-broker runs), so it is in the
+ * {@code perf} group, which the default surefire run excludes; correctness of
+ * both modes is covered by KafkaBatchIngestionTest. Run it with
+ * {@code mvn test -Dperf.excludedGroups= -Dgroups=perf}.</p>
+ */
+@Test(groups = "perf")
+public class KafkaIngestionThroughputTest {
+
+    private static final Logger LOG = LogManager.getLogger(KafkaIngestionThroughputTest.class);
+
+    private static final long DURATION_MS = 3_000;
+    private static final long DB_ROUND_TRIP_MICROS = 1_000;
+    private static final int PARTITIONS = 4;
+
+    private EmbeddedKafkaBroker broker;
+    private final Map<String, Result> results = new LinkedHashMap<>();
+
+    @BeforeClass
+    public void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopBroker() {
+        results.forEach((run, r) -> LOG.info("📊 {}: {} events, {} events/s ingested, lag at producer stop {} ms",
+                run, r.events, String.format("%.0f", r.eventsPerSecond()), r.lagMs));
+        if (broker != null) {
+            broker.destroy();
+        }
+    }
+
+    @Test
+    public void recordVsBatchAt1kEventsPerSecond() throws Exception {
+        Result record = run("record", 1_000);
+        Result batch = run("batch", 1_000);
+        assertTrue(batch.lagMs <= record.lagMs + 1_000,
+                "batch lag " + batch.lagMs + " ms vs record lag " + record.lagMs + " ms");
+    }
+
+    @Test
+    public void recordVsBatchAt10kEventsPerSecond() throws Exception {
+        Result record = run("record", 10_000);
+        Result batch = run("batch", 10_000);
+        assertTrue(batch.eventsPerSecond() > record.eventsPerSecond(),
+                String.format("batch %.0f events/s vs record %.0f events/s",
+                        batch.eventsPerSecond(), record.eventsPerSecond()));
+    }
+
+    private Result run(String mode, int eventsPerSecond) throws Exception {
+        String topic = "autwit-events-" + mode + "-" + eventsPerSecond;
+        broker.addTopics(new NewTopic(topic, PARTITIONS, (short) 1));
+        int total = (int) (eventsPerSecond * DURATION_MS / 1000);
+
+        RecordingEventContextPort storage = new RecordingEventContextPort(DB_ROUND_TRIP_MICROS);
+        try (KafkaIngestionHarness harness = new KafkaIngestionHarness(broker.getBrokersAsString(), topic,
+                storage, Map.of("autwit.kafka.batch.enabled", String.valueOf("batch".equals(mode))));
+             Producer<String, byte[]> producer = KafkaIngestionHarness.producer(broker.getBrokersAsString())) {
+
+            // Fixed rate: one slice every 10 ms
+            int perSlice = Math.max(1, eventsPerSecond / 100);
+            long start = System.nanoTime();
+            for (int sent = 0, slice = 0; sent < total; slice++) {
+                for (int i = 0; i < perSlice && sent < total; i++, sent++) {
+                    producer.send(event(topic, "ORD-" + mode + "-" + eventsPerSecond + "-" + sent, "ORDER_CREATED"));
+                }
+                long sliceEnd = start + TimeUnit.MILLISECONDS.toNanos(10L * (slice + 1));
+                long wait = sliceEnd - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            }
+            producer.flush();
+            long producerStopped = System.nanoTime();
+
+            assertTrue(await(() -> storage.rows.size() >= total, 180_000),
+                    mode + " stored " + storage.rows.size() + " of " + total);
+            long done = System.nanoTime();
+
+            Result result = new Result(total,
+                    TimeUnit.NANOSECONDS.toMillis(done - start),
+                    TimeUnit.NANOSECONDS.toMillis(done - producerStopped));
+            results.put(mode + " @ " + eventsPerSecond + "/s", result);
+            return result;
+        }
+    }
+
+    private record Result(int events, long elapsedMs, long lagMs) {
+
+        double eventsPerSecond() {
+            return elapsedMs == 0 ? events : events * 1000.0 / elapsedMs;
+        }
+    }
+}
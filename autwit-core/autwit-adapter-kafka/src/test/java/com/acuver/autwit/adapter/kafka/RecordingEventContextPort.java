@@ -0,0 +1,126 @@
+package com.acuver.autwit.adapter.kafka;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory EventContextPort for the Kafka adapter tests.
+ *
+ * <p>Each save / saveAll costs one simulated database round trip, so record
+ * and batch ingestion can be compared without a real database. Writes for a
+ * key can be made to fail a number of times to exercise redelivery.</p>
+ */
+class RecordingEventContextPort implements EventContextPort {
+
+    final Map<String, EventContextEntities> rows = new ConcurrentHashMap<>();
+    final LongAdder saveCalls = new LongAdder();
+    final LongAdder saveAllCalls = new LongAdder();
+
+    private final long roundTripNanos;
+    private final Map<String, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+    RecordingEventContextPort(long roundTripMicros) {
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+    }
+
+    /**
+     * Make the next {@code times} writes containing {@code canonicalKey} fail.
+     */
+    void failTimes(String canonicalKey, int times) {
+        failures.put(canonicalKey, new AtomicInteger(times));
+    }
+
+    int failuresLeft(String canonicalKey) {
+        AtomicInteger left = failures.get(canonicalKey);
+        return left == null ? 0 : Math.max(0, left.get());
+    }
+
+    @Override
+    public void save(EventContextEntities ctx) {
+        roundTrip();
+        failIfScheduled(ctx);
+        rows.put(ctx.getCanonicalKey(), ctx);
+        saveCalls.increment();
+    }
+
+    /** All or nothing, like a single transaction. */
+    @Override
+    public void saveAll(List<EventContextEntities> contexts) {
+        roundTrip();
+        contexts.forEach(this::failIfScheduled);
+        contexts.forEach(ctx -> rows.put(ctx.getCanonicalKey(), ctx));
+        saveAllCalls.increment();
+    }
+
+    private void roundTrip() {
+        if (roundTripNanos > 0) {
+            LockSupport.parkNanos(roundTripNanos);
+        }
+    }
+
+    private void failIfScheduled(EventContextEntities ctx) {
+        AtomicInteger left = failures.get(ctx.getCanonicalKey());
+        if (left != null && left.getAndDecrement() > 0) {
+            throw new IllegalStateException("simulated write failure for " + ctx.getCanonicalKey());
+        }
+    }
+
+    // ==========================================================================
+    // Not used by the ingestion path
+    // ==========================================================================
+
+    @Override
+    public Optional<EventContextEntities> findLatest(String orderId, String eventType) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<EventContextEntities> findByCanonicalKey(String key) {
+        return Optional.ofNullable(rows.get(key));
+    }
+
+    @Override
+    public int markPaused(EventContextEntities ctx) {
+        return 0;
+    }
+
+    @Override
+    public int markResumeReady(String canonicalKey) {
+        return 0;
+    }
+
+    @Override
+    public boolean isResumeReady(String canonicalKey) {
+        return false;
+    }
+
+    @Override
+    public List<EventContextEntities> findByOrderId(String orderId) {
+        return List.of();
+    }
+
+    @Override
+    public List<EventContextEntities> findPaused() {
+        return List.of();
+    }
+
+    @Override
+    public List<EventContextEntities> findResumeReady(int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                       int limit) {
+        return List.of();
+    }
+}
@@ -0,0 +1,360 @@
+package com.acuver.autwit.adapter.mongo;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventReceiverPort;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MongoEventChangeStreamFeed - Change-stream push of event_context inserts and updates.
+ *
+ * <h2>WHY</h2>
+ * <p>Without it, documents written by another runner (or any writer that does
+ * not publish to the local InMemoryEventBus) are only found by the
+ * EventPoller scan. The feed watches {@code event_context} and hands every
+ * inserted/updated event document to the EventReceiverPort
+ * (InMemoryEventBus → ResumeEngine / EventStepNotifier) as it is written.</p>
+ *
+ * <h2>RESUME TOKENS</h2>
+ * <p>The last processed resume token is upserted into
+ * {@code autwit_stream_offsets} (at most once per second, and on shutdown).
+ * A restarted runner resumes after it instead of rescanning; if the token has
+ * aged out of the oplog the feed restarts from "now" and the EventPoller's
+ * first full sweep covers the gap.</p>
+ *
+ * <h2>FALLBACK</h2>
+ * <p>Change streams need a replica set or sharded cluster. On a standalone
+ * server the watch fails with code 40573, the feed stops, and the EventPoller
+ * (always scheduled) remains the only detection path.</p>
+ *
+ * <h2>SKIP OWN</h2>
+ * <p>Event writes made by MongoEventContextAdapter carry a
+ * {@code writtenBy = <instanceId>:<seq>} tag. Changes tagged with this
+ * instance's id are skipped by default: in the writing JVM the Kafka
+ * consumer already published the event to the bus.</p>
+ *
+ * <h2>LOOP SAFETY</h2>
+ * <p>A document can change again without a new event (a paused scenario
+ * written over the event row, another instance rewriting the same event).
+ * The feed remembers the last delivered version (createdAt, eventTimestamp)
+ * per canonical key and skips rewrites of an already delivered version.</p>
+ *
+ * <h2>CONFIGURATION</h2>
+ * <pre>
+ * autwit.mongo.change-stream.enabled  (default false)
+ * autwit.mongo.change-stream.name     (default event_context) - offset document id
+ * autwit.mongo.change-stream.skip-own (default true)
+ * </pre>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnExpression("'${autwit.database:}' == 'mongo' and ${autwit.mongo.change-stream.enabled:false}")
+public class MongoEventChangeStreamFeed {
+
+    private static final Logger log = LogManager.getLogger(MongoEventChangeStreamFeed.class);
+
+    private static final String COLLECTION = "event_context";
+    private static final String OFFSETS = "autwit_stream_offsets";
+
+    /** Server error codes: not a replica set / resume token no longer in the oplog. */
+    private static final int NOT_REPLICA_SET = 40573;
+    private static final int HISTORY_LOST = 286;
+
+    private static final long MAX_AWAIT_MS = 500;
+    private static final long TOKEN_SAVE_INTERVAL_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final int DELIVERED_MAX = 10_000;
+
+    private final MongoTemplate mongo;
+    private final ObjectProvider<EventContextPort> storageProvider;
+    private final ObjectProvider<EventReceiverPort> receiverProvider;
+    private final String streamName;
+    private final String ownWriterPrefix;
+    private final boolean skipOwn;
+
+    private volatile boolean running;
+    private Thread feed;
+
+    // Feed thread only
+    private BsonDocument resumeToken;
+    private boolean tokenDirty;
+    private long tokenSavedAt;
+    private final Map<String, String> deliveredVersions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > DELIVERED_MAX;
+        }
+    };
+
+    // ═══════════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder skippedRewrites = new LongAdder();
+    private final LongAdder skippedOwn = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    public MongoEventChangeStreamFeed(MongoTemplate mongo,
+                                      ObjectProvider<EventContextPort> storageProvider,
+                                      ObjectProvider<EventReceiverPort> receiverProvider,
+                                      MongoEventContextAdapter adapter,
+                                      @Value("${autwit.mongo.change-stream.name:event_context}") String streamName,
+                                      @Value("${autwit.mongo.change-stream.skip-own:true}") boolean skipOwn) {
+        this.mongo = mongo;
+        this.storageProvider = storageProvider;
+        this.receiverProvider = receiverProvider;
+        this.streamName = streamName;
+        this.ownWriterPrefix = adapter.getInstanceId() + MongoEventContextAdapter.WRITER_SEPARATOR;
+        this.skipOwn = skipOwn;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        resumeToken = loadToken();
+        feed = new Thread(this::watchLoop, "MongoEventChangeStreamFeed");
+        feed.setDaemon(true);
+        feed.start();
+        log.info("🌊 Change stream on {} started ({}, skip-own={})", COLLECTION,
+                resumeToken != null ? "resuming from stored token" : "from now", skipOwn);
+    }
+
+    // ==========================================================================
+    // WATCH LOOP
+    // ==========================================================================
+
+    private void watchLoop() {
+        long backoffMs = 1_000;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openCursor()) {
+                backoffMs = 1_000;
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        handle(change);
+                    }
+                    // Post-batch token keeps advancing even when nothing matches
+                    BsonDocument token = cursor.getResumeToken();
+                    if (token != null && !token.equals(resumeToken)) {
+                        resumeToken = token;
+                        tokenDirty = true;
+                    }
+                    saveTokenIfDue(false);
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == NOT_REPLICA_SET) {
+                    log.info("🌊 Change streams unavailable (standalone server) - EventPoller remains the event feed");
+                    running = false;
+                    return;
+                }
+                if (e.getErrorCode() == HISTORY_LOST) {
+                    log.warn("⚠️ Stored resume token is no longer in the oplog - restarting change stream from now; " +
+                            "the EventPoller full sweep covers the gap");
+                    resumeToken = null;
+                    tokenDirty = true;
+                    continue;
+                }
+                backoffMs = backoff(e, backoffMs);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                backoffMs = backoff(e, backoffMs);
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor() {
+        ChangeStreamIterable<Document> stream = mongo.getCollection(COLLECTION)
+                .watch(List.of(Aggregates.match(
+                        Filters.in("operationType", List.of("insert", "update", "replace")))))
+                .maxAwaitTime(MAX_AWAIT_MS, TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    private long backoff(Exception e, long backoffMs) {
+        reconnects.increment();
+        log.warn("⚠️ Change stream on {} failed, reopening in {} ms: {}", COLLECTION, backoffMs, e.getMessage());
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+    }
+
+    // ==========================================================================
+    // DELIVERY
+    // ==========================================================================
+
+    private void handle(ChangeStreamDocument<Document> change) {
+        changes.increment();
+        BsonDocument documentKey = change.getDocumentKey();
+        BsonValue id = documentKey != null ? documentKey.get("_id") : null;
+        if (id == null || !id.isString()) {
+            return;
+        }
+        String canonicalKey = id.asString().getValue();
+
+        if (skipOwn && isOwnWrite(change)) {
+            skippedOwn.increment();
+            return;
+        }
+
+        EventContextPort storage = storageProvider.getIfAvailable();
+        EventReceiverPort receiver = receiverProvider.getIfAvailable();
+        if (storage == null || receiver == null) {
+            return;
+        }
+        try {
+            Optional<EventContextEntities> found = storage.findByCanonicalKey(canonicalKey);
+            if (found.isEmpty() || found.get().isPaused()) {
+                return; // paused contexts are resolved by the poller / matcher
+            }
+            EventContextEntities event = found.get();
+            String version = event.getCreatedAt() + ":" + event.getEventTimestamp();
+            if (version.equals(deliveredVersions.put(canonicalKey, version))) {
+                skippedRewrites.increment();
+                return;
+            }
+            receiver.receive(event);
+            delivered.increment();
+            log.debug("🌊 Change-stream event delivered to bus: {}", canonicalKey);
+        } catch (Exception e) {
+            log.error("Failed to deliver change-stream event {}: {}", canonicalKey, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Whether this change is an event write made by this instance: the
+     * {@code writtenBy} tag of the inserted/replaced document, or of the
+     * update's changed fields.
+     */
+    private boolean isOwnWrite(ChangeStreamDocument<Document> change) {
+        String tag = null;
+        UpdateDescription update = change.getUpdateDescription();
+        if (update != null && update.getUpdatedFields() != null) {
+            BsonValue value = update.getUpdatedFields().get(MongoEventContextAdapter.WRITTEN_BY);
+            tag = value != null && value.isString() ? value.asString().getValue() : null;
+        } else if (change.getFullDocument() != null) {
+            tag = change.getFullDocument().getString(MongoEventContextAdapter.WRITTEN_BY);
+        }
+        return tag != null && tag.startsWith(ownWriterPrefix);
+    }
+
+    // ==========================================================================
+    // RESUME TOKEN PERSISTENCE
+    // ==========================================================================
+
+    private BsonDocument loadToken() {
+        try {
+            Document stored = mongo.getCollection(OFFSETS).find(Filters.eq("_id", streamName)).first();
+            if (stored == null || stored.get("token") == null) {
+                return null;
+            }
+            return stored.get("token", Document.class).toBsonDocument();
+        } catch (Exception e) {
+            log.warn("⚠️ Could not read stored resume token for {}: {}", streamName, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveTokenIfDue(boolean force) {
+        long now = System.currentTimeMillis();
+        if (!tokenDirty || (!force && now - tokenSavedAt < TOKEN_SAVE_INTERVAL_MS)) {
+            return;
+        }
+        try {
+            MongoCollection<Document> offsets = mongo.getCollection(OFFSETS);
+            if (resumeToken == null) {
+                offsets.deleteOne(Filters.eq("_id", streamName));
+            } else {
+                offsets.replaceOne(Filters.eq("_id", streamName),
+                        new Document("_id", streamName)
+                                .append("token", resumeToken)
+                                .append("updatedAt", new Date(now)),
+                        new ReplaceOptions().upsert(true));
+            }
+            tokenDirty = false;
+            tokenSavedAt = now;
+        } catch (Exception e) {
+            log.warn("⚠️ Could not store resume token for {}: {}", streamName, e.getMessage());
+        }
+    }
+
+    // ==========================================================================
+    // LIFECYCLE
+    // ==========================================================================
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (feed != null) {
+            try {
+                feed.join(4 * MAX_AWAIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (feed == null || !feed.isAlive()) {
+            saveTokenIfDue(true);
+        }
+        log.info("🌊 Change stream on {}: changes={}, delivered={}, own skipped={}, rewrites skipped={}, reconnects={}",
+                COLLECTION, changes.sum(), delivered.sum(), skippedOwn.sum(), skippedRewrites.sum(), reconnects.sum());
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+}
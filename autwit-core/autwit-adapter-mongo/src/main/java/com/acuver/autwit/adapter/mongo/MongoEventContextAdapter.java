@@ -2,28 +2,113 @@ package com.acuver.autwit.adapter.mongo;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "autwit.database", havingValue = "mongo")
 public class MongoEventContextAdapter implements EventContextPort {
 
+    /** Upper bound on pairs per $in aggregation (keeps the $match arrays bounded). */
+    private static final int BATCH_CHUNK_SIZE = 1000;
+
+    /** Event write tag field, read by MongoEventChangeStreamFeed to skip its own writes. */
+    static final String WRITTEN_BY = "writtenBy";
+    static final char WRITER_SEPARATOR = ':';
+
     private final MongoEventContextRepository repo;
+    private final MongoTemplate mongo;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong writeSeq = new AtomicLong();
 
     // ----------------------------------------------------------------------
     // SAVE
     // ----------------------------------------------------------------------
     @Override
     public void save(EventContextEntities ctx) {
+        if (!ctx.isPaused()) {
+            // Event document: $set of the event fields keeps a paused scenario's state
+            mongo.upsert(Query.query(Criteria.where("_id").is(ctx.getCanonicalKey())),
+                    eventUpdate(ctx), MongoEventContextEntity.class);
+            return;
+        }
         repo.save(toEntity(ctx));
     }
 
+    /**
+     * One ordered {@code bulkWrite} of upserts (_id is the canonical key).
+     * Ordered, so repeated keys resolve exactly like sequential saves; not
+     * atomic across documents.
+     *
+     * <p>Only the event fields are {@code $set}: a paused scenario document
+     * with the same key keeps paused / resumeReady / retryCount /
+     * firstPausedAt / lastRetryAt. Those start at their defaults
+     * ({@code $setOnInsert}) when the event creates the document.</p>
+     */
+    @Override
+    public void saveAll(List<EventContextEntities> contexts) {
+        if (contexts == null || contexts.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongo.bulkOps(BulkOperations.BulkMode.ORDERED, MongoEventContextEntity.class);
+        for (EventContextEntities ctx : contexts) {
+            bulk.upsert(Query.query(Criteria.where("_id").is(ctx.getCanonicalKey())), eventUpdate(ctx));
+        }
+        bulk.execute();
+    }
+
+    /**
+     * Event fields plus a {@link #WRITTEN_BY} tag. The tag changes on every
+     * write, so it appears in each change event's updated fields.
+     */
+    private Update eventUpdate(EventContextEntities ctx) {
+        return new Update()
+                .set(WRITTEN_BY, instanceId + WRITER_SEPARATOR + writeSeq.incrementAndGet())
+                .set("orderId", ctx.getOrderId())
+                .set("eventType", ctx.getEventType())
+                .set("eventTimestamp", ctx.getEventTimestamp())
+                .set("kafkaPayload", ctx.getKafkaPayload())
+                .set("status", ctx.getStatus())
+                .set("createdAt", ctx.getCreatedAt())
+                .setOnInsert("paused", false)
+                .setOnInsert("resumeReady", false)
+                .setOnInsert("retryCount", 0)
+                .setOnInsert("firstPausedAt", 0L)
+                .setOnInsert("lastRetryAt", 0L);
+    }
+
+    /**
+     * @return id that tags this instance's event writes
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
     // ----------------------------------------------------------------------
     // FINDERS
     // ----------------------------------------------------------------------
@@ -33,6 +118,38 @@ public class MongoEventContextAdapter implements EventContextPort {
                 .map(this::toDomain);
     }
 
+    // ----------------------------------------------------------------------
+    // BATCHED FIND LATEST ($in AGGREGATION)
+    // ----------------------------------------------------------------------
+    @Override
+    public Map<OrderEventKey, EventContextEntities> findLatestBatch(Collection<OrderEventKey> keys) {
+        Map<OrderEventKey, EventContextEntities> result = new HashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        Set<OrderEventKey> requested = keys.stream()
+                .filter(k -> k.orderId() != null && k.eventType() != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<OrderEventKey> ordered = List.copyOf(requested);
+
+        for (int i = 0; i < ordered.size(); i += BATCH_CHUNK_SIZE) {
+            List<OrderEventKey> chunk = ordered.subList(i, Math.min(i + BATCH_CHUNK_SIZE, ordered.size()));
+            Set<String> orderIds = chunk.stream().map(OrderEventKey::orderId).collect(Collectors.toSet());
+            Set<String> eventTypes = chunk.stream().map(OrderEventKey::eventType).collect(Collectors.toSet());
+
+            for (MongoEventContextEntity e : repo.findLatestForOrdersAndEventTypes(orderIds, eventTypes)) {
+                OrderEventKey key = new OrderEventKey(e.getOrderId(), e.getEventType());
+                // IN x IN is a cross product — keep only pairs that were actually asked for
+                if (requested.contains(key)) {
+                    result.merge(key, toDomain(e),
+                            (a, b) -> a.getEventTimestamp() >= b.getEventTimestamp() ? a : b);
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public Optional<EventContextEntities> findByCanonicalKey(String key) {
         return repo.findById(key).map(this::toDomain);
@@ -52,45 +169,65 @@ public class MongoEventContextAdapter implements EventContextPort {
                 .toList();
     }
 
+    @Override
+    public List<EventContextEntities> findResumeReady(int limit) {
+        return repo.findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc(PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                       int limit) {
+        PageRequest page = PageRequest.of(0, limit, Sort.by("createdAt", "canonicalKey"));
+        return repo.findCreatedAfter(afterCreatedAt, afterKey, untilInclusive, page)
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     // ----------------------------------------------------------------------
     // MUTATORS
     // ----------------------------------------------------------------------
     @Override
-    public void markPaused(EventContextEntities ctx) {
-        String key = ctx.getCanonicalKey();
-
-        repo.findById(key).ifPresentOrElse(existing -> {
-            // Update only pause-related fields
-            MongoEventContextEntity updated = existing.toBuilder()
-                    .paused(true)
-                    .firstPausedAt(existing.getFirstPausedAt() == 0L
-                            ? System.currentTimeMillis()
-                            : existing.getFirstPausedAt())
-                    .lastRetryAt(System.currentTimeMillis())
-                    .build();
+    public int markPaused(EventContextEntities ctx) {
+        long now = System.currentTimeMillis();
+        // The poller's keyset mark orders by createdAt: keep the caller's value
+        long createdAt = ctx.getCreatedAt() > 0 ? ctx.getCreatedAt() : now;
 
-            repo.save(updated);
+        // Single upsert updateOne: pipeline keeps the first firstPausedAt, $ifNull fills a new document
+        AggregationUpdate pause = AggregationUpdate.update()
+                .set("paused").toValue(true)
+                .set("lastRetryAt").toValue(now)
+                .set("firstPausedAt").toValue(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("firstPausedAt").greaterThanValue(0))
+                        .thenValueOf("firstPausedAt")
+                        .otherwise(now));
+        setIfMissing(pause, "orderId", ctx.getOrderId());
+        setIfMissing(pause, "eventType", ctx.getEventType());
+        setIfMissing(pause, "eventTimestamp", ctx.getEventTimestamp());
+        setIfMissing(pause, "kafkaPayload", ctx.getKafkaPayload());
+        setIfMissing(pause, "resumeReady", false);
+        setIfMissing(pause, "retryCount", ctx.getRetryCount());
+        setIfMissing(pause, "status", ctx.getStatus());
+        setIfMissing(pause, "createdAt", createdAt);
 
-        }, () -> {
-            // New entry if no previous record exists
-            MongoEventContextEntity created = toEntity(ctx).toBuilder()
-                    .paused(true)
-                    .firstPausedAt(System.currentTimeMillis())
-                    .lastRetryAt(System.currentTimeMillis())
-                    .build();
+        UpdateResult result = mongo.upsert(Query.query(Criteria.where("_id").is(ctx.getCanonicalKey())),
+                pause, MongoEventContextEntity.class);
+        return (int) (result.getMatchedCount() + (result.getUpsertedId() != null ? 1 : 0));
+    }
 
-            repo.save(created);
-        });
+    /** Pipeline stage that only writes {@code value} when the field is absent (new document). */
+    private static void setIfMissing(AggregationUpdate update, String field, Object value) {
+        if (value != null) {
+            update.set(field).toValue(ConditionalOperators.ifNull(field).then(value));
+        }
     }
 
     @Override
-    public void markResumeReady(String canonicalKey) {
-        repo.findById(canonicalKey).ifPresent(e -> {
-            MongoEventContextEntity updated = e.toBuilder()
-                    .resumeReady(true)
-                    .build();
-            repo.save(updated);
-        });
+    public int markResumeReady(String canonicalKey) {
+        return (int) repo.markResumeReadyIfPaused(canonicalKey);
     }
 
     @Override
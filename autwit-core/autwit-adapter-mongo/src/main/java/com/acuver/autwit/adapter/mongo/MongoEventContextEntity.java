@@ -35,4 +35,7 @@ public class MongoEventContextEntity {
 
     private String status;
     private long createdAt;
+
+    /** {@code <instanceId>:<seq>} of the adapter that last wrote the event fields. */
+    private String writtenBy;
 }
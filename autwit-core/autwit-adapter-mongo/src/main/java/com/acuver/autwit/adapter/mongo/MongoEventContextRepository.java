@@ -1,8 +1,13 @@
 package com.acuver.autwit.adapter.mongo;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +23,38 @@ public interface MongoEventContextRepository extends MongoRepository<MongoEventC
 
     List<MongoEventContextEntity> findByOrderId(String orderId);
     List<MongoEventContextEntity> findByPausedTrue();
+
+    List<MongoEventContextEntity> findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc(Pageable pageable);
+
+    /**
+     * Keyset page for the poller: documents after (afterTs, afterKey) in
+     * (createdAt, _id) order, up to the until bound. The pageable carries the sort.
+     */
+    @Query("{ 'createdAt': { '$lte': ?2 }, '$or': [ { 'createdAt': { '$gt': ?0 } }, " +
+            "{ 'createdAt': ?0, '_id': { '$gt': ?1 } } ] }")
+    List<MongoEventContextEntity> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                   Pageable pageable);
+
+    /**
+     * Latest event per (orderId, eventType) for all pairs in the cross product
+     * of the given ids/types — single $in aggregation. Callers filter to the
+     * exact requested pairs.
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { orderId: { $in: ?0 }, eventType: { $in: ?1 } } }",
+            "{ $sort: { eventTimestamp: -1 } }",
+            "{ $group: { _id: { orderId: '$orderId', eventType: '$eventType' }, doc: { $first: '$$ROOT' } } }",
+            "{ $replaceRoot: { newRoot: '$doc' } }"
+    })
+    List<MongoEventContextEntity> findLatestForOrdersAndEventTypes(
+            Collection<String> orderIds, Collection<String> eventTypes);
+
+    /**
+     * Atomic paused → resumeReady transition (single updateOne).
+     *
+     * @return 1 if the document moved to resumeReady, 0 otherwise
+     */
+    @Query("{ '_id': ?0, 'paused': true, 'resumeReady': false }")
+    @Update("{ '$set': { 'resumeReady': true } }")
+    long markResumeReadyIfPaused(String canonicalKey);
 }
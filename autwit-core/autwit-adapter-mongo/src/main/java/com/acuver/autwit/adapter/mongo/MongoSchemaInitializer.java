@@ -2,22 +2,44 @@ package com.acuver.autwit.adapter.mongo;
 
 import com.mongodb.client.MongoCursor;
 import jakarta.annotation.PostConstruct;
-import lombok.extern.log4j.Log4j2;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bson.Document;
-import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Component;
 
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.IndexOptions;
-import com.mongodb.client.model.Indexes;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MongoSchemaInitializer - Collections and query-shape indexes for the Mongo adapter.
+ *
+ * <h2>INDEX DERIVATION</h2>
+ * <p>Every index in {@link #INDEXES} is derived from the filter + sort shape of
+ * one or more repository methods (equality fields first, then the sort
+ * fields in sort direction, then range fields), so those queries are served
+ * by an index walk with no in-memory SORT stage. Spring Data index
+ * auto-creation is off by default, so {@code @Indexed} on the documents is not
+ * relied upon.</p>
+ *
+ * <h2>USAGE REPORT</h2>
+ * <p>On context close the {@code $indexStats} of every managed collection is
+ * logged: declared indexes that are absent are flagged MISSING and indexes
+ * with zero accesses during the run are flagged UNUSED.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
 @Component
 @ConditionalOnProperty(name = "autwit.database", havingValue = "mongo")
 public class MongoSchemaInitializer {
@@ -32,9 +54,88 @@ public class MongoSchemaInitializer {
     private static final String BOTTOM_LINE = "└───────────────────────────────────────────────────────────────┘";
     private static final String MIDDLE_LINE = "├───────────────────────────────────────────────────────────────┤";
 
+    private static final List<String> COLLECTIONS = List.of(
+            "event_context", "event_store", "scenario_context", "api_context", "autwit_stream_offsets");
+
+    // ═══════════════════════════════════════════════════════════════
+    // QUERY-SHAPE INDEXES
+    // ═══════════════════════════════════════════════════════════════
+    private static final List<IndexSpec> INDEXES = List.of(
+            // event_context (_id is canonicalKey)
+            IndexSpec.of("event_context", "orderId_eventType_eventTimestamp",
+                    keys("orderId", 1, "eventType", 1, "eventTimestamp", -1),
+                    "findTopByOrderIdAndEventTypeOrderByEventTimestampDesc, " +
+                    "findLatestForOrdersAndEventTypes, findByOrderId"),
+            IndexSpec.partial("event_context", "paused_resumeReady_firstPausedAt",
+                    keys("resumeReady", 1, "firstPausedAt", 1),
+                    new Document("paused", true),
+                    "findByPausedTrue, findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc"),
+            IndexSpec.of("event_context", "createdAt_id",
+                    keys("createdAt", 1, "_id", 1),
+                    "findCreatedAfter"),
+
+            // event_store
+            IndexSpec.of("event_store", "orderId_1", keys("orderId", 1), "lookup by order"),
+            IndexSpec.of("event_store", "eventType_1", keys("eventType", 1), "lookup by event type"),
+
+            // scenario_context
+            IndexSpec.of("scenario_context", "scenarioKey",
+                    keys("scenarioKey", 1),
+                    "findByScenarioKey, deleteByScenarioKey"),
+            IndexSpec.of("scenario_context", "scenarioName_1", keys("scenarioName", 1), "lookup by name"),
+            IndexSpec.of("scenario_context", "lastUpdated_1", keys("lastUpdated", 1), "cleanup by age"),
+
+            // api_context - step level
+            IndexSpec.of("api_context", "stepKey_apiName_callIndex",
+                    keys("stepKey", 1, "apiName", 1, "callIndex", -1),
+                    "findFirstByStepKeyAndApiNameOrderByCallIndexDesc"),
+            IndexSpec.of("api_context", "stepKey_createdAt",
+                    keys("stepKey", 1, "createdAt", 1),
+                    "findByStepKeyOrderByCreatedAtAsc, deleteByStepKey"),
+            IndexSpec.of("api_context", "scenarioKey_stepName_apiName_stepExecutionIndex_createdAt",
+                    keys("scenarioKey", 1, "stepName", 1, "apiName", 1, "stepExecutionIndex", -1, "createdAt", -1),
+                    "findFirstByScenarioKeyAndStepNameAndApiNameOrderByStepExecutionIndexDescCreatedAtDesc"),
+            IndexSpec.of("api_context", "scenarioKey_stepName_stepExecutionIndex_createdAt",
+                    keys("scenarioKey", 1, "stepName", 1, "stepExecutionIndex", 1, "createdAt", 1),
+                    "findByScenarioKeyAndStepNameOrderByStepExecutionIndexAscCreatedAtAsc"),
+
+            // api_context - scenario level
+            IndexSpec.of("api_context", "scenarioKey_apiName_callIndex",
+                    keys("scenarioKey", 1, "apiName", 1, "callIndex", 1),
+                    "findByScenarioKeyAndApiNameAndCallIndex, findByScenarioKeyAndApiNameOrderByCallIndexAsc, " +
+                    "existsByScenarioKeyAndApiName, deleteByScenarioKeyAndApiName[AndCallIndex]"),
+            IndexSpec.of("api_context", "scenarioKey_apiName_createdAt",
+                    keys("scenarioKey", 1, "apiName", 1, "createdAt", 1),
+                    "findFirstByScenarioKeyAndApiNameOrderByCreatedAtAsc, " +
+                    "findByScenarioKeyAndApiNameOrderByCreatedAtAsc"),
+            IndexSpec.of("api_context", "scenarioKey_createdAt",
+                    keys("scenarioKey", 1, "createdAt", 1),
+                    "findByScenarioKeyOrderByCreatedAtAsc, countByScenarioKey, deleteByScenarioKey"),
+
+            // api_context - business entity correlation
+            IndexSpec.of("api_context", "orderNo_createdAt",
+                    keys("orderNo", 1, "createdAt", 1),
+                    "findFirstByOrderNoOrderByCreatedAtAsc, findByOrderNoOrderByCreatedAtAsc"),
+            IndexSpec.of("api_context", "orderHeaderKey_createdAt",
+                    keys("orderHeaderKey", 1, "createdAt", 1),
+                    "findFirstByOrderHeaderKeyOrderByCreatedAtAsc, findByOrderHeaderKeyOrderByCreatedAtAsc")
+    );
+
+    /**
+     * Legacy single-field indexes superseded by the compound set above.
+     * {@code canonicalKey_1} indexed a field that is never stored (canonicalKey
+     * maps to _id), so as a unique index it rejected the second document.
+     */
+    private static final Map<String, List<String>> SUPERSEDED = Map.of(
+            "event_context", List.of("canonicalKey_1", "orderId_1", "resumeReady_1", "createdAt")
+    );
+
     @Autowired
     private MongoTemplate mongo;
 
+    @Value("${autwit.schema.verify:true}")
+    private boolean reportIndexUsage;
+
     @PostConstruct
     public void initialize() {
         log.info("╔═══════════════════════════════════════════════════════════════╗");
@@ -47,21 +148,9 @@ public class MongoSchemaInitializer {
         log.info(createBoxLine("COLLECTIONS & INDEXES", true));
         log.info(MIDDLE_LINE);
 
-        // Event Context Collection
-        createIfNotExists("event_context");
-        ensureIndex("event_context", "canonicalKey", Sort.Direction.ASC, true);
-        ensureIndex("event_context", "orderId", Sort.Direction.ASC, false);
-        ensureIndex("event_context", "resumeReady", Sort.Direction.ASC, false);
-
-        // Event Store Collection
-        createIfNotExists("event_store");
-        ensureIndex("event_store", "orderId", Sort.Direction.ASC, false);
-        ensureIndex("event_store", "eventType", Sort.Direction.ASC, false);
-
-        // Scenario Context Collection
-        createIfNotExists("scenario_context");
-        ensureIndex("scenario_context", "scenarioName", Sort.Direction.ASC, false);
-        ensureIndex("scenario_context", "lastUpdated", Sort.Direction.ASC, false);
+        COLLECTIONS.forEach(this::createIfNotExists);
+        SUPERSEDED.forEach((collection, names) -> names.forEach(name -> dropIfPresent(collection, name)));
+        INDEXES.forEach(this::ensureIndex);
 
         log.info(BOTTOM_LINE);
 
@@ -84,37 +173,123 @@ public class MongoSchemaInitializer {
         }
     }
 
-    private void ensureIndex(String collectionName, String field, Direction direction, boolean unique) {
-        MongoCollection<Document> collection = mongo.getCollection(collectionName);
-        boolean exists = false;
+    private void ensureIndex(IndexSpec spec) {
+        MongoCollection<Document> collection = mongo.getCollection(spec.collection());
 
         try (MongoCursor<Document> cursor = collection.listIndexes().iterator()) {
             while (cursor.hasNext()) {
                 Document indexDoc = cursor.next();
-                Document keys = (Document) indexDoc.get("key");
-                if (keys != null && keys.containsKey(field)) {
-                    boolean indexUnique = indexDoc.getBoolean("unique", false);
-                    if (indexUnique == unique) {
-                        exists = true;
-                        break;
-                    }
+                if (sameKeys(spec.keys(), (Document) indexDoc.get("key"))) {
+                    log.debug("  [OK] Index exists: {} -> {}", spec.collection(), indexDoc.getString("name"));
+                    return;
                 }
             }
         }
 
-        if (!exists) {
-            Bson indexKeys = direction == Direction.ASC
-                    ? Indexes.ascending(field)
-                    : Indexes.descending(field);
+        try {
+            IndexOptions options = new IndexOptions().name(spec.name());
+            if (spec.partialFilter() != null) {
+                options.partialFilterExpression(spec.partialFilter());
+            }
+            collection.createIndex(spec.keys(), options);
+            log.info(createBoxLine("  [+] " + spec.collection() + "." + spec.name()
+                    + (spec.partialFilter() != null ? " (PARTIAL)" : ""), false));
+        } catch (Exception e) {
+            log.warn("Could not create index {}.{}: {}", spec.collection(), spec.name(), e.getMessage());
+        }
+    }
 
-            IndexOptions options = new IndexOptions().unique(unique);
-            String indexName = collection.createIndex(indexKeys, options);
+    private void dropIfPresent(String collectionName, String indexName) {
+        MongoCollection<Document> collection = mongo.getCollection(collectionName);
+        try (MongoCursor<Document> cursor = collection.listIndexes().iterator()) {
+            while (cursor.hasNext()) {
+                if (indexName.equals(cursor.next().getString("name"))) {
+                    collection.dropIndex(indexName);
+                    log.info(createBoxLine("  [-] " + collectionName + "." + indexName + " (superseded)", false));
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not drop index {}.{}: {}", collectionName, indexName, e.getMessage());
+        }
+    }
 
-            String uniqueStr = unique ? "UNIQUE" : "NON-UNIQUE";
-            String dirStr = direction == Direction.ASC ? "ASC" : "DESC";
-            log.info(createBoxLine("  [+] Index: " + field + " (" + uniqueStr + ", " + dirStr + ")", false));
-        } else {
-            log.debug("  [OK] Index exists: {} -> {}", collectionName, field);
+    /**
+     * Key patterns are equal when they list the same fields in the same order
+     * with the same direction (shell-created indexes may store doubles).
+     */
+    private static boolean sameKeys(Document expected, Document actual) {
+        if (actual == null || expected.size() != actual.size()) {
+            return false;
+        }
+        var e = expected.entrySet().iterator();
+        var a = actual.entrySet().iterator();
+        while (e.hasNext()) {
+            var ee = e.next();
+            var ae = a.next();
+            if (!ee.getKey().equals(ae.getKey())
+                    || !(ae.getValue() instanceof Number n)
+                    || n.intValue() != ((Number) ee.getValue()).intValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Document keys(Object... fieldAndDirection) {
+        Document keys = new Document();
+        for (int i = 0; i < fieldAndDirection.length; i += 2) {
+            keys.append((String) fieldAndDirection[i], fieldAndDirection[i + 1]);
+        }
+        return keys;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // INDEX USAGE REPORT
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * Log {@code $indexStats} for every managed collection at the end of the run.
+     * Access counters are per mongod and reset on restart, so the report
+     * reflects usage since the server (or index) came up.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void reportIndexUsage() {
+        if (!reportIndexUsage) {
+            return;
+        }
+        try {
+            log.info(TOP_LINE);
+            log.info(createBoxLine("INDEX USAGE ($indexStats)", true));
+            log.info(MIDDLE_LINE);
+
+            for (String collectionName : COLLECTIONS) {
+                Map<String, Long> accesses = new LinkedHashMap<>();
+                Map<String, Document> keysByName = new HashMap<>();
+                for (Document stat : mongo.getCollection(collectionName)
+                        .aggregate(List.of(new Document("$indexStats", new Document())))) {
+                    String name = stat.getString("name");
+                    Document ops = (Document) stat.get("accesses");
+                    accesses.put(name, ops == null ? 0L : ((Number) ops.get("ops")).longValue());
+                    keysByName.put(name, (Document) stat.get("key"));
+                }
+
+                log.info(createBoxLine("[" + collectionName + "]", false));
+                accesses.forEach((name, ops) -> log.info(createKeyValueLine(
+                        "  " + name, ops + (ops == 0 && !"_id_".equals(name) ? " UNUSED" : ""))));
+
+                for (IndexSpec spec : INDEXES) {
+                    if (spec.collection().equals(collectionName)
+                            && keysByName.values().stream().noneMatch(k -> sameKeys(spec.keys(), k))) {
+                        log.info(createKeyValueLine("  " + spec.name(), "MISSING"));
+                        log.warn("⚠️ Missing index {}.{} used by: {}", collectionName, spec.name(), spec.usedBy());
+                    }
+                }
+            }
+
+            log.info(BOTTOM_LINE);
+        } catch (Exception e) {
+            log.warn("Could not report index usage: {}", e.getMessage());
         }
     }
 
@@ -133,9 +308,7 @@ public class MongoSchemaInitializer {
             log.info(createKeyValueLine("Total Collections", String.valueOf(collectionCount)));
 
             // Check each collection
-            checkCollection("event_context");
-            checkCollection("event_store");
-            checkCollection("scenario_context");
+            COLLECTIONS.forEach(this::checkCollection);
 
             log.info(BOTTOM_LINE);
 
@@ -228,4 +401,21 @@ public class MongoSchemaInitializer {
         line.append(BORDER_RIGHT);
         return line.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * One managed index: key pattern, optional partial filter, and the
+     * repository methods whose shape it serves.
+     */
+    private record IndexSpec(String collection, String name, Document keys,
+                             Document partialFilter, String usedBy) {
+
+        static IndexSpec of(String collection, String name, Document keys, String usedBy) {
+            return new IndexSpec(collection, name, keys, null, usedBy);
+        }
+
+        static IndexSpec partial(String collection, String name, Document keys,
+                                 Document partialFilter, String usedBy) {
+            return new IndexSpec(collection, name, keys, partialFilter, usedBy);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.acuver.autwit.adapter.mongo.scenario;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One {@code $group} result of the api_context call count aggregation.
+ *
+ * <h2>VISIBILITY</h2>
+ * Package-private - internal to the MongoDB adapter.
+ *
+ * <h2>SHAPE</h2>
+ * Field names match the {@code $project} stage of
+ * MongoApiContextRepository#countCalls.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Data
+@NoArgsConstructor
+class MongoApiCallCount {
+
+    private String apiName;
+    private Boolean service;
+    private String serviceName;
+    private String httpMethod;
+    private String dataRepresentation;
+    private Long calls;
+}
@@ -1,16 +1,26 @@
 package com.acuver.autwit.adapter.mongo.scenario;
 
+import com.acuver.autwit.core.domain.ApiCallCount;
 import com.acuver.autwit.core.domain.ApiContextEntities;
 import com.acuver.autwit.core.domain.ApiContextEntities.HttpMethod;
 import com.acuver.autwit.core.domain.StorageException;
 import com.acuver.autwit.core.ports.ApiContextPort;
+import com.acuver.autwit.core.utils.PayloadCodec;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * MongoDB adapter for API context persistence with step-level tracking.
@@ -27,6 +37,16 @@ import java.util.Optional;
  * ✅ Supports step reruns with stepExecutionIndex
  * ✅ Tracks business entities (orderNo, orderHeaderKey)
  *
+ * <h2>PAYLOAD STORAGE</h2>
+ * {@code autwit.api-context.payload-storage}:
+ * - inline (default): request/response bodies on the api_context document
+ * - compressed: bodies deflated once per distinct SHA-256 into api_payload;
+ *   api_context keeps only the hashes and reads decompress lazily
+ *
+ * <h2>ANALYTICS</h2>
+ * Call counts run as a {@code $group} aggregation; streamAll/streamByScenarioKey
+ * iterate a server cursor with the payload fields projected out.
+ *
  * <h2>DEPENDENCIES</h2>
  * Requires MongoDB connection configuration in application.yml
  *
@@ -38,11 +58,22 @@ import java.util.Optional;
 public class MongoApiContextAdapter implements ApiContextPort {
 
     private static final Logger logger = LogManager.getLogger(MongoApiContextAdapter.class);
+    /** Hashes known to be in api_payload; bounded, cleared when full. */
+    private static final int KNOWN_HASHES_MAX = 100_000;
+
     private final MongoApiContextRepository repository;
+    private final MongoApiPayloadRepository payloadRepository;
+    private final boolean compressPayloads;
+    private final Set<String> knownHashes = ConcurrentHashMap.newKeySet();
 
-    public MongoApiContextAdapter(MongoApiContextRepository repository) {
+    public MongoApiContextAdapter(MongoApiContextRepository repository,
+                                  MongoApiPayloadRepository payloadRepository,
+                                  @Value("${autwit.api-context.payload-storage:inline}") String payloadStorage) {
         this.repository = repository;
-        logger.info("MongoDB API Context Adapter initialized with step-level tracking");
+        this.payloadRepository = payloadRepository;
+        this.compressPayloads = "compressed".equalsIgnoreCase(payloadStorage);
+        logger.info("MongoDB API Context Adapter initialized with step-level tracking (payload storage: {})",
+                compressPayloads ? "compressed" : "inline");
     }
 
     // ==========================================================================
@@ -68,6 +99,28 @@ public class MongoApiContextAdapter implements ApiContextPort {
         }
     }
 
+    /**
+     * Batched insert via a single {@code insertMany}.
+     */
+    @Override
+    public List<ApiContextEntities> saveAll(List<ApiContextEntities> apiContexts) {
+        try {
+            List<MongoApiContextEntity> documents = new ArrayList<>(apiContexts.size());
+            for (ApiContextEntities apiContext : apiContexts) {
+                validateApiContext(apiContext);
+                documents.add(toDocument(apiContext));
+            }
+            List<ApiContextEntities> saved = repository.insert(documents).stream()
+                    .map(this::toDomain)
+                    .toList();
+            logger.debug("Saved batch to MongoDB: {} documents", saved.size());
+            return saved;
+        } catch (Exception e) {
+            logger.error("Failed to save batch of {} API contexts", apiContexts.size(), e);
+            throw new StorageException("Failed to save API context batch to MongoDB", e);
+        }
+    }
+
     // ==========================================================================
     // ✅ NEW: STEP-LEVEL QUERIES (Primary)
     // ==========================================================================
@@ -245,6 +298,44 @@ public class MongoApiContextAdapter implements ApiContextPort {
         return repository.count();
     }
 
+    // ==========================================================================
+    // AGGREGATION & STREAMING (Payload-Free)
+    // ==========================================================================
+
+    @Override
+    public List<ApiCallCount> countCalls() {
+        return repository.countCalls().stream()
+                .map(this::toCallCount)
+                .toList();
+    }
+
+    @Override
+    public List<ApiCallCount> countCallsByScenarioKey(String scenarioKey) {
+        return repository.countCallsByScenarioKey(scenarioKey).stream()
+                .map(this::toCallCount)
+                .toList();
+    }
+
+    @Override
+    public Stream<ApiContextEntities> streamAll() {
+        return repository.streamAllBy().map(this::toDomain);
+    }
+
+    @Override
+    public Stream<ApiContextEntities> streamByScenarioKey(String scenarioKey) {
+        return repository.streamByScenarioKey(scenarioKey).map(this::toDomain);
+    }
+
+    private ApiCallCount toCallCount(MongoApiCallCount group) {
+        return new ApiCallCount(
+                group.getApiName(),
+                Boolean.TRUE.equals(group.getService()),
+                group.getServiceName(),
+                group.getHttpMethod(),
+                group.getDataRepresentation(),
+                group.getCalls() != null ? group.getCalls() : 0L);
+    }
+
     // ==========================================================================
     // DOCUMENT MAPPING (Domain ↔ MongoDB)
     // ==========================================================================
@@ -253,7 +344,7 @@ public class MongoApiContextAdapter implements ApiContextPort {
      * Convert domain model to MongoDB document.
      */
     private MongoApiContextEntity toDocument(ApiContextEntities domain) {
-        return MongoApiContextEntity.builder()
+        MongoApiContextEntity document = MongoApiContextEntity.builder()
                 .id(domain.getId() != null ? domain.getId().toString() : null)
                 .scenarioKey(domain.getScenarioKey())
                 .stepKey(domain.getStepKey())
@@ -266,15 +357,22 @@ public class MongoApiContextAdapter implements ApiContextPort {
                 .httpMethod(domain.getHttpMethod() != null ? domain.getHttpMethod().name() : null)
                 .apiTemplate(domain.getApiTemplate())
                 .dataRepresentation(domain.getDataRepresentation())
-                .requestPayload(domain.getRequestPayload())
-                .responsePayload(domain.getResponsePayload())
                 .isService(domain.getIsService() != null ? domain.getIsService() : false)
                 .serviceName(domain.getServiceName())
                 .orderNo(domain.getOrderNo())
                 .orderHeaderKey(domain.getOrderHeaderKey())
+                .durationMs(domain.getDurationMs())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
+        if (compressPayloads) {
+            document.setRequestHash(storePayload(domain.getRequestPayload()));
+            document.setResponseHash(storePayload(domain.getResponsePayload()));
+        } else {
+            document.setRequestPayload(domain.getRequestPayload());
+            document.setResponsePayload(domain.getResponsePayload());
+        }
+        return document;
     }
 
     /**
@@ -295,11 +393,14 @@ public class MongoApiContextAdapter implements ApiContextPort {
                 .apiTemplate(document.getApiTemplate())
                 .dataRepresentation(document.getDataRepresentation())
                 .requestPayload(document.getRequestPayload())
+                .requestPayloadLoader(payloadLoader(document.getRequestHash()))
+                .responsePayloadLoader(payloadLoader(document.getResponseHash()))
                 .responsePayload(document.getResponsePayload())
                 .isService(document.getIsService())
                 .serviceName(document.getServiceName())
                 .orderNo(document.getOrderNo())
                 .orderHeaderKey(document.getOrderHeaderKey())
+                .durationMs(document.getDurationMs())
                 .createdAt(document.getCreatedAt())
                 .updatedAt(document.getUpdatedAt())
                 .build();
@@ -315,6 +416,57 @@ public class MongoApiContextAdapter implements ApiContextPort {
      * @param apiContext API context to validate
      * @throws IllegalArgumentException if validation fails
      */
+    // ==========================================================================
+    // COMPRESSED PAYLOAD STORAGE
+    // ==========================================================================
+
+    /**
+     * Store a payload blob once per distinct content.
+     *
+     * @return Content hash, or null for a null payload
+     */
+    private String storePayload(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String hash = PayloadCodec.hash(payload);
+        if (knownHashes.contains(hash)) {
+            return hash;
+        }
+        try {
+            payloadRepository.insert(MongoApiPayloadDocument.builder()
+                    .hash(hash)
+                    .codec(PayloadCodec.CODEC)
+                    .originalSize(payload.length())
+                    .data(PayloadCodec.compress(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (DuplicateKeyException e) {
+            // Same content stored by another call
+        }
+        if (knownHashes.size() >= KNOWN_HASHES_MAX) {
+            knownHashes.clear();
+        }
+        knownHashes.add(hash);
+        return hash;
+    }
+
+    /**
+     * Deferred fetch + decompress of a blob; nothing is read until the
+     * domain payload getter is called.
+     */
+    private Supplier<String> payloadLoader(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        return () -> payloadRepository.findById(hash)
+                .map(blob -> PayloadCodec.decompress(blob.getData(), blob.getCodec()))
+                .orElseGet(() -> {
+                    logger.warn("Payload blob missing: hash={}", hash);
+                    return null;
+                });
+    }
+
     private void validateApiContext(ApiContextEntities apiContext) {
         if (apiContext.getStepKey() == null || apiContext.getStepKey().isBlank()) {
             throw new IllegalArgumentException("stepKey is required");
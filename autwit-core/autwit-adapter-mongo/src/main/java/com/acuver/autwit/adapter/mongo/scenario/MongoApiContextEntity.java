@@ -60,6 +60,11 @@ class MongoApiContextEntity {
 
     private String responsePayload;
 
+    // Compressed payload storage: api_payload._id references (payload fields stay null)
+    private String requestHash;
+
+    private String responseHash;
+
     @Indexed
     private Boolean isService;
 
@@ -70,6 +75,9 @@ class MongoApiContextEntity {
 
     private String orderHeaderKey;
 
+    // Call duration (BaseActionsNew.executeCall)
+    private Long durationMs;
+
     @Indexed
     private LocalDateTime createdAt;
 
@@ -1,11 +1,14 @@
 package com.acuver.autwit.adapter.mongo.scenario;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Spring Data MongoDB repository for MongoApiContextEntity.
@@ -18,6 +21,7 @@ import java.util.Optional;
  * - Scenario-level queries (LEGACY SUPPORT - for backward compatibility)
  * - Business entity queries (for order correlation)
  * - Analytics queries (cross-scenario)
+ * - Aggregation &amp; streaming queries (payload-free)
  *
  * @author AUTWIT Framework
  * @since 2.0.0
@@ -211,4 +215,46 @@ interface MongoApiContextRepository extends MongoRepository<MongoApiContextEntit
      * Find all service API calls (analytics only).
      */
     List<MongoApiContextEntity> findByIsServiceTrue();
+
+    // ==========================================================================
+    // AGGREGATION & STREAMING (Payload-Free)
+    // ==========================================================================
+
+    /**
+     * API call counts across all scenarios, grouped server-side.
+     */
+    @Aggregation(pipeline = {
+            "{ $group: { _id: { apiName: '$apiName', isService: '$isService', serviceName: '$serviceName', " +
+                    "httpMethod: '$httpMethod', dataRepresentation: '$dataRepresentation' }, calls: { $sum: 1 } } }",
+            "{ $project: { _id: 0, apiName: '$_id.apiName', service: '$_id.isService', " +
+                    "serviceName: '$_id.serviceName', httpMethod: '$_id.httpMethod', " +
+                    "dataRepresentation: '$_id.dataRepresentation', calls: 1 } }"
+    })
+    List<MongoApiCallCount> countCalls();
+
+    /**
+     * API call counts for one scenario, grouped server-side.
+     * The leading $match uses the scenarioKey index.
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { scenarioKey: ?0 } }",
+            "{ $group: { _id: { apiName: '$apiName', isService: '$isService', serviceName: '$serviceName', " +
+                    "httpMethod: '$httpMethod', dataRepresentation: '$dataRepresentation' }, calls: { $sum: 1 } } }",
+            "{ $project: { _id: 0, apiName: '$_id.apiName', service: '$_id.isService', " +
+                    "serviceName: '$_id.serviceName', httpMethod: '$_id.httpMethod', " +
+                    "dataRepresentation: '$_id.dataRepresentation', calls: 1 } }"
+    })
+    List<MongoApiCallCount> countCallsByScenarioKey(String scenarioKey);
+
+    /**
+     * Cursor over all documents without payload fields. Caller must close.
+     */
+    @Query(value = "{}", fields = "{ requestPayload: 0, responsePayload: 0 }")
+    Stream<MongoApiContextEntity> streamAllBy();
+
+    /**
+     * Cursor over one scenario's documents without payload fields. Caller must close.
+     */
+    @Query(value = "{ scenarioKey: ?0 }", fields = "{ requestPayload: 0, responsePayload: 0 }")
+    Stream<MongoApiContextEntity> streamByScenarioKey(String scenarioKey);
 }
\ No newline at end of file
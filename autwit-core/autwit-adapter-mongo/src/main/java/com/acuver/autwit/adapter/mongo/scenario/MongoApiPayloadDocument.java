@@ -0,0 +1,42 @@
+package com.acuver.autwit.adapter.mongo.scenario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * MongoDB document for a compressed, content-addressed API payload.
+ *
+ * <h2>VISIBILITY</h2>
+ * Package-private - internal to the MongoDB adapter.
+ *
+ * <h2>COLLECTION</h2>
+ * Stored in collection: api_payload, keyed by the SHA-256 of the uncompressed
+ * payload. Referenced from api_context.requestHash / responseHash.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Document(collection = "api_payload")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+class MongoApiPayloadDocument {
+
+    @Id
+    private String hash;
+
+    private String codec;
+
+    private int originalSize;
+
+    private byte[] data;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.acuver.autwit.adapter.mongo.scenario;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for MongoApiPayloadDocument.
+ *
+ * <h2>VISIBILITY</h2>
+ * Package-private - internal to the MongoDB adapter.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Repository
+interface MongoApiPayloadRepository extends MongoRepository<MongoApiPayloadDocument, String> {
+}
@@ -0,0 +1,26 @@
+package com.acuver.autwit.adapter.postgres;
+
+/**
+ * PostgresApiCallCountRow - One GROUP BY row of the api_context call count query.
+ *
+ * <h2>INTERNAL USE ONLY</h2>
+ * Projection target of PostgresApiContextRepository#countCalls; aliases in
+ * the JPQL match these getters.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+interface PostgresApiCallCountRow {
+
+    String getApiName();
+
+    Boolean getService();
+
+    String getServiceName();
+
+    String getHttpMethod();
+
+    String getDataRepresentation();
+
+    Long getCalls();
+}
@@ -1,17 +1,28 @@
 package com.acuver.autwit.adapter.postgres;
 
+import com.acuver.autwit.core.domain.ApiCallCount;
 import com.acuver.autwit.core.domain.ApiContextEntities;
 import com.acuver.autwit.core.domain.ApiContextEntities.HttpMethod;
 import com.acuver.autwit.core.domain.StorageException;
 import com.acuver.autwit.core.ports.ApiContextPort;
+import com.acuver.autwit.core.utils.PayloadCodec;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * PostgresApiContextAdapter - Scenario-isolated PostgreSQL storage adapter.
@@ -28,6 +39,17 @@ import java.util.Optional;
  * ✅ Prevents cross-scenario data leaks
  * ✅ Supports multiple calls to same API within scenario
  *
+ * <h2>PAYLOAD STORAGE</h2>
+ * {@code autwit.api-context.payload-storage}:
+ * - inline (default): request/response bodies in api_context TEXT columns
+ * - compressed: bodies deflated once per distinct SHA-256 into api_payload;
+ *   api_context keeps only the hashes and reads decompress lazily
+ *
+ * <h2>ANALYTICS</h2>
+ * - Call counts are a GROUP BY in PostgreSQL, not a findAll()
+ * - streamAll/streamByScenarioKey read payload-free keyset pages by id,
+ *   so no transaction or open cursor is held between pages
+ *
  * <h2>THREAD SAFETY</h2>
  * - Spring singleton bean (one instance)
  * - Repository operations are thread-safe (Spring Data JPA)
@@ -43,11 +65,25 @@ public class PostgresApiContextAdapter implements ApiContextPort {
 
     private static final Logger logger = LogManager.getLogger(PostgresApiContextAdapter.class);
 
+    /** Hashes known to be in api_payload; bounded, cleared when full. */
+    private static final int KNOWN_HASHES_MAX = 100_000;
+
+    /** Rows per keyset page of the streaming reads. */
+    private static final Pageable STREAM_PAGE = PageRequest.of(0, 500);
+
     private final PostgresApiContextRepository repository;
+    private final PostgresApiPayloadRepository payloadRepository;
+    private final boolean compressPayloads;
+    private final Set<String> knownHashes = ConcurrentHashMap.newKeySet();
 
-    public PostgresApiContextAdapter(PostgresApiContextRepository repository) {
+    public PostgresApiContextAdapter(PostgresApiContextRepository repository,
+                                     PostgresApiPayloadRepository payloadRepository,
+                                     @Value("${autwit.api-context.payload-storage:inline}") String payloadStorage) {
         this.repository = repository;
-        logger.info("PostgreSQL API Context Adapter initialized");
+        this.payloadRepository = payloadRepository;
+        this.compressPayloads = "compressed".equalsIgnoreCase(payloadStorage);
+        logger.info("PostgreSQL API Context Adapter initialized (payload storage: {})",
+                compressPayloads ? "compressed" : "inline");
     }
 
     // ==========================================================================
@@ -70,6 +106,30 @@ public class PostgresApiContextAdapter implements ApiContextPort {
         }
     }
 
+    /**
+     * Batched insert: one transaction, pooled sequence IDs and
+     * {@code hibernate.jdbc.batch_size} let Hibernate send a JDBC batch
+     * (rewritten to multi-row INSERTs by the driver).
+     */
+    @Override
+    public List<ApiContextEntities> saveAll(List<ApiContextEntities> apiContexts) {
+        try {
+            List<PostgresApiContextEntity> entities = new ArrayList<>(apiContexts.size());
+            for (ApiContextEntities apiContext : apiContexts) {
+                validateApiContext(apiContext);
+                entities.add(toEntity(apiContext));
+            }
+            List<ApiContextEntities> saved = repository.saveAll(entities).stream()
+                    .map(this::toDomain)
+                    .toList();
+            logger.debug("Saved batch to PostgreSQL: {} rows", saved.size());
+            return saved;
+        } catch (Exception e) {
+            logger.error("Failed to save batch of {} API contexts", apiContexts.size(), e);
+            throw new StorageException("Failed to save batch to PostgreSQL", e);
+        }
+    }
+
     // ==========================================================================
     // ✅ NEW: STEP-LEVEL QUERIES (Primary)
     // ==========================================================================
@@ -247,6 +307,50 @@ public class PostgresApiContextAdapter implements ApiContextPort {
         return repository.count();
     }
 
+    // ==========================================================================
+    // AGGREGATION & STREAMING (Payload-Free)
+    // ==========================================================================
+
+    @Override
+    public List<ApiCallCount> countCalls() {
+        return repository.countCalls().stream()
+                .map(this::toCallCount)
+                .toList();
+    }
+
+    @Override
+    public List<ApiCallCount> countCallsByScenarioKey(String scenarioKey) {
+        return repository.countCallsByScenarioKey(scenarioKey).stream()
+                .map(this::toCallCount)
+                .toList();
+    }
+
+    @Override
+    public Stream<ApiContextEntities> streamAll() {
+        return keysetStream(afterId -> repository.findByIdGreaterThanOrderByIdAsc(afterId, STREAM_PAGE));
+    }
+
+    @Override
+    public Stream<ApiContextEntities> streamByScenarioKey(String scenarioKey) {
+        return keysetStream(afterId ->
+                repository.findByScenarioKeyAndIdGreaterThanOrderByIdAsc(scenarioKey, afterId, STREAM_PAGE));
+    }
+
+    /**
+     * Lazily chain keyset pages: the next page is only queried once the
+     * previous one is consumed, and a short page ends the stream.
+     */
+    private Stream<ApiContextEntities> keysetStream(LongFunction<List<PostgresApiContextSummary>> pageAfter) {
+        return Stream.iterate(
+                        pageAfter.apply(0L),
+                        page -> !page.isEmpty(),
+                        page -> page.size() < STREAM_PAGE.getPageSize()
+                                ? List.<PostgresApiContextSummary>of()
+                                : pageAfter.apply(page.get(page.size() - 1).getId()))
+                .flatMap(List::stream)
+                .map(this::toDomain);
+    }
+
     // ==========================================================================
     // ENTITY MAPPING (Domain ↔ Persistence)
     // ==========================================================================
@@ -257,7 +361,7 @@ public class PostgresApiContextAdapter implements ApiContextPort {
      * @return PostgresApiContextEntity (JPA entity)
      */
     private PostgresApiContextEntity toEntity(ApiContextEntities domain) {
-        return PostgresApiContextEntity.builder()
+        PostgresApiContextEntity entity = PostgresApiContextEntity.builder()
                 .id(domain.getId())
                 .scenarioKey(domain.getScenarioKey())
                 .stepKey(domain.getStepKey())
@@ -270,15 +374,22 @@ public class PostgresApiContextAdapter implements ApiContextPort {
                 .httpMethod(domain.getHttpMethod() != null ? domain.getHttpMethod().name() : null)
                 .apiTemplate(domain.getApiTemplate())
                 .dataRepresentation(domain.getDataRepresentation())
-                .requestPayload(domain.getRequestPayload())
-                .responsePayload(domain.getResponsePayload())
                 .isService(domain.getIsService())
                 .orderNo(domain.getOrderNo())
                 .orderHeaderKey(domain.getOrderHeaderKey())
+                .durationMs(domain.getDurationMs())
                 .serviceName(domain.getServiceName())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .build();
+        if (compressPayloads) {
+            entity.setRequestHash(storePayload(domain.getRequestPayload()));
+            entity.setResponseHash(storePayload(domain.getResponsePayload()));
+        } else {
+            entity.setRequestPayload(domain.getRequestPayload());
+            entity.setResponsePayload(domain.getResponsePayload());
+        }
+        return entity;
     }
 
     /**
@@ -299,18 +410,100 @@ public class PostgresApiContextAdapter implements ApiContextPort {
                 .dataRepresentation(entity.getDataRepresentation())
                 .requestPayload(entity.getRequestPayload())
                 .responsePayload(entity.getResponsePayload())
+                .requestPayloadLoader(payloadLoader(entity.getRequestHash()))
+                .responsePayloadLoader(payloadLoader(entity.getResponseHash()))
                 .isService(entity.getIsService())
                 .stepKey(entity.getStepKey())
                 .stepName(entity.getStepName())
                 .stepExecutionIndex(entity.getStepExecutionIndex())
                 .orderNo(entity.getOrderNo())
                 .orderHeaderKey(entity.getOrderHeaderKey())
+                .durationMs(entity.getDurationMs())
                 .serviceName(entity.getServiceName())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * Convert payload-free projection to domain model (payload fields stay null).
+     */
+    private ApiContextEntities toDomain(PostgresApiContextSummary summary) {
+        return ApiContextEntities.builder()
+                .id(summary.getId())
+                .scenarioKey(summary.getScenarioKey())
+                .testCaseId(summary.getTestCaseId())
+                .exampleId(summary.getExampleId())
+                .apiName(summary.getApiName())
+                .callIndex(summary.getCallIndex())
+                .httpMethod(summary.getHttpMethod() != null ? HttpMethod.valueOf(summary.getHttpMethod()) : null)
+                .apiTemplate(summary.getApiTemplate())
+                .dataRepresentation(summary.getDataRepresentation())
+                .isService(summary.getIsService())
+                .stepKey(summary.getStepKey())
+                .stepName(summary.getStepName())
+                .stepExecutionIndex(summary.getStepExecutionIndex())
+                .orderNo(summary.getOrderNo())
+                .orderHeaderKey(summary.getOrderHeaderKey())
+                .durationMs(summary.getDurationMs())
+                .serviceName(summary.getServiceName())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    private ApiCallCount toCallCount(PostgresApiCallCountRow row) {
+        return new ApiCallCount(
+                row.getApiName(),
+                Boolean.TRUE.equals(row.getService()),
+                row.getServiceName(),
+                row.getHttpMethod(),
+                row.getDataRepresentation(),
+                row.getCalls() != null ? row.getCalls() : 0L);
+    }
+
+    // ==========================================================================
+    // COMPRESSED PAYLOAD STORAGE
+    // ==========================================================================
+
+    /**
+     * Store a payload blob once per distinct content.
+     *
+     * @return Content hash, or null for a null payload
+     */
+    private String storePayload(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String hash = PayloadCodec.hash(payload);
+        if (knownHashes.contains(hash)) {
+            return hash;
+        }
+        payloadRepository.insertIfAbsent(hash, PayloadCodec.CODEC,
+                payload.length(), PayloadCodec.compress(payload));
+        if (knownHashes.size() >= KNOWN_HASHES_MAX) {
+            knownHashes.clear();
+        }
+        knownHashes.add(hash);
+        return hash;
+    }
+
+    /**
+     * Deferred fetch + decompress of a blob; nothing is read until the
+     * domain payload getter is called.
+     */
+    private Supplier<String> payloadLoader(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        return () -> payloadRepository.findById(hash)
+                .map(blob -> PayloadCodec.decompress(blob.getData(), blob.getCodec()))
+                .orElseGet(() -> {
+                    logger.warn("Payload blob missing: hash={}", hash);
+                    return null;
+                });
+    }
+
     private void validateApiContext(ApiContextEntities apiContext) {
         if (apiContext.getStepKey() == null || apiContext.getStepKey().isBlank()) {
             throw new IllegalArgumentException("stepKey is required");
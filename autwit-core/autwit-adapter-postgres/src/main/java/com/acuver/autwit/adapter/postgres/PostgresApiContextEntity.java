@@ -59,8 +59,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 class PostgresApiContextEntity {
 
+    // Pooled sequence (INCREMENT BY 50 in schema-postgres.sql) so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_context_id")
+    @SequenceGenerator(name = "api_context_id", sequenceName = "api_context_id_seq", allocationSize = 50)
     private Long id;
 
     // Scenario isolation
@@ -109,6 +111,13 @@ class PostgresApiContextEntity {
     @Column(name = "response_payload", columnDefinition = "TEXT")
     private String responsePayload;
 
+    // Compressed payload storage: api_payload.hash references (payload columns stay null)
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "response_hash", length = 64)
+    private String responseHash;
+
     // Service identification
     @Column(name = "is_service", nullable = false)
     @Builder.Default
@@ -124,6 +133,10 @@ class PostgresApiContextEntity {
     @Column(name = "order_header_key", length = 100)
     private String orderHeaderKey;
 
+    // Call duration (BaseActionsNew.executeCall); null for rows before schema version 5
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
     // Timestamps
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,6 +1,9 @@
 package com.acuver.autwit.adapter.postgres;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.Optional;
  * - Scenario-level queries (LEGACY SUPPORT - for backward compatibility)
  * - Business entity queries (for order correlation)
  * - Analytics queries (cross-scenario)
+ * - Aggregation &amp; streaming queries (payload-free)
  *
  * @author AUTWIT Framework
  * @since 2.0.0
@@ -246,4 +250,54 @@ interface PostgresApiContextRepository extends JpaRepository<PostgresApiContextE
      * @return List of entities
      */
     List<PostgresApiContextEntity> findByDataRepresentation(String dataRepresentation);
+
+    // ==========================================================================
+    // AGGREGATION & STREAMING (Payload-Free)
+    // ==========================================================================
+
+    String COUNT_CALLS_SELECT =
+            "SELECT e.apiName AS apiName, e.isService AS service, e.serviceName AS serviceName, " +
+            "e.httpMethod AS httpMethod, e.dataRepresentation AS dataRepresentation, COUNT(e) AS calls " +
+            "FROM PostgresApiContextEntity e ";
+
+    String COUNT_CALLS_GROUP_BY =
+            " GROUP BY e.apiName, e.isService, e.serviceName, e.httpMethod, e.dataRepresentation";
+
+    /**
+     * API call counts across all scenarios, grouped in the database.
+     *
+     * @return One row per (apiName, isService, serviceName, httpMethod, dataRepresentation)
+     */
+    @Query(COUNT_CALLS_SELECT + COUNT_CALLS_GROUP_BY)
+    List<PostgresApiCallCountRow> countCalls();
+
+    /**
+     * API call counts for one scenario, grouped in the database.
+     * Uses the scenario_key index.
+     *
+     * @param scenarioKey Scenario identifier
+     * @return One row per group
+     */
+    @Query(COUNT_CALLS_SELECT + "WHERE e.scenarioKey = :scenarioKey" + COUNT_CALLS_GROUP_BY)
+    List<PostgresApiCallCountRow> countCallsByScenarioKey(@Param("scenarioKey") String scenarioKey);
+
+    /**
+     * Keyset page of payload-free rows after the given id.
+     *
+     * @param afterId  Last id of the previous page (0 for the first page)
+     * @param pageable Page size (page number must stay 0)
+     * @return Up to pageable.getPageSize() rows ordered by id
+     */
+    List<PostgresApiContextSummary> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Keyset page of one scenario's payload-free rows after the given id.
+     *
+     * @param scenarioKey Scenario identifier
+     * @param afterId     Last id of the previous page (0 for the first page)
+     * @param pageable    Page size (page number must stay 0)
+     * @return Up to pageable.getPageSize() rows ordered by id
+     */
+    List<PostgresApiContextSummary> findByScenarioKeyAndIdGreaterThanOrderByIdAsc(
+            String scenarioKey, Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.acuver.autwit.adapter.postgres;
+
+import java.time.LocalDateTime;
+
+/**
+ * PostgresApiContextSummary - Payload-free projection of api_context.
+ *
+ * <h2>INTERNAL USE ONLY</h2>
+ * Closed Spring Data projection: queries returning it select only these
+ * columns, never request_payload/response_payload. Used by the streaming
+ * reads of PostgresApiContextAdapter.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+interface PostgresApiContextSummary {
+
+    Long getId();
+
+    String getScenarioKey();
+
+    String getTestCaseId();
+
+    String getExampleId();
+
+    String getStepKey();
+
+    String getStepName();
+
+    Integer getStepExecutionIndex();
+
+    String getApiName();
+
+    Integer getCallIndex();
+
+    String getHttpMethod();
+
+    String getApiTemplate();
+
+    String getDataRepresentation();
+
+    Boolean getIsService();
+
+    String getServiceName();
+
+    String getOrderNo();
+
+    String getOrderHeaderKey();
+
+    Long getDurationMs();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
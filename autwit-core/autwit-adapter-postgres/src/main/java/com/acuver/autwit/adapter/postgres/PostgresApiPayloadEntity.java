@@ -0,0 +1,49 @@
+package com.acuver.autwit.adapter.postgres;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * PostgresApiPayloadEntity - Compressed, content-addressed API payload blob.
+ *
+ * <h2>INTERNAL USE ONLY</h2>
+ * Referenced from api_context.request_hash / response_hash when
+ * {@code autwit.api-context.payload-storage=compressed}. One row per distinct
+ * payload, shared by every call that sent or received it.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Entity
+@Table(name = "api_payload")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+class PostgresApiPayloadEntity {
+
+    /** SHA-256 of the uncompressed payload. */
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    @Column(name = "codec", nullable = false, length = 32)
+    private String codec;
+
+    @Column(name = "original_size", nullable = false)
+    private Integer originalSize;
+
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
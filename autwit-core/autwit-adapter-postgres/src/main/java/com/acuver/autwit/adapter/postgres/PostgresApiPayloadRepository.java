@@ -0,0 +1,36 @@
+package com.acuver.autwit.adapter.postgres;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PostgresApiPayloadRepository - Spring Data JPA repository for payload blobs.
+ *
+ * <h2>INTERNAL USE ONLY</h2>
+ * Used only by PostgresApiContextAdapter.
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Repository
+interface PostgresApiPayloadRepository extends JpaRepository<PostgresApiPayloadEntity, String> {
+
+    /**
+     * Store a blob unless one with the same hash exists (single statement, race-free).
+     *
+     * @return 1 if inserted, 0 if already present
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO api_payload (hash, codec, original_size, data, created_at) " +
+            "VALUES (:hash, :codec, :originalSize, :data, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash,
+                       @Param("codec") String codec,
+                       @Param("originalSize") int originalSize,
+                       @Param("data") byte[] data);
+}
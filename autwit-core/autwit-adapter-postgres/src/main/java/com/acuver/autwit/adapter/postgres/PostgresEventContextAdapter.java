@@ -3,27 +3,121 @@ package com.acuver.autwit.adapter.postgres;
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "autwit.database", havingValue = "postgres")
 public class PostgresEventContextAdapter implements EventContextPort {
 
+    /** Upper bound on pairs per IN query (keeps bind-parameter count well below driver limits). */
+    private static final int BATCH_CHUNK_SIZE = 1000;
+
+    /**
+     * Batched event upsert; a JDBC batch of it is rewritten into multi-row
+     * INSERTs by the driver (reWriteBatchedInserts). On conflict only the event
+     * columns are updated: a paused scenario row with the same canonical key
+     * keeps paused / resume_ready / retry_count / first_paused_at / last_retry_at,
+     * so ResumeEngine still finds it paused when the event is published.
+     */
+    private static final String UPSERT_SQL =
+            "INSERT INTO event_context (canonical_key, order_id, event_type, event_timestamp, kafka_payload, " +
+            "paused, resume_ready, retry_count, first_paused_at, last_retry_at, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (canonical_key) DO UPDATE SET " +
+            "order_id = EXCLUDED.order_id, event_type = EXCLUDED.event_type, " +
+            "event_timestamp = EXCLUDED.event_timestamp, kafka_payload = EXCLUDED.kafka_payload, " +
+            "status = EXCLUDED.status, created_at = EXCLUDED.created_at";
+
+    /**
+     * Pause as one statement: a missing row is inserted paused, an existing
+     * row (event or earlier pause) only gets paused / last_retry_at, and
+     * first_paused_at is kept once set. Concurrent pauses of the same key
+     * cannot both insert.
+     */
+    private static final String PAUSE_UPSERT_SQL =
+            "INSERT INTO event_context (canonical_key, order_id, event_type, event_timestamp, kafka_payload, " +
+            "paused, resume_ready, retry_count, first_paused_at, last_retry_at, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, TRUE, FALSE, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (canonical_key) DO UPDATE SET paused = TRUE, last_retry_at = EXCLUDED.last_retry_at, " +
+            "first_paused_at = CASE WHEN COALESCE(event_context.first_paused_at, 0) = 0 " +
+            "THEN EXCLUDED.first_paused_at ELSE event_context.first_paused_at END";
+
     private final PostgresEventContextRepository repo;
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+
+    /** Present only with autwit.postgres.notify.enabled=true. */
+    private final ObjectProvider<PostgresEventNotifyChannel> notifyChannel;
 
     // ------------------------------------------------------------
     // SAVE
     // ------------------------------------------------------------
     @Override
     public void save(EventContextEntities ctx) {
+        if (!ctx.isPaused()) {
+            // Event row: upsert that keeps a paused scenario's state (and notifies)
+            saveAll(List.of(ctx));
+            return;
+        }
         repo.save(toEntity(ctx));
     }
 
+    /**
+     * One transaction, one JDBC batch of upserts. Duplicate keys are collapsed
+     * first (last wins): a multi-row upsert cannot touch the same row twice.
+     */
+    @Override
+    public void saveAll(List<EventContextEntities> contexts) {
+        if (contexts == null || contexts.isEmpty()) {
+            return;
+        }
+        Map<String, EventContextEntities> latest = new LinkedHashMap<>();
+        for (EventContextEntities ctx : contexts) {
+            latest.put(ctx.getCanonicalKey(), ctx);
+        }
+        List<EventContextEntities> rows = List.copyOf(latest.values());
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbc.batchUpdate(UPSERT_SQL, rows, BATCH_CHUNK_SIZE, (ps, ctx) -> {
+                    ps.setString(1, ctx.getCanonicalKey());
+                    ps.setString(2, ctx.getOrderId());
+                    ps.setString(3, ctx.getEventType());
+                    ps.setLong(4, ctx.getEventTimestamp());
+                    ps.setString(5, ctx.getKafkaPayload());
+                    ps.setBoolean(6, ctx.isPaused());
+                    ps.setBoolean(7, ctx.isResumeReady());
+                    ps.setInt(8, ctx.getRetryCount());
+                    ps.setLong(9, ctx.getFirstPausedAt());
+                    ps.setLong(10, ctx.getLastRetryAt());
+                    ps.setString(11, ctx.getStatus());
+                    ps.setLong(12, ctx.getCreatedAt());
+                }));
+
+        // Batch is committed: wake up listeners in every instance (event rows only)
+        notifyChannel.ifAvailable(channel -> rows.stream()
+                .filter(ctx -> !ctx.isPaused())
+                .forEach(ctx -> channel.publish(ctx.getCanonicalKey())));
+    }
+
     // ------------------------------------------------------------
     // FIND
     // ------------------------------------------------------------
@@ -33,6 +127,38 @@ public class PostgresEventContextAdapter implements EventContextPort {
                 .map(this::toDomain);
     }
 
+    // ------------------------------------------------------------
+    // BATCHED FIND LATEST
+    // ------------------------------------------------------------
+    @Override
+    public Map<OrderEventKey, EventContextEntities> findLatestBatch(Collection<OrderEventKey> keys) {
+        Map<OrderEventKey, EventContextEntities> result = new HashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        Set<OrderEventKey> requested = keys.stream()
+                .filter(k -> k.orderId() != null && k.eventType() != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<OrderEventKey> ordered = List.copyOf(requested);
+
+        for (int i = 0; i < ordered.size(); i += BATCH_CHUNK_SIZE) {
+            List<OrderEventKey> chunk = ordered.subList(i, Math.min(i + BATCH_CHUNK_SIZE, ordered.size()));
+            Set<String> orderIds = chunk.stream().map(OrderEventKey::orderId).collect(Collectors.toSet());
+            Set<String> eventTypes = chunk.stream().map(OrderEventKey::eventType).collect(Collectors.toSet());
+
+            for (PostgresEventContextEntity e : repo.findLatestForOrdersAndEventTypes(orderIds, eventTypes)) {
+                OrderEventKey key = new OrderEventKey(e.getOrderId(), e.getEventType());
+                // IN x IN is a cross product — keep only pairs that were actually asked for
+                if (requested.contains(key)) {
+                    result.merge(key, toDomain(e),
+                            (a, b) -> a.getEventTimestamp() >= b.getEventTimestamp() ? a : b);
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public Optional<EventContextEntities> findByCanonicalKey(String key) {
         return repo.findByCanonicalKey(key).map(this::toDomain);
@@ -42,36 +168,26 @@ public class PostgresEventContextAdapter implements EventContextPort {
     // UPDATE FLAGS
     // ------------------------------------------------------------
     @Override
-    public void markPaused(EventContextEntities ctx) {
-        repo.findByCanonicalKey(ctx.getCanonicalKey()).ifPresentOrElse(existing -> {
-
-            PostgresEventContextEntity updated = existing.toBuilder()
-                    .paused(true)
-                    .firstPausedAt(existing.getFirstPausedAt() == 0
-                            ? System.currentTimeMillis()
-                            : existing.getFirstPausedAt())
-                    .lastRetryAt(System.currentTimeMillis())
-                    .build();
-
-            repo.save(updated);
-
-        }, () -> {
-            // Create fresh paused entry
-            PostgresEventContextEntity newEnt = toEntity(ctx).toBuilder()
-                    .paused(true)
-                    .firstPausedAt(System.currentTimeMillis())
-                    .lastRetryAt(System.currentTimeMillis())
-                    .build();
-
-            repo.save(newEnt);
+    public int markPaused(EventContextEntities ctx) {
+        long now = System.currentTimeMillis();
+        return new JdbcTemplate(dataSource).update(PAUSE_UPSERT_SQL, ps -> {
+            ps.setString(1, ctx.getCanonicalKey());
+            ps.setString(2, ctx.getOrderId());
+            ps.setString(3, ctx.getEventType());
+            ps.setLong(4, ctx.getEventTimestamp());
+            ps.setString(5, ctx.getKafkaPayload());
+            ps.setInt(6, ctx.getRetryCount());
+            ps.setLong(7, now);
+            ps.setLong(8, now);
+            ps.setString(9, ctx.getStatus());
+            // The poller's keyset mark orders by created_at: keep the caller's value
+            ps.setLong(10, ctx.getCreatedAt() > 0 ? ctx.getCreatedAt() : now);
         });
     }
 
     @Override
-    public void markResumeReady(String canonicalKey) {
-        repo.findByCanonicalKey(canonicalKey).ifPresent(ent -> {
-            repo.save(ent.toBuilder().resumeReady(true).build());
-        });
+    public int markResumeReady(String canonicalKey) {
+        return repo.markResumeReadyIfPaused(canonicalKey);
     }
 
     @Override
@@ -98,6 +214,23 @@ public class PostgresEventContextAdapter implements EventContextPort {
                 .toList();
     }
 
+    @Override
+    public List<EventContextEntities> findResumeReady(int limit) {
+        return repo.findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc(PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                       int limit) {
+        return repo.findCreatedAfter(afterCreatedAt, afterKey, untilInclusive, PageRequest.of(0, limit))
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     // ------------------------------------------------------------
     // MAPPING
     // ------------------------------------------------------------
@@ -1,6 +1,12 @@
 package com.acuver.autwit.adapter.postgres;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +21,42 @@ public interface PostgresEventContextRepository
     List<PostgresEventContextEntity> findByOrderId(String orderId);
     List<PostgresEventContextEntity> findByPausedTrue();
 
-}
\ No newline at end of file
+    List<PostgresEventContextEntity> findByPausedTrueAndResumeReadyTrueOrderByFirstPausedAtAsc(Pageable pageable);
+
+    /**
+     * Keyset page for the poller: rows after (afterTs, afterKey) in
+     * (createdAt, canonicalKey) order, up to the until bound.
+     */
+    @Query("SELECT e FROM PostgresEventContextEntity e WHERE e.createdAt <= :until " +
+            "AND (e.createdAt > :afterTs OR (e.createdAt = :afterTs AND e.canonicalKey > :afterKey)) " +
+            "ORDER BY e.createdAt ASC, e.canonicalKey ASC")
+    List<PostgresEventContextEntity> findCreatedAfter(@Param("afterTs") long afterCreatedAt,
+                                                      @Param("afterKey") String afterKey,
+                                                      @Param("until") long untilInclusive,
+                                                      Pageable pageable);
+
+    /**
+     * Latest event per (orderId, eventType) for all pairs in the cross product
+     * of the given ids/types — one round trip. Callers filter to the exact
+     * requested pairs and break eventTimestamp ties.
+     */
+    @Query("SELECT e FROM PostgresEventContextEntity e " +
+            "WHERE e.orderId IN :orderIds AND e.eventType IN :eventTypes " +
+            "AND e.eventTimestamp = (" +
+            "  SELECT MAX(x.eventTimestamp) FROM PostgresEventContextEntity x " +
+            "  WHERE x.orderId = e.orderId AND x.eventType = e.eventType)")
+    List<PostgresEventContextEntity> findLatestForOrdersAndEventTypes(
+            @Param("orderIds") Collection<String> orderIds,
+            @Param("eventTypes") Collection<String> eventTypes);
+
+    /**
+     * Atomic paused → resumeReady transition.
+     *
+     * @return 1 if the row moved to resumeReady, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostgresEventContextEntity e SET e.resumeReady = true " +
+            "WHERE e.canonicalKey = :key AND e.paused = true AND e.resumeReady = false")
+    int markResumeReadyIfPaused(@Param("key") String canonicalKey);
+}
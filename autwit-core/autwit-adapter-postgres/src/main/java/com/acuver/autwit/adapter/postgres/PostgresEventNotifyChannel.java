@@ -0,0 +1,299 @@
+package com.acuver.autwit.adapter.postgres;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventReceiverPort;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PostgresEventNotifyChannel - LISTEN/NOTIFY push of event_context arrivals.
+ *
+ * <h2>WHY</h2>
+ * <p>Without it, another JVM (or a writer that does not publish to the local
+ * InMemoryEventBus) only learns about a new event row from the EventPoller's
+ * fixed-delay scan. With it, every event row saved through
+ * PostgresEventContextAdapter issues {@code pg_notify}, and each running
+ * instance's listener connection hands the row to its EventReceiverPort
+ * (InMemoryEventBus → ResumeEngine / EventStepNotifier) within milliseconds.</p>
+ *
+ * <h2>FLOW</h2>
+ * <pre>
+ * PostgresEventContextAdapter.save(event)
+ *     → SELECT pg_notify('autwit_events', '{instanceId}|{canonicalKey}')
+ * listener thread (dedicated, non-pooled connection, LISTEN autwit_events)
+ *     → findByCanonicalKey → EventReceiverPort.receive(event)
+ * </pre>
+ *
+ * <h2>DELIVERY</h2>
+ * <ul>
+ *   <li>Notifications are sent after the row is committed, so the listener can
+ *       always read it.</li>
+ *   <li>Own notifications are skipped by default: in the saving JVM the
+ *       Kafka consumer already published the event to the bus.</li>
+ *   <li>Saves made while a notified event is being dispatched do not notify
+ *       again, so instances never bounce the same event back and forth.</li>
+ *   <li>NOTIFY is not durable. While the listener is reconnecting, arrivals
+ *       are only found by the EventPoller sweep, which stays enabled; raise
+ *       {@code autwit.poller.delay-ms} to make it a slow consistency sweep.</li>
+ * </ul>
+ *
+ * <h2>CONFIGURATION</h2>
+ * <pre>
+ * autwit.postgres.notify.enabled   (default false)
+ * autwit.postgres.notify.channel   (default autwit_events)
+ * autwit.postgres.notify.skip-own  (default true)
+ * </pre>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnExpression("'${autwit.database:}' == 'postgres' and ${autwit.postgres.notify.enabled:false}")
+public class PostgresEventNotifyChannel {
+
+    private static final Logger log = LogManager.getLogger(PostgresEventNotifyChannel.class);
+
+    private static final char SEPARATOR = '|';
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbc;
+    private final Environment env;
+    private final ObjectProvider<EventContextPort> storageProvider;
+    private final ObjectProvider<EventReceiverPort> receiverProvider;
+    private final String channel;
+    private final boolean skipOwn;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /** Set on the listener thread while subscribers handle a notified event. */
+    private static final ThreadLocal<Boolean> DISPATCHING = ThreadLocal.withInitial(() -> false);
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listener;
+
+    // ═══════════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder skippedOwn = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    public PostgresEventNotifyChannel(DataSource dataSource,
+                                      Environment env,
+                                      ObjectProvider<EventContextPort> storageProvider,
+                                      ObjectProvider<EventReceiverPort> receiverProvider,
+                                      @Value("${autwit.postgres.notify.channel:autwit_events}") String channel,
+                                      @Value("${autwit.postgres.notify.skip-own:true}") boolean skipOwn) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid autwit.postgres.notify.channel: " + channel);
+        }
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.env = env;
+        this.storageProvider = storageProvider;
+        this.receiverProvider = receiverProvider;
+        this.channel = channel;
+        this.skipOwn = skipOwn;
+    }
+
+    // ==========================================================================
+    // SEND
+    // ==========================================================================
+
+    /**
+     * Announce a committed event row to every listening instance.
+     * Failures are logged only; the poller sweep still finds the row.
+     */
+    public void publish(String canonicalKey) {
+        if (canonicalKey == null || DISPATCHING.get()) {
+            return;
+        }
+        try {
+            jdbc.queryForList("SELECT pg_notify(?, ?)", channel, instanceId + SEPARATOR + canonicalKey);
+            sent.increment();
+        } catch (Exception e) {
+            sendFailures.increment();
+            log.warn("⚠️ pg_notify failed for {}: {}", canonicalKey, e.getMessage());
+        }
+    }
+
+    // ==========================================================================
+    // LISTEN
+    // ==========================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "PostgresEventNotifyChannel");
+        listener.setDaemon(true);
+        listener.start();
+        log.info("📡 LISTEN {} started (instance {}, skip-own={})", channel, instanceId, skipOwn);
+    }
+
+    private void listenLoop() {
+        long backoffMs = 1_000;
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                listenConnection = connection;
+                backoffMs = 1_000;
+                PGConnection pg = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                reconnects.increment();
+                log.warn("⚠️ LISTEN {} connection lost, reconnecting in {} ms: {}",
+                        channel, backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    /**
+     * Dedicated connection outside the Hikari pool: it is held for the whole
+     * run and must not count against the pool size.
+     */
+    private Connection openListenConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                env.getRequiredProperty("spring.datasource.url"),
+                env.getProperty("spring.datasource.username"),
+                env.getProperty("spring.datasource.password"));
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+        return connection;
+    }
+
+    private void dispatch(String payload) {
+        received.increment();
+        int split = payload.indexOf(SEPARATOR);
+        if (split < 0) {
+            log.debug("Ignoring foreign notification on {}: {}", channel, payload);
+            return;
+        }
+        if (skipOwn && split == instanceId.length() && payload.startsWith(instanceId)) {
+            skippedOwn.increment();
+            return;
+        }
+        String canonicalKey = payload.substring(split + 1);
+
+        EventContextPort storage = storageProvider.getIfAvailable();
+        EventReceiverPort receiver = receiverProvider.getIfAvailable();
+        if (storage == null || receiver == null) {
+            return;
+        }
+        try {
+            Optional<EventContextEntities> event = storage.findByCanonicalKey(canonicalKey);
+            if (event.isEmpty() || event.get().isPaused()) {
+                return;
+            }
+            DISPATCHING.set(true);
+            try {
+                receiver.receive(event.get());
+            } finally {
+                DISPATCHING.set(false);
+            }
+            delivered.increment();
+            log.debug("📡 Notified event delivered to bus: {}", canonicalKey);
+        } catch (Exception e) {
+            log.error("Failed to deliver notified event {}: {}", canonicalKey, e.getMessage(), e);
+        }
+    }
+
+    // ==========================================================================
+    // LIFECYCLE
+    // ==========================================================================
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // closing only to unblock getNotifications
+            }
+        }
+        if (listener != null) {
+            try {
+                listener.join(2 * POLL_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("📡 LISTEN {}: sent={} (failed {}), received={}, own skipped={}, delivered={}, reconnects={}",
+                channel, sent.sum(), sendFailures.sum(), received.sum(), skippedOwn.sum(),
+                delivered.sum(), reconnects.sum());
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    public long getSkippedOwn() {
+        return skippedOwn.sum();
+    }
+
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+}
@@ -222,6 +222,8 @@ public class PostgresJpaConfig {
         config.setConnectionTimeout(30000);
         config.setIdleTimeout(600000);
         config.setMaxLifetime(1800000);
+        // Driver rewrites JDBC insert batches into multi-row INSERT statements
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
 
         log.info("PostgreSQL DataSource configured: url={}, username={}", url, username);
         return new HikariDataSource(config);
@@ -289,6 +291,11 @@ public class PostgresJpaConfig {
                 env.getProperty("spring.jpa.properties.hibernate.format-sql", "false"));
         properties.put("hibernate.format_sql", formatSql);
 
+        // JDBC batching (API context write-behind batches)
+        properties.put("hibernate.jdbc.batch_size",
+                env.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50"));
+        properties.put("hibernate.order_inserts", "true");
+
         em.setJpaPropertyMap(properties);
 
         log.info("PostgreSQL EntityManagerFactory configured");
@@ -0,0 +1,308 @@
+package com.acuver.autwit.adapter.postgres;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventReceiverPort;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * LISTEN/NOTIFY against an embedded PostgreSQL.
+ *
+ * <p>Each "instance" is a PostgresEventNotifyChannel with its own listener
+ * connection and receiver. Events are saved through
+ * PostgresEventContextAdapter.saveAll, the path that publishes in production.</p>
+ */
+public class PostgresEventNotifyChannelTest {
+
+    private static final String CHANNEL = "autwit_events";
+    private static final long TIMEOUT_MS = 10_000;
+    private static final long QUIET_MS = 500;
+
+    private EmbeddedPostgres postgres;
+    private DataSource dataSource;
+    private PlatformTransactionManager transactionManager;
+    private JdbcTemplate jdbc;
+
+    private final List<PostgresEventNotifyChannel> channels = new ArrayList<>();
+
+    @BeforeClass
+    public void startPostgres() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS event_context (" +
+                "canonical_key VARCHAR(200) PRIMARY KEY, order_id VARCHAR(100) NOT NULL, " +
+                "event_type VARCHAR(200), event_timestamp BIGINT, kafka_payload TEXT, " +
+                "paused BOOLEAN DEFAULT FALSE, resume_ready BOOLEAN DEFAULT FALSE, retry_count INT DEFAULT 0, " +
+                "first_paused_at BIGINT, last_retry_at BIGINT, status VARCHAR(100), created_at BIGINT)");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopPostgres() throws Exception {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeMethod
+    public void clearTable() {
+        jdbc.update("DELETE FROM event_context");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopChannels() {
+        channels.forEach(PostgresEventNotifyChannel::stop);
+        channels.clear();
+    }
+
+    // ==========================================================================
+    // TESTS
+    // ==========================================================================
+
+    @Test
+    public void savedEventReachesAnotherInstanceWithItsCommittedRow() {
+        Instance writer = instance(true);
+        Instance reader = instance(true);
+
+        writer.adapter.saveAll(List.of(event("ORD-1", "{\"n\":1}")));
+
+        awaitTrue(() -> reader.received.size() == 1, "reader never received the event");
+        // dispatch() drops keys whose row it cannot read, so the row was committed
+        assertEquals(reader.received.get(0).getKafkaPayload(), "{\"n\":1}");
+        assertEquals(reader.channel.getDelivered(), 1);
+        assertEquals(writer.channel.getSent(), 1);
+    }
+
+    @Test
+    public void notificationWaitsForTheEnclosingTransactionToCommit() {
+        Instance writer = instance(true);
+        Instance reader = instance(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            writer.adapter.saveAll(List.of(event("ORD-2", "{\"n\":2}")));
+            pause(QUIET_MS);
+            assertEquals(reader.received.size(), 0, "notification delivered before commit");
+        });
+
+        awaitTrue(() -> reader.received.size() == 1, "reader never received the event after commit");
+        assertEquals(reader.received.get(0).getOrderId(), "ORD-2");
+    }
+
+    @Test
+    public void ownNotificationsAreSkipped() {
+        Instance writer = instance(true);
+        Instance reader = instance(true);
+
+        writer.adapter.saveAll(List.of(event("ORD-3", "{\"n\":3}")));
+
+        awaitTrue(() -> reader.received.size() == 1, "reader never received the event");
+        awaitTrue(() -> writer.channel.getSkippedOwn() == 1, "writer did not skip its own notification");
+        pause(QUIET_MS);
+        assertEquals(writer.received.size(), 0);
+        assertEquals(writer.channel.getDelivered(), 0);
+    }
+
+    @Test
+    public void ownNotificationsAreDeliveredWithSkipOwnDisabled() {
+        Instance writer = instance(false);
+
+        writer.adapter.saveAll(List.of(event("ORD-4", "{\"n\":4}")));
+
+        awaitTrue(() -> writer.received.size() == 1, "own notification not delivered");
+        assertEquals(writer.channel.getSkippedOwn(), 0);
+    }
+
+    @Test
+    public void savesMadeWhileDispatchingDoNotNotifyAgain() {
+        Instance writer = instance(false);
+        writer.onReceive = ctx -> writer.adapter.saveAll(List.of(ctx));
+
+        writer.adapter.saveAll(List.of(event("ORD-5", "{\"n\":5}")));
+
+        awaitTrue(() -> writer.received.size() == 1, "own notification not delivered");
+        pause(QUIET_MS);
+        assertEquals(writer.received.size(), 1, "re-saved event bounced back");
+        assertEquals(writer.channel.getSent(), 1);
+    }
+
+    // ==========================================================================
+    // HELPERS
+    // ==========================================================================
+
+    /** Channel + adapter + recording receiver, listening before it is returned. */
+    private Instance instance(boolean skipOwn) {
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource("embedded", Map.of(
+                "spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"),
+                "spring.datasource.username", "postgres")));
+
+        Instance instance = new Instance();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("storage", new JdbcStore(jdbc));
+        beans.addBean("receiver", (EventReceiverPort) ctx -> {
+            instance.received.add(ctx);
+            instance.onReceive.accept(ctx);
+        });
+
+        instance.channel = new PostgresEventNotifyChannel(dataSource, env,
+                beans.getBeanProvider(EventContextPort.class), beans.getBeanProvider(EventReceiverPort.class),
+                CHANNEL, skipOwn);
+        channels.add(instance.channel);
+
+        beans.addBean("channel", instance.channel);
+        ObjectProvider<PostgresEventNotifyChannel> provider = beans.getBeanProvider(PostgresEventNotifyChannel.class);
+        // saveAll only uses JDBC; the JPA repository is not needed here
+        instance.adapter = new PostgresEventContextAdapter(null, dataSource, transactionManager, provider);
+
+        instance.channel.start();
+        awaitListening(instance.channel);
+        return instance;
+    }
+
+    /**
+     * LISTEN runs on the listener thread: send payloads without a separator
+     * (ignored by dispatch) until one is received.
+     */
+    private void awaitListening(PostgresEventNotifyChannel channel) {
+        awaitTrue(() -> {
+            jdbc.queryForList("SELECT pg_notify(?, ?)", CHANNEL, "ready");
+            pause(50);
+            return channel.getReceived() > 0;
+        }, "listener never subscribed");
+    }
+
+    private static EventContextEntities event(String orderId, String payload) {
+        long now = System.currentTimeMillis();
+        return EventContextEntities.builder()
+                .canonicalKey(orderId + "_ORDER_CREATED")
+                .orderId(orderId)
+                .eventType("ORDER_CREATED")
+                .eventTimestamp(now)
+                .kafkaPayload(payload)
+                .status("RECEIVED")
+                .createdAt(now)
+                .build();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String message) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, message);
+            pause(20);
+        }
+    }
+
+    private static void pause(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Instance {
+        PostgresEventNotifyChannel channel;
+        PostgresEventContextAdapter adapter;
+        final List<EventContextEntities> received = new CopyOnWriteArrayList<>();
+        volatile Consumer<EventContextEntities> onReceive = ctx -> {
+        };
+    }
+
+    /**
+     * Reads event rows over plain JDBC; the listener only needs findByCanonicalKey.
+     */
+    private static final class JdbcStore implements EventContextPort {
+
+        private final JdbcTemplate jdbc;
+
+        JdbcStore(JdbcTemplate jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        @Override
+        public Optional<EventContextEntities> findByCanonicalKey(String key) {
+            return jdbc.query("SELECT canonical_key, order_id, event_type, kafka_payload, paused " +
+                            "FROM event_context WHERE canonical_key = ?",
+                    (rs, i) -> EventContextEntities.builder()
+                            .canonicalKey(rs.getString(1))
+                            .orderId(rs.getString(2))
+                            .eventType(rs.getString(3))
+                            .kafkaPayload(rs.getString(4))
+                            .paused(rs.getBoolean(5))
+                            .build(),
+                    key).stream().findFirst();
+        }
+
+        @Override
+        public void save(EventContextEntities ctx) {
+        }
+
+        @Override
+        public Optional<EventContextEntities> findLatest(String orderId, String eventType) {
+            return Optional.empty();
+        }
+
+        @Override
+        public int markPaused(EventContextEntities ctx) {
+            return 0;
+        }
+
+        @Override
+        public int markResumeReady(String canonicalKey) {
+            return 0;
+        }
+
+        @Override
+        public boolean isResumeReady(String canonicalKey) {
+            return false;
+        }
+
+        @Override
+        public List<EventContextEntities> findByOrderId(String orderId) {
+            return List.of();
+        }
+
+        @Override
+        public List<EventContextEntities> findPaused() {
+            return List.of();
+        }
+
+        @Override
+        public List<EventContextEntities> findResumeReady(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                           int limit) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.acuver.autwit.core.domain;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ApiCallCount - One group of an API call count aggregation.
+ *
+ * <h2>PURPOSE</h2>
+ * <p>Payload-free input for {@link ApiCallStatistics}. Adapters compute these
+ * groups in the store (SQL GROUP BY, Mongo {@code $group}), so statistics never
+ * materialize api_context rows or their XML payloads.</p>
+ *
+ * <h2>GROUPING</h2>
+ * (apiName, service, serviceName, httpMethod, dataRepresentation)
+ *
+ * @param apiName            API or service name
+ * @param service            Whether the calls were service/flow calls
+ * @param serviceName        Service name (service calls only)
+ * @param httpMethod         HTTP method name
+ * @param dataRepresentation Payload format (XML, JSON)
+ * @param calls              Number of calls in the group
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public record ApiCallCount(String apiName,
+                           boolean service,
+                           String serviceName,
+                           String httpMethod,
+                           String dataRepresentation,
+                           long calls) {
+
+    /**
+     * In-memory grouping, for adapters without a store-side aggregation and
+     * for small step/order-scoped sets.
+     */
+    public static List<ApiCallCount> group(Collection<ApiContextEntities> contexts) {
+        Map<ApiCallCount, Long> counts = new HashMap<>();
+        for (ApiContextEntities ctx : contexts) {
+            ApiCallCount key = new ApiCallCount(
+                    ctx.getApiName(),
+                    Boolean.TRUE.equals(ctx.getIsService()),
+                    ctx.getServiceName(),
+                    ctx.getHttpMethod() != null ? ctx.getHttpMethod().name() : null,
+                    ctx.getDataRepresentation(),
+                    0L);
+            counts.merge(key, 1L, Long::sum);
+        }
+        return counts.entrySet().stream()
+                .map(e -> new ApiCallCount(e.getKey().apiName(), e.getKey().service(),
+                        e.getKey().serviceName(), e.getKey().httpMethod(),
+                        e.getKey().dataRepresentation(), e.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.acuver.autwit.core.domain;
+
+/**
+ * ApiCallLatency - Latency and volume snapshot for one API or service.
+ *
+ * <h2>NOT AN ENTITY</h2>
+ * Computed value object: read from the live per-API histograms
+ * ({@link com.acuver.autwit.core.ports.ApiCallMetricsPort}) or from the
+ * durations stored on api_context rows. Percentiles are histogram bucket
+ * upper bounds, so they are accurate to the bucket width (about 10%).
+ *
+ * @param name      API name, or service name for service calls
+ * @param service   Whether the calls were service/flow calls
+ * @param calls     Calls recorded
+ * @param errors    Calls that returned a Sterling {@code <Errors>} document or failed
+ *                  (live metrics only; 0 when derived from stored rows)
+ * @param bytes     Total response bytes (live metrics only; 0 when derived from stored rows)
+ * @param meanMs    Mean duration
+ * @param p50Ms     Median duration
+ * @param p95Ms     95th percentile duration
+ * @param p99Ms     99th percentile duration
+ * @param maxMs     Slowest call
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public record ApiCallLatency(String name,
+                             boolean service,
+                             long calls,
+                             long errors,
+                             long bytes,
+                             double meanMs,
+                             long p50Ms,
+                             long p95Ms,
+                             long p99Ms,
+                             long maxMs) {
+
+    /**
+     * Error rate as percentage.
+     */
+    public double getErrorPercentage() {
+        return calls == 0 ? 0.0 : (errors * 100.0) / calls;
+    }
+}
@@ -5,14 +5,19 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * ApiCallStatistics - Value object for API call analytics.
  *
  * <h2>NOT AN ENTITY</h2>
  * This is a computed value object, not persisted to database.
- * Created by ApiContextServiceImpl from stored ApiContextEntities.
+ * Created by ApiContextServiceImpl from store-side ApiCallCount groups
+ * (see {@link #from}); latency maps are attached with {@link #withLatencies}.
  *
  * @author AUTWIT Framework
  * @since 2.0.0
@@ -62,6 +67,85 @@ public class ApiCallStatistics {
      */
     private String mostUsedService;
 
+    /**
+     * Latency percentiles per API name (regular API calls).
+     * Key: API name, in descending p95 order.
+     */
+    private Map<String, ApiCallLatency> latencyByApi;
+
+    /**
+     * Latency percentiles per service name (service/flow calls).
+     * Key: Service name, in descending p95 order.
+     */
+    private Map<String, ApiCallLatency> latencyByService;
+
+    /**
+     * Build statistics from grouped call counts (single pass over the groups).
+     *
+     * @param counts Store-side or in-memory aggregation groups
+     * @return Statistics; zero/"N/A" values when there are no calls
+     */
+    public static ApiCallStatistics from(Collection<ApiCallCount> counts) {
+        long total = 0;
+        long services = 0;
+        Map<String, Long> byMethod = new TreeMap<>();
+        Map<String, Long> byFormat = new TreeMap<>();
+        Map<String, Long> byApi = new HashMap<>();
+        Map<String, Long> byService = new HashMap<>();
+
+        for (ApiCallCount c : counts) {
+            total += c.calls();
+            if (c.service()) {
+                services += c.calls();
+                if (c.serviceName() != null) {
+                    byService.merge(c.serviceName(), c.calls(), Long::sum);
+                }
+            } else if (c.apiName() != null) {
+                byApi.merge(c.apiName(), c.calls(), Long::sum);
+            }
+            if (c.httpMethod() != null) {
+                byMethod.merge(c.httpMethod(), c.calls(), Long::sum);
+            }
+            if (c.dataRepresentation() != null) {
+                byFormat.merge(c.dataRepresentation(), c.calls(), Long::sum);
+            }
+        }
+
+        return ApiCallStatistics.builder()
+                .totalCalls(total)
+                .apiCalls(total - services)
+                .serviceCalls(services)
+                .callsByHttpMethod(byMethod)
+                .callsByDataRepresentation(byFormat)
+                .mostUsedApi(mostUsed(byApi))
+                .mostUsedService(mostUsed(byService))
+                .build();
+    }
+
+    /**
+     * Attach per-API and per-service latency figures.
+     *
+     * @param latencies Snapshot entries, already in the desired order
+     * @return this
+     */
+    public ApiCallStatistics withLatencies(Collection<ApiCallLatency> latencies) {
+        Map<String, ApiCallLatency> apis = new LinkedHashMap<>();
+        Map<String, ApiCallLatency> services = new LinkedHashMap<>();
+        for (ApiCallLatency latency : latencies) {
+            (latency.service() ? services : apis).put(latency.name(), latency);
+        }
+        this.latencyByApi = apis;
+        this.latencyByService = services;
+        return this;
+    }
+
+    private static String mostUsed(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("N/A");
+    }
+
     /**
      * Calculate service call percentage.
      */
@@ -100,7 +184,20 @@ public class ApiCallStatistics {
                     sb.append(String.format("  %s: %d%n", format, count)));
         }
 
+        appendLatencies(sb, "\nLatency by API", latencyByApi);
+        appendLatencies(sb, "\nLatency by Service", latencyByService);
+
         sb.append("==========================================\n");
         return sb.toString();
     }
+
+    private static void appendLatencies(StringBuilder sb, String title, Map<String, ApiCallLatency> latencies) {
+        if (latencies == null || latencies.isEmpty()) {
+            return;
+        }
+        sb.append(title).append(" (ms):\n");
+        latencies.forEach((name, l) -> sb.append(String.format(
+                "  %s: calls=%d, errors=%d, p50≤%d, p95≤%d, p99≤%d, max=%d%n",
+                name, l.calls(), l.errors(), l.p50Ms(), l.p95Ms(), l.p99Ms(), l.maxMs())));
+    }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.acuver.autwit.core.domain;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
 /**
  * ApiContextEntities - Domain model for step-isolated API context.
@@ -31,6 +35,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@ToString(doNotUseGetters = true)
 public class ApiContextEntities {
 // ==========================================================================
     // IDENTITY FIELDS
@@ -253,7 +258,8 @@ public class ApiContextEntities {
      * Request payload (full XML/JSON).
      *
      * <h3>STORAGE</h3>
-     * Stored as TEXT in database (unlimited length)
+     * Stored as TEXT in database (unlimited length), or as a compressed,
+     * hash-addressed blob in compressed payload storage mode
      */
     private String requestPayload;
 
@@ -261,13 +267,50 @@ public class ApiContextEntities {
      * Response payload (full XML/JSON).
      *
      * <h3>STORAGE</h3>
-     * Stored as TEXT in database (unlimited length)
+     * Stored as TEXT in database (unlimited length), or as a compressed,
+     * hash-addressed blob in compressed payload storage mode
      *
      * <h3>USAGE</h3>
      * Retrieved by getLastResponseFromCurrentStep() and similar methods
      */
     private String responsePayload;
 
+    /**
+     * Deferred loader for {@link #requestPayload} (compressed payload storage).
+     *
+     * <p>Set by adapters instead of the payload itself; the blob is fetched and
+     * decompressed on the first {@link #getRequestPayload()} call only.</p>
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private transient Supplier<String> requestPayloadLoader;
+
+    /**
+     * Deferred loader for {@link #responsePayload} (compressed payload storage).
+     *
+     * <p>Resolved on the first {@link #getResponsePayload()} call, i.e. only
+     * when getLastResponse/extractFromResponse actually read the body.</p>
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private transient Supplier<String> responsePayloadLoader;
+
+    public String getRequestPayload() {
+        if (requestPayload == null && requestPayloadLoader != null) {
+            requestPayload = requestPayloadLoader.get();
+            requestPayloadLoader = null;
+        }
+        return requestPayload;
+    }
+
+    public String getResponsePayload() {
+        if (responsePayload == null && responsePayloadLoader != null) {
+            responsePayload = responsePayloadLoader.get();
+            responsePayloadLoader = null;
+        }
+        return responsePayload;
+    }
+
     // ==========================================================================
     // SERVICE IDENTIFICATION
     // ==========================================================================
@@ -346,6 +389,19 @@ public class ApiContextEntities {
      */
     private String orderHeaderKey;
 
+    // ==========================================================================
+    // EXECUTION METRICS
+    // ==========================================================================
+
+    /**
+     * Wall-clock duration of the HTTP call in milliseconds.
+     *
+     * <h3>GENERATION</h3>
+     * Measured with {@code System.nanoTime()} around the request in
+     * BaseActionsNew.executeCall. Null for rows captured before it was recorded.
+     */
+    private Long durationMs;
+
     // ==========================================================================
     // TIMESTAMPS
     // ==========================================================================
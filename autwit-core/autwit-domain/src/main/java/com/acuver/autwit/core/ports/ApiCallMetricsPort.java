@@ -0,0 +1,40 @@
+package com.acuver.autwit.core.ports;
+
+import com.acuver.autwit.core.domain.ApiCallLatency;
+
+import java.util.List;
+
+/**
+ * ApiCallMetricsPort - Live, in-process latency and volume counters per Sterling API.
+ *
+ * BaseActionsNew records every call here as it completes; ApiContextServiceImpl
+ * reads the snapshot into ApiCallStatistics. Counters live for the JVM only and
+ * cover every scenario of the run; durations are also persisted per call on
+ * api_context for later analysis.
+ *
+ * Implementations must be lock-free on {@link #record}: it runs on every
+ * test thread after every call.
+ */
+public interface ApiCallMetricsPort {
+
+    /**
+     * Record one completed (or failed) call.
+     *
+     * @param name           API name, or service name for service calls
+     * @param service        Whether this was a service/flow call
+     * @param durationNanos  Elapsed time from {@code System.nanoTime()}
+     * @param responseBytes  Response body size, 0 if unknown
+     * @param error          Sterling {@code <Errors>} response or transport/HTTP failure
+     */
+    void record(String name, boolean service, long durationNanos, long responseBytes, boolean error);
+
+    /**
+     * Current per-API and per-service figures, slowest p95 first.
+     */
+    List<ApiCallLatency> snapshot();
+
+    /**
+     * Clear all counters (e.g. between before/after comparison runs).
+     */
+    void reset();
+}
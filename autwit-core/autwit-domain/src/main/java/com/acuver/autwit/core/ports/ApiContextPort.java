@@ -1,11 +1,13 @@
 package com.acuver.autwit.core.ports;
 
+import com.acuver.autwit.core.domain.ApiCallCount;
 import com.acuver.autwit.core.domain.ApiCallStatistics;
 import com.acuver.autwit.core.domain.ApiContextEntities;
 import com.acuver.autwit.core.domain.ApiContextEntities.HttpMethod;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ApiContextPort - Step-isolated API context persistence.
@@ -138,6 +140,30 @@ public interface ApiContextPort {
      */
     ApiContextEntities save(ApiContextEntities apiContext);
 
+    /**
+     * Save several API contexts in as few round trips as the store allows
+     * (JDBC batch, {@code insertMany}).
+     *
+     * <p>Default: one {@link #save} per element.</p>
+     *
+     * @param apiContexts API contexts to save
+     * @return Saved entities
+     */
+    default List<ApiContextEntities> saveAll(List<ApiContextEntities> apiContexts) {
+        return apiContexts.stream().map(this::save).toList();
+    }
+
+    /**
+     * Block until every API context buffered for the scenario is persisted.
+     * Called at scenario end.
+     *
+     * <p>Default: no-op (synchronous implementations have nothing buffered).</p>
+     *
+     * @param scenarioKey Scenario identifier
+     */
+    default void flush(String scenarioKey) {
+    }
+
     /**
      * Find API context by scenario and API name.
      * Returns the FIRST call found (use findAllByScenarioKeyAndApiName for all).
@@ -286,6 +312,51 @@ public interface ApiContextPort {
      */
     long count();
 
+    // ==========================================================================
+    // ANALYTICS (Payload-Free)
+    // ==========================================================================
+
+    /**
+     * API call counts grouped by (apiName, isService, serviceName, httpMethod,
+     * dataRepresentation) across all scenarios.
+     *
+     * <p>Adapters compute this in the store; the default groups {@link #findAll()}
+     * in memory.</p>
+     */
+    default List<ApiCallCount> countCalls() {
+        return ApiCallCount.group(findAll());
+    }
+
+    /**
+     * API call counts for one scenario, grouped as in {@link #countCalls()}.
+     *
+     * @param scenarioKey Scenario identifier
+     */
+    default List<ApiCallCount> countCallsByScenarioKey(String scenarioKey) {
+        return ApiCallCount.group(findByScenarioKey(scenarioKey));
+    }
+
+    /**
+     * Stream every API context without request/response payloads, fetched
+     * incrementally (cursor or keyset pages) instead of as one list.
+     *
+     * <p>Callers must close the stream (try-with-resources). Payload fields of
+     * the elements are null in adapters that override this; the default
+     * streams {@link #findAll()}.</p>
+     */
+    default Stream<ApiContextEntities> streamAll() {
+        return findAll().stream();
+    }
+
+    /**
+     * Payload-free stream of one scenario's API contexts; see {@link #streamAll()}.
+     *
+     * @param scenarioKey Scenario identifier
+     */
+    default Stream<ApiContextEntities> streamByScenarioKey(String scenarioKey) {
+        return findByScenarioKey(scenarioKey).stream();
+    }
+
     // ==========================================================================
     // STATISTICS (Service Layer Only)
     // ==========================================================================
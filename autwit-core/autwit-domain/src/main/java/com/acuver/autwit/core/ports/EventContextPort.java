@@ -2,7 +2,10 @@ package com.acuver.autwit.core.ports;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,14 +20,61 @@ public interface EventContextPort {
 
     /**
      * Persist or update an EventContextEntities.
+     *
+     * <p>A paused context ({@code paused=true}) is written as a whole row.
+     * An event ({@code paused=false}) that finds a row with the same canonical
+     * key updates only the event fields: the paused scenario's paused /
+     * resumeReady / retryCount / firstPausedAt / lastRetryAt are kept, so
+     * ResumeEngine still sees it paused when the event is published.</p>
      */
     void save(EventContextEntities ctx);
 
+    /**
+     * Persist or update several EventContextEntities in as few round trips as
+     * the store allows (multi-row upsert, {@code bulkWrite}).
+     *
+     * <p>Same semantics as calling {@link #save} for each element in order:
+     * when a canonical key occurs more than once, the last occurrence wins.
+     * Implementations write the batch atomically where the store supports it,
+     * so a failure means none of the batch may be assumed persisted.</p>
+     *
+     * <p>These are event writes: when a row with the same canonical key
+     * already exists (a paused scenario), only the event fields are updated
+     * and its paused / resumeReady / retryCount / firstPausedAt / lastRetryAt
+     * are kept.</p>
+     *
+     * <p>Default: one {@link #save} per element.</p>
+     *
+     * @param contexts events to persist, in arrival order
+     */
+    default void saveAll(List<EventContextEntities> contexts) {
+        contexts.forEach(this::save);
+    }
+
     /**
      * Find the most recent event matching orderId + eventType.
      */
     Optional<EventContextEntities> findLatest(String orderId, String eventType);
 
+    /**
+     * Batched {@link #findLatest(String, String)}: most recent event for each
+     * (orderId, eventType) pair, resolved in a single storage round trip.
+     *
+     * <p>Pairs with no matching event are absent from the returned map.
+     * The default implementation falls back to one findLatest per pair;
+     * storage adapters override it with a single IN / aggregation query.</p>
+     *
+     * @param keys (orderId, eventType) pairs to resolve
+     * @return latest event per pair
+     */
+    default Map<OrderEventKey, EventContextEntities> findLatestBatch(Collection<OrderEventKey> keys) {
+        Map<OrderEventKey, EventContextEntities> result = new LinkedHashMap<>();
+        for (OrderEventKey key : keys) {
+            findLatest(key.orderId(), key.eventType()).ifPresent(e -> result.put(key, e));
+        }
+        return result;
+    }
+
     /**
      * Find event or paused context by canonical key.
      */
@@ -33,8 +83,14 @@ public interface EventContextPort {
     /**
      * Mark a scenario as paused (waiting for event).
      * Can be called by client code when throwing SkipException.
+     *
+     * One atomic upsert: a missing row is inserted paused with the caller's
+     * createdAt and retryCount; an existing row only gets paused/lastRetryAt
+     * (firstPausedAt is only set the first time).
+     *
+     * @return number of rows updated or created (1 on success)
      */
-    void markPaused(EventContextEntities ctx);
+    int markPaused(EventContextEntities ctx);
 
     /**
      * Mark a paused scenario as ready for resume.
@@ -53,10 +109,17 @@ public interface EventContextPort {
      * If multiple components can mark resumeReady, the system has
      * non-deterministic behavior and parallel authority paths.
      *
+     * ATOMICITY:
+     * Implemented as one conditional update
+     * ({@code resumeReady = true WHERE key = ? AND paused AND NOT resumeReady}),
+     * so concurrent callers race safely and exactly one of them sees 1.
+     *
      * @param canonicalKey The scenario to mark ready
+     * @return 1 if this call performed the transition, 0 if the row is missing,
+     *         not paused, or already resumeReady
      * @throws IllegalStateException if caller is not ResumeEngine (optional enforcement)
      */
-    void markResumeReady(String canonicalKey);
+    int markResumeReady(String canonicalKey);
 
     /**
      * Check if a scenario is ready for resume.
@@ -72,4 +135,39 @@ public interface EventContextPort {
      * Find all paused scenarios (for polling).
      */
     List<EventContextEntities> findPaused();
-}
\ No newline at end of file
+
+    /**
+     * Find paused scenarios already marked resumeReady, oldest pause first.
+     * Used by ResumeScheduler's fallback scan so it never loads the whole paused set.
+     *
+     * @param limit maximum number of rows to return
+     */
+    List<EventContextEntities> findResumeReady(int limit);
+
+    /**
+     * Incremental keyset scan for the engine poller's high-water mark.
+     *
+     * <p>Returns rows after the cursor {@code (afterCreatedAt, afterKey)} in
+     * {@code (createdAt, canonicalKey)} order, created no later than
+     * {@code untilInclusive}, capped at {@code limit}. Each poll cycle therefore
+     * costs time proportional to the rows written since the previous cycle, not
+     * to the paused backlog, and any number of rows sharing one createdAt
+     * millisecond are read across pages.</p>
+     *
+     * @param afterCreatedAt cursor createdAt (epoch millis)
+     * @param afterKey       cursor canonicalKey; rows at exactly afterCreatedAt must sort after it
+     * @param untilInclusive createdAt upper bound (epoch millis, inclusive)
+     * @param limit          maximum number of rows to return
+     */
+    List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive, int limit);
+
+    /**
+     * (orderId, eventType) pair used for batched lookups.
+     */
+    record OrderEventKey(String orderId, String eventType) {
+
+        public static OrderEventKey of(EventContextEntities ctx) {
+            return new OrderEventKey(ctx.getOrderId(), ctx.getEventType());
+        }
+    }
+}
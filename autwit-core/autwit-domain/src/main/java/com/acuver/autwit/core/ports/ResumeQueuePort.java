@@ -0,0 +1,37 @@
+package com.acuver.autwit.core.ports;
+
+import java.util.List;
+
+/**
+ * ResumeQueuePort - In-process hand-off of resumeReady transitions.
+ *
+ * ResumeEngine enqueues a canonical key right after it marks the scenario
+ * resumeReady; ResumeScheduler drains keys in batches and triggers
+ * re-execution without waiting for its periodic scan.
+ *
+ * The queue is a latency optimization only — storage remains the source of
+ * truth, and the scheduler's fallback scan covers anything lost on restart.
+ */
+public interface ResumeQueuePort {
+
+    /**
+     * Signal that a scenario became resumeReady.
+     * Keys already waiting in the queue are not enqueued twice.
+     */
+    void enqueue(String canonicalKey);
+
+    /**
+     * Block up to {@code pollTimeoutMillis} for the first key, then keep
+     * collecting for up to {@code lingerMillis} or until {@code maxBatch}
+     * keys are gathered.
+     *
+     * @return distinct keys in arrival order; empty if nothing arrived
+     * @throws InterruptedException if the draining thread is interrupted
+     */
+    List<String> drain(int maxBatch, long lingerMillis, long pollTimeoutMillis) throws InterruptedException;
+
+    /**
+     * Number of keys waiting to be drained.
+     */
+    int size();
+}
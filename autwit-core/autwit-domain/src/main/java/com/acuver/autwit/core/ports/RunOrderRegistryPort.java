@@ -0,0 +1,46 @@
+package com.acuver.autwit.core.ports;
+
+import java.util.function.Consumer;
+
+/**
+ * RunOrderRegistryPort - Orders created or awaited by the current run.
+ *
+ * <h2>PURPOSE</h2>
+ * <p>Shared event topics carry traffic for orders no scenario will ever wait
+ * on. Ingestion adapters ask this registry whether an event belongs to the
+ * run before mapping and storing it.</p>
+ *
+ * <h2>POPULATED BY</h2>
+ * <ul>
+ *   <li>API call capture - the OrderNo extracted from each Sterling response</li>
+ *   <li>Event matching - every orderId a step waits on</li>
+ *   <li>Startup - orderIds of scenarios already paused in storage</li>
+ * </ul>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public interface RunOrderRegistryPort {
+
+    /**
+     * Record an orderId as owned by this run. Blank ids are ignored.
+     */
+    void register(String orderId);
+
+    /**
+     * @return true if the orderId was registered during this run
+     */
+    boolean isOwned(String orderId);
+
+    /**
+     * Called once per orderId, on the registering thread, the first time it is
+     * registered. Lets an ingestion adapter release events it held back
+     * because they arrived before their order was known.
+     */
+    void onRegistered(Consumer<String> listener);
+
+    /**
+     * @return number of registered orderIds
+     */
+    int size();
+}
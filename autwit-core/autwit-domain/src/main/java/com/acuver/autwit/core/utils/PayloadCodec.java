@@ -0,0 +1,128 @@
+package com.acuver.autwit.core.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * PayloadCodec - Content hashing and compression for stored API payloads.
+ *
+ * <h2>PURPOSE</h2>
+ * <p>Sterling request/response XML is large and highly repetitive across
+ * scenarios. In compressed payload storage mode the adapters keep one
+ * compressed copy per distinct body, addressed by its SHA-256 hash.</p>
+ *
+ * <h2>CODEC</h2>
+ * <p>{@value #CODEC}: raw deflate primed with a preset dictionary of the XML
+ * prolog and attribute names that dominate Sterling documents, so even small
+ * bodies compress well. The codec id is stored next to every blob; a new
+ * dictionary must get a new id and {@link #decompress} must keep
+ * understanding the old ones.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public final class PayloadCodec {
+
+    public static final String CODEC = "deflate-xml-v1";
+
+    /**
+     * Preset dictionary. Deflate matches against the tail first, so the most
+     * frequent strings are at the end. Changing it requires a new codec id.
+     */
+    private static final byte[] DICTIONARY_V1 = (
+            "ShipNode=\" SellerOrganizationCode=\" BuyerOrganizationCode=\" " +
+            "PaymentStatus=\" PaymentType=\" ChargeCategory=\" ChargeName=\" ChargeAmount=\" " +
+            "<PersonInfoBillTo AddressLine1=\" City=\" State=\" ZipCode=\" Country=\" FirstName=\" LastName=\" " +
+            "<PersonInfoShipTo AddressLine1=\" City=\" State=\" ZipCode=\" Country=\" " +
+            "<Extn /> <Extn </Extn> <Instructions/> <Notes/> <References/> " +
+            "ReleaseNo=\" ShipmentKey=\" ShipmentNo=\" Status=\" StatusDate=\" StatusDescription=\" " +
+            "<OrderStatuses><OrderStatus </OrderStatuses> <Schedules><Schedule </Schedules> " +
+            "UnitOfMeasure=\" ProductClass=\" UnitPrice=\" ListPrice=\" LineTotal=\" " +
+            "<LinePriceInfo <LineCharges/> <LineTaxes/> <Item ItemID=\" ItemDesc=\" " +
+            "OrderedQty=\" OriginalOrderedQty=\" PrimeLineNo=\" SubLineNo=\" OrderLineKey=\" " +
+            "<OrderLines><OrderLine </OrderLine></OrderLines> " +
+            "DocumentType=\"0001\" EnterpriseCode=\" EntryType=\" OrderDate=\" OrderType=\" " +
+            "<Order OrderHeaderKey=\" OrderNo=\" </Order> " +
+            "<Errors><Error ErrorCode=\" ErrorDescription=\" </Errors> " +
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private PayloadCodec() {
+    }
+
+    /**
+     * SHA-256 of the UTF-8 payload, lower-case hex (64 chars).
+     */
+    public static String hash(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Compress with {@value #CODEC}.
+     */
+    public static byte[] compress(String payload) {
+        byte[] input = payload.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setDictionary(DICTIONARY_V1);
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompress a blob written by {@link #compress}.
+     *
+     * @param data  Compressed bytes
+     * @param codec Codec id stored with the blob
+     * @throws IllegalArgumentException for an unknown codec or corrupt data
+     */
+    public static String decompress(byte[] data, String codec) {
+        if (!CODEC.equals(codec)) {
+            throw new IllegalArgumentException("Unknown payload codec: " + codec);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(DICTIONARY_V1);
+            inflater.setInput(data);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt payload blob", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.acuver.autwit.engine.bus;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventReceiverPort;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -25,6 +27,7 @@ import java.util.function.Consumer;
  * - Non-blocking: publishing events never blocks step execution.
  */
 public class InMemoryEventBus implements EventReceiverPort {
+    private static final Logger log = LogManager.getLogger(InMemoryEventBus.class);
     /** List of all subscribers. Each subscriber consumes EventContextEntities. */
     private final List<Consumer<EventContextEntities>> subscribers =
             new CopyOnWriteArrayList<>();
@@ -49,11 +52,11 @@ public class InMemoryEventBus implements EventReceiverPort {
     /**
      * Publish an event to all subscribers.
      * This is called by adapters:
-     *   - KafkaEventConsumer
-     *   - MongoEventPoller
-     *   - H2/Postgres adapters
+     *   - KafkaEventConsumer (push path, after the event is persisted)
+     *   - Any adapter that detects an event arrival
      *
-     * It is the main callback entry.
+     * It is the main callback entry. Subscribers run synchronously on the
+     * publishing thread; a failing subscriber never blocks the others.
      */
     @Override
     public void receive(EventContextEntities eventRecord) {
@@ -61,7 +64,8 @@ public class InMemoryEventBus implements EventReceiverPort {
             try {
                 sub.accept(eventRecord);
             } catch (Throwable t) {
-                t.printStackTrace();
+                log.error("InMemoryEventBus: Subscriber failed for key={}: {}",
+                        eventRecord != null ? eventRecord.getCanonicalKey() : null, t.getMessage(), t);
             }
         }
     }
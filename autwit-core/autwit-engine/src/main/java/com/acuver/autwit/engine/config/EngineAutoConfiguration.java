@@ -1,21 +1,40 @@
 package com.acuver.autwit.engine.config;
 
+import com.acuver.autwit.core.ports.ApiCallMetricsPort;
 import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventMatcherPort;
 import com.acuver.autwit.core.ports.EventReceiverPort;
+import com.acuver.autwit.core.ports.ResumeQueuePort;
+import com.acuver.autwit.core.ports.RunOrderRegistryPort;
 import com.acuver.autwit.engine.bus.InMemoryEventBus;
+import com.acuver.autwit.engine.metrics.ApiCallMetrics;
+import com.acuver.autwit.engine.metrics.LatencyHistogram;
+import com.acuver.autwit.engine.registry.RunOrderRegistry;
+import com.acuver.autwit.engine.resume.InMemoryResumeQueue;
 import com.acuver.autwit.engine.resume.ResumeEngine;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.ContextRefreshedEvent;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Auto-configuration to wire the engine:
  * - Exposes InMemoryEventBus as the EventReceiverPort (if none provided)
  * - Creates ResumeEngine and subscribes it to the bus after context refresh.
+ * - Subscribes EventMatcherPort.eventArrived so step waiters complete on push.
+ *
+ * PUSH PATH (autwit.resume.push-enabled=true, default):
+ *   KafkaEventConsumer → storage.save → InMemoryEventBus
+ *       → ResumeEngine (markResumeReady)
+ *       → EventStepNotifier (complete waiting futures)
+ * DB pollers remain as a low-frequency reconciliation sweep.
  */
 
 @Configuration
@@ -38,18 +57,93 @@ public class EngineAutoConfiguration {
      * Create ResumeEngine if missing.
      */
     @Bean
-    public ResumeEngine resumeEngine(EventContextPort storagePort) {
+    public ResumeEngine resumeEngine(EventContextPort storagePort,
+                                     LatencyHistogram resumeLatencyHistogram,
+                                     ResumeQueuePort resumeQueuePort) {
         log.info("Creating ResumeEngine");
-        return new ResumeEngine(storagePort);
+        return new ResumeEngine(storagePort, resumeLatencyHistogram, resumeQueuePort);
+    }
+
+    /**
+     * In-process hand-off from ResumeEngine (resumeReady transition)
+     * to ResumeScheduler (re-execution).
+     */
+    @Bean
+    public ResumeQueuePort resumeQueuePort() {
+        return new InMemoryResumeQueue();
+    }
+
+    /**
+     * Event-arrival → resumeReady latency, recorded by ResumeEngine.
+     */
+    @Bean
+    public LatencyHistogram resumeLatencyHistogram() {
+        return new LatencyHistogram("resume.arrival-to-ready");
+    }
+
+    /**
+     * Print resume latency summary on shutdown (before/after comparison of push vs. poll).
+     */
+    @Bean
+    public ApplicationListener<ContextClosedEvent> resumeLatencyReporter(LatencyHistogram resumeLatencyHistogram) {
+        return (ContextClosedEvent ev) -> log.info("Resume latency → {}", resumeLatencyHistogram.summary());
+    }
+
+    /**
+     * Per-API call latency and volume, recorded by BaseActionsNew and read
+     * into ApiCallStatistics by ApiContextServiceImpl.
+     */
+    @Bean
+    public ApiCallMetricsPort apiCallMetrics() {
+        return new ApiCallMetrics();
+    }
+
+    /**
+     * Print per-API latency (slowest p95 first) on shutdown.
+     */
+    @Bean
+    public ApplicationListener<ContextClosedEvent> apiCallMetricsReporter(ApiCallMetricsPort apiCallMetrics) {
+        return (ContextClosedEvent ev) -> log.info("API call latency →{}", apiCallMetrics);
+    }
+
+    /**
+     * Orders owned by this run (captured OrderNos, awaited orderIds), read by
+     * the Kafka relevance filter.
+     *
+     * <p>Seeded with the orderIds of scenarios already paused in storage, so
+     * events for scenarios paused by an earlier run are not filtered out
+     * before anything re-registers them.</p>
+     */
+    @Bean
+    public RunOrderRegistryPort runOrderRegistry(EventContextPort storagePort) {
+        RunOrderRegistry registry = new RunOrderRegistry();
+        try {
+            storagePort.findPaused().forEach(ctx -> registry.register(ctx.getOrderId()));
+            log.info("RunOrderRegistry seeded with {} orderId(s) of paused scenarios", registry.size());
+        } catch (Exception e) {
+            log.warn("RunOrderRegistry: could not seed from paused scenarios: {}", e.getMessage());
+        }
+        return registry;
     }
 
     /**
-     * After context is ready, auto-subscribe ResumeEngine to InMemoryEventBus.
+     * After context is ready, auto-subscribe ResumeEngine and the step
+     * notifier to InMemoryEventBus.
+     *
+     * <p>Order matters: ResumeEngine runs first so the scenario is already
+     * resumeReady by the time any step waiter is completed.</p>
+     *
+     * <p>Set {@code autwit.resume.push-enabled=false} to fall back to
+     * poller-only delivery (useful for before/after latency comparison).</p>
      */
     @Bean
     public ApplicationListener<ContextRefreshedEvent> engineBusSubscriber(
             ObjectProvider<EventReceiverPort> notifierProvider,
-            ObjectProvider<ResumeEngine> engineProvider) {
+            ObjectProvider<ResumeEngine> engineProvider,
+            ObjectProvider<EventMatcherPort> matcherProvider,
+            @Value("${autwit.resume.push-enabled:true}") boolean pushEnabled) {
+
+        AtomicBoolean subscribed = new AtomicBoolean(false);
 
         return (ContextRefreshedEvent ev) -> {
 
@@ -61,10 +155,26 @@ public class EngineAutoConfiguration {
                 return;
             }
 
+            // ContextRefreshedEvent fires once per (child) context refresh — subscribe once
+            if (!subscribed.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (!pushEnabled) {
+                log.info("autwit.resume.push-enabled=false — events reach ResumeEngine via pollers only");
+                return;
+            }
+
             // Only subscribe if implementation is InMemoryEventBus
             if (notifier instanceof InMemoryEventBus bus) {
                 bus.subscribe(engine);  // Consumer<EventContextEntities>
                 log.info("ResumeEngine subscribed to InMemoryEventBus");
+
+                EventMatcherPort matcher = matcherProvider.getIfAvailable();
+                if (matcher != null) {
+                    bus.subscribe(matcher::eventArrived);
+                    log.info("EventMatcherPort subscribed to InMemoryEventBus");
+                }
             } else {
                 log.info("EventReceiverPort is external implementation (Kafka/Custom). " +
                         "Skipping subscription because it does not support subscribe().");
@@ -0,0 +1,112 @@
+package com.acuver.autwit.engine.metrics;
+
+import com.acuver.autwit.core.domain.ApiCallLatency;
+import com.acuver.autwit.core.ports.ApiCallMetricsPort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ApiCallMetrics - Lock-free per-API latency histograms and call counters.
+ *
+ * <h2>PURPOSE</h2>
+ * <p>Answers "which Sterling APIs make this run slow" while the run is still
+ * going, without post-processing logs. One {@link LatencyHistogram#fine fine}
+ * histogram plus calls/errors/bytes {@link LongAdder}s per API name and per
+ * service name; {@link #record} only touches those adders.</p>
+ *
+ * <h2>KEYS</h2>
+ * <pre>
+ * api:getOrderDetails      regular API call
+ * service:CreateOrderFlow  service/flow call (IsFlow=Y)
+ * </pre>
+ *
+ * <h2>USAGE</h2>
+ * <pre>
+ * long start = System.nanoTime();
+ * ... call ...
+ * metrics.record("getOrderDetails", false, System.nanoTime() - start, body.length(), false);
+ * log.info(metrics.summary());
+ * </pre>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public class ApiCallMetrics implements ApiCallMetricsPort {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String name, boolean service, long durationNanos, long responseBytes, boolean error) {
+        Entry entry = entries.computeIfAbsent((service ? "service:" : "api:") + name,
+                key -> new Entry(name, service));
+        entry.latency.record(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        entry.calls.increment();
+        entry.bytes.add(Math.max(0L, responseBytes));
+        if (error) {
+            entry.errors.increment();
+        }
+    }
+
+    @Override
+    public List<ApiCallLatency> snapshot() {
+        return entries.values().stream()
+                .map(Entry::toLatency)
+                .sorted(Comparator.comparingLong(ApiCallLatency::p95Ms).reversed()
+                        .thenComparing(ApiCallLatency::name))
+                .toList();
+    }
+
+    @Override
+    public void reset() {
+        entries.clear();
+    }
+
+    /**
+     * Multi-line summary (slowest p95 first) suitable for log output.
+     */
+    public String summary() {
+        List<ApiCallLatency> latencies = snapshot();
+        if (latencies.isEmpty()) {
+            return "no API calls recorded";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (ApiCallLatency l : latencies) {
+            sb.append(String.format("%n  %s%s: calls=%d, errors=%d, bytes=%d, mean=%.1fms, " +
+                            "p50≤%dms, p95≤%dms, p99≤%dms, max=%dms",
+                    l.service() ? "service:" : "api:", l.name(), l.calls(), l.errors(), l.bytes(),
+                    l.meanMs(), l.p50Ms(), l.p95Ms(), l.p99Ms(), l.maxMs()));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final boolean service;
+        private final LatencyHistogram latency;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private Entry(String name, boolean service) {
+            this.name = name;
+            this.service = service;
+            this.latency = LatencyHistogram.fine((service ? "service:" : "api:") + name);
+        }
+
+        private ApiCallLatency toLatency() {
+            return new ApiCallLatency(name, service, calls.sum(), errors.sum(), bytes.sum(),
+                    latency.getMean(), latency.percentile(50), latency.percentile(95),
+                    latency.percentile(99), latency.getMax());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.acuver.autwit.engine.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram - Lock-free, fixed-bucket latency histogram (milliseconds).
+ *
+ * <h2>PURPOSE</h2>
+ * <p>Lightweight in-process latency recording for engine hot paths where pulling
+ * in a metrics library is not justified. Every bucket is a {@link LongAdder}, so
+ * concurrent {@link #record(long)} calls from Kafka listener threads, pollers and
+ * the bus never contend on a shared lock.</p>
+ *
+ * <h2>BUCKETS</h2>
+ * <pre>
+ * ≤1 ≤2 ≤5 ≤10 ≤25 ≤50 ≤100 ≤250 ≤500 ≤1s ≤2.5s ≤5s ≤10s ≤30s ≤60s ≤5m &gt;5m
+ * </pre>
+ * <p>Percentiles are reported as the upper bound of the bucket that contains
+ * the requested rank, which is precise enough to compare push vs. poll latency.</p>
+ *
+ * <p>{@link #fine(String)} uses HDR-style log-linear buckets instead (each
+ * bound ~10% above the previous, 1 ms to 10 min), for per-API call latency
+ * where p95 vs. p99 of a 300-800 ms call must be distinguishable.</p>
+ *
+ * <h2>USAGE</h2>
+ * <pre>
+ * LatencyHistogram h = new LatencyHistogram("resume.arrival-to-ready");
+ * h.record(System.currentTimeMillis() - event.getCreatedAt());
+ * log.info(h.summary());
+ * </pre>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public class LatencyHistogram {
+
+    private static final long[] BOUNDS_MS = {
+            1, 2, 5, 10, 25, 50, 100, 250, 500,
+            1_000, 2_500, 5_000, 10_000, 30_000, 60_000, 300_000
+    };
+
+    private static final long[] FINE_BOUNDS_MS = logLinearBounds(1.10, 600_000);
+
+    private final String name;
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram(String name) {
+        this(name, BOUNDS_MS);
+    }
+
+    private LatencyHistogram(String name, long[] bounds) {
+        this.name = name;
+        this.bounds = bounds;
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Histogram with ~10% log-linear buckets up to 10 minutes.
+     */
+    public static LatencyHistogram fine(String name) {
+        return new LatencyHistogram(name, FINE_BOUNDS_MS);
+    }
+
+    /**
+     * Record a single latency sample. Negative samples (clock skew) are clamped to 0.
+     *
+     * @param millis Observed latency in milliseconds
+     */
+    public void record(long millis) {
+        long value = Math.max(0L, millis);
+        buckets[bucketIndex(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Approximate percentile as the upper bound of the bucket holding the rank.
+     *
+     * @param percentile Value in (0, 100]
+     * @return Bucket upper bound in ms, {@link #getMax()} for the overflow bucket, 0 when empty
+     */
+    public long percentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0L;
+        }
+
+        long rank = (long) Math.ceil((percentile / 100.0) * n);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                // A bucket bound can exceed the largest sample actually seen
+                return i < bounds.length ? Math.min(bounds[i], getMax()) : getMax();
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Reset all counters (e.g. between before/after comparison runs).
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * One-line summary suitable for log output.
+     */
+    public String summary() {
+        return String.format("%s: count=%d, mean=%.1fms, p50≤%dms, p95≤%dms, p99≤%dms, max=%dms",
+                name, getCount(), getMean(), percentile(50), percentile(95), percentile(99), getMax());
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+
+    private int bucketIndex(long value) {
+        int i = Arrays.binarySearch(bounds, value);
+        // Not found: insertion point = first bound above value (bounds.length → overflow bucket)
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /**
+     * Ascending bounds 1, 2, 3, ... where each is at least {@code ratio} times
+     * the previous (rounded up), capped at {@code maxMs}.
+     */
+    private static long[] logLinearBounds(double ratio, long maxMs) {
+        long[] out = new long[256];
+        int n = 0;
+        long bound = 1;
+        while (bound < maxMs) {
+            out[n++] = bound;
+            bound = Math.max(bound + 1, (long) Math.ceil(bound * ratio));
+        }
+        out[n++] = maxMs;
+        return Arrays.copyOf(out, n);
+    }
+}
@@ -4,14 +4,19 @@ import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
 import com.acuver.autwit.core.ports.runtime.RuntimeContextPort;
 import com.acuver.autwit.core.ports.EventMatcherPort;
+import com.acuver.autwit.core.ports.RunOrderRegistryPort;
 import com.acuver.autwit.core.utils.CanonicalKeyGenerator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.*;
-import java.util.concurrent.*;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * EventStepNotifier - Internal engine implementation of EventMatcherPort.
@@ -36,6 +41,27 @@ import java.util.concurrent.*;
  * immediately with a CompletableFuture. Callers should use getNow() for
  * immediate checks, not get() which would block.</p>
  *
+ * <h2>WAITER REGISTRY</h2>
+ * <p>Pending futures live in a {@link WaiterRegistry}: a per-bin-locked
+ * multi-map, one hashed timing wheel for TTL expiry (instead of one scheduled
+ * task per waiter) and O(1) monitoring counters.</p>
+ *
+ * <h2>REGISTER-THEN-PROBE</h2>
+ * <p>match() registers its waiter BEFORE probing storage. An event delivered
+ * after registration completes the waiter through eventArrived(); an event
+ * delivered before it is already in storage and is found by the probe. Each
+ * key has a (striped) arrival version that eventArrived() bumps; a cached
+ * miss only counts while the version it was probed at is still current, so
+ * an arrival racing with the probe can never be hidden by the negative cache.</p>
+ *
+ * <h2>DEDUPLICATION</h2>
+ * <p>Repeated match() calls for the same canonical key (assertSatisfied on every
+ * step retry / resume attempt) join the key's in-flight future instead of
+ * registering another waiter. DB misses are remembered for
+ * {@link #NEGATIVE_CACHE_TTL_MS} so rapid re-checks skip the V2 + V1 probes;
+ * eventArrived() clears the entry. Result: one waiter and at most one probe
+ * per window for each outstanding expectation.</p>
+ *
  * <h2>ARCHITECTURAL NOTE</h2>
  * <p>Testkit and SDK should depend only on EventMatcherPort interface,
  * not on this implementation class directly.</p>
@@ -49,20 +75,35 @@ public class EventStepNotifier implements EventMatcherPort {
 
     /**
      * Registry of waiting futures, keyed by canonical key.
-     * Multiple futures can wait for the same key.
+     * Multiple futures can wait for the same key; TTL expiry runs on a
+     * single timing wheel (1s resolution, 512 buckets).
+     */
+    private final WaiterRegistry<EventContextEntities> waiters =
+            new WaiterRegistry<>("EventStepNotifier", 1000, 512);
+
+    /**
+     * How long a DB miss for a key is trusted before probing again.
+     */
+    static final long NEGATIVE_CACHE_TTL_MS = 2000;
+
+    /**
+     * Upper bound on remembered misses; the cache is reset when exceeded.
      */
-    private final ConcurrentMap<String, List<CompletableFuture<EventContextEntities>>> waiters =
-            new ConcurrentHashMap<>();
+    private static final int NEGATIVE_CACHE_MAX_ENTRIES = 50_000;
 
     /**
-     * Scheduler for TTL cleanup of orphaned waiters.
+     * Negative-lookup cache: canonical key → miss (trusted-until time + arrival version).
      */
-    private final ScheduledExecutorService scheduler =
-            Executors.newScheduledThreadPool(1, r -> {
-                Thread t = new Thread(r, "EventStepNotifier-Cleanup");
-                t.setDaemon(true);
-                return t;
-            });
+    private final ConcurrentMap<String, Miss> negativeProbes = new ConcurrentHashMap<>();
+
+    /**
+     * Striped per-key arrival versions, bumped on every eventArrived().
+     * Stripes may be shared by several keys, which only causes extra probes.
+     */
+    private static final int VERSION_STRIPES = 4096;
+    private final AtomicLongArray arrivalVersions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder probesSkipped = new LongAdder();
 
     /**
      * Storage port for database lookups.
@@ -74,6 +115,12 @@ public class EventStepNotifier implements EventMatcherPort {
      */
     private final RuntimeContextPort runtimeContext;
 
+    /**
+     * Orders owned by the run; every awaited orderId is registered so its
+     * events pass the ingestion relevance filter.
+     */
+    private final RunOrderRegistryPort runOrders;
+
     /**
      * TTL for orphaned waiters (default: 1 hour).
      */
@@ -84,10 +131,13 @@ public class EventStepNotifier implements EventMatcherPort {
      *
      * @param storage EventContextPort for database access
      * @param runtimeContext RuntimeContextPort for scenario context
+     * @param runOrders RunOrderRegistryPort of orders owned by the run
      */
-    public EventStepNotifier(EventContextPort storage, RuntimeContextPort runtimeContext) {
+    public EventStepNotifier(EventContextPort storage, RuntimeContextPort runtimeContext,
+                             RunOrderRegistryPort runOrders) {
         this.storage = storage;
         this.runtimeContext = runtimeContext;
+        this.runOrders = runOrders;
         this.waiterTtl = Duration.ofHours(1);
         log.info("EventStepNotifier initialized with V2 canonical key format");
     }
@@ -114,6 +164,8 @@ public class EventStepNotifier implements EventMatcherPort {
      */
     @Override
     public CompletableFuture<EventContextEntities> match(String orderId, String eventType) {
+        runOrders.register(orderId);
+
         // ═══════════════════════════════════════════════════════════════
         // V2 CANONICAL KEY GENERATION
         // ═══════════════════════════════════════════════════════════════
@@ -139,11 +191,35 @@ public class EventStepNotifier implements EventMatcherPort {
         log.debug("EventStepNotifier: match() called - orderId={}, eventType={}, key={}",
                 orderId, eventType, key);
 
-        // Fast probe: Check if event already exists in DB
+        // ═══════════════════════════════════════════════════════════════
+        // REGISTER-THEN-PROBE
+        // ═══════════════════════════════════════════════════════════════
+        // 1. Read the key's arrival version.
+        // 2. Register (or join) the waiter — from here on any eventArrived()
+        //    for this key completes it.
+        // 3. Probe storage — covers events that arrived before step 2.
+        // A miss is cached together with the version read in step 1, so an
+        // arrival that races with the probe invalidates it.
+        // ═══════════════════════════════════════════════════════════════
+        long version = arrivalVersion(key);
+        CompletableFuture<EventContextEntities> future = waiters.join(key, waiterTtl);
+
+        if (future.isDone()) {
+            return future;
+        }
+
+        // Recent miss for this key (and no arrival since): skip the DB
+        if (isRecentMiss(key)) {
+            probesSkipped.increment();
+            return future;
+        }
+
+        // Probe: Check if event already exists in DB
         try {
             Optional<EventContextEntities> found = storage.findByCanonicalKey(key);
             if (found.isPresent()) {
                 log.debug("EventStepNotifier: Immediate DB match for key={}", key);
+                completeWaiters(key, found.get());
                 return CompletableFuture.completedFuture(found.get());
             }
 
@@ -153,39 +229,18 @@ public class EventStepNotifier implements EventMatcherPort {
                 Optional<EventContextEntities> v1Found = storage.findByCanonicalKey(v1Key);
                 if (v1Found.isPresent()) {
                     log.info("EventStepNotifier: Found event using V1 key (migration compatibility) - v1Key={}", v1Key);
+                    completeWaiters(key, v1Found.get());
                     return CompletableFuture.completedFuture(v1Found.get());
                 }
             }
+
+            rememberMiss(key, version);
         } catch (Exception e) {
             log.warn("EventStepNotifier: DB probe failed for key={}: {}", key, e.getMessage());
         }
 
-        // No immediate match - register waiter for future completion
-        CompletableFuture<EventContextEntities> future = new CompletableFuture<>();
-
-        waiters.compute(key, (k, list) -> {
-            if (list == null) {
-                list = new CopyOnWriteArrayList<>();
-            }
-            list.add(future);
-            return list;
-        });
-
-        log.debug("EventStepNotifier: Registered waiter for key={}, total waiters for key: {}",
-                key, waiters.get(key).size());
-
-        // Schedule TTL cleanup to prevent memory leaks
-        ScheduledFuture<?> cleanupTask = scheduler.schedule(() -> {
-            if (!future.isDone()) {
-                log.warn("EventStepNotifier: Waiter TTL expired for key={}", key);
-                future.completeExceptionally(
-                        new TimeoutException("Event wait TTL expired for key=" + key));
-                removeWaiter(key, future);
-            }
-        }, waiterTtl.toMillis(), TimeUnit.MILLISECONDS);
-
-        // Cancel cleanup task when future completes
-        future.whenComplete((result, error) -> cleanupTask.cancel(true));
+        log.debug("EventStepNotifier: Waiting on key={}, active waiters: {}",
+                key, waiters.getActiveWaiterCount());
 
         return future;
     }
@@ -232,32 +287,57 @@ public class EventStepNotifier implements EventMatcherPort {
      * Complete all waiters for a given key.
      */
     private void completeWaiters(String key, EventContextEntities ctx) {
-        List<CompletableFuture<EventContextEntities>> waitingFutures = waiters.remove(key);
+        arrivalVersions.incrementAndGet(stripe(key));
+        negativeProbes.remove(key);
+        int completed = waiters.completeAll(key, ctx);
 
-        if (waitingFutures == null || waitingFutures.isEmpty()) {
+        if (completed == 0) {
             log.trace("EventStepNotifier: No waiters found for key={}", key);
             return;
         }
 
-        log.info("EventStepNotifier: Completing {} waiter(s) for key={}", waitingFutures.size(), key);
+        log.info("EventStepNotifier: Completed {} waiter(s) for key={}", completed, key);
+    }
 
-        for (CompletableFuture<EventContextEntities> future : waitingFutures) {
-            try {
-                future.complete(ctx);
-            } catch (Exception e) {
-                log.warn("EventStepNotifier: Error completing future for key={}: {}", key, e.getMessage());
-            }
+    private boolean isRecentMiss(String key) {
+        Miss miss = negativeProbes.get(key);
+        if (miss == null) {
+            return false;
+        }
+        if (miss.trustedUntil() > System.currentTimeMillis() && miss.version() == arrivalVersion(key)) {
+            return true;
         }
+        negativeProbes.remove(key, miss);
+        return false;
+    }
+
+    /**
+     * Cache a miss observed by a probe that started at {@code version}.
+     * If an arrival bumped the version meanwhile, the entry is never trusted.
+     */
+    private void rememberMiss(String key, long version) {
+        if (negativeProbes.size() >= NEGATIVE_CACHE_MAX_ENTRIES) {
+            negativeProbes.clear();
+        }
+        negativeProbes.put(key, new Miss(System.currentTimeMillis() + NEGATIVE_CACHE_TTL_MS, version));
+    }
+
+    private long arrivalVersion(String key) {
+        return arrivalVersions.get(stripe(key));
+    }
+
+    private static int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (VERSION_STRIPES - 1);
     }
 
     /**
-     * Remove a specific waiter from the registry.
+     * Cached DB miss.
+     *
+     * @param trustedUntil Epoch millis until which the miss is trusted
+     * @param version      Arrival version of the key when the probe started
      */
-    private void removeWaiter(String key, CompletableFuture<EventContextEntities> future) {
-        waiters.computeIfPresent(key, (k, list) -> {
-            list.remove(future);
-            return list.isEmpty() ? null : list;
-        });
+    private record Miss(long trustedUntil, long version) {
     }
 
     /**
@@ -280,9 +360,7 @@ public class EventStepNotifier implements EventMatcherPort {
      * @return Total number of waiting futures
      */
     public int getActiveWaiterCount() {
-        return waiters.values().stream()
-                .mapToInt(List::size)
-                .sum();
+        return waiters.getActiveWaiterCount();
     }
 
     /**
@@ -291,31 +369,37 @@ public class EventStepNotifier implements EventMatcherPort {
      * @return Number of unique canonical keys with waiters
      */
     public int getUniqueKeyCount() {
-        return waiters.size();
+        return waiters.getUniqueKeyCount();
+    }
+
+    /**
+     * Number of DB probes skipped thanks to the negative-lookup cache.
+     */
+    public long getProbesSkipped() {
+        return probesSkipped.sum();
+    }
+
+    /**
+     * Get the waiter registry (completion / expiry totals for monitoring).
+     */
+    public WaiterRegistry<EventContextEntities> getWaiterRegistry() {
+        return waiters;
     }
 
     /**
      * Clear all waiters (for testing or cleanup).
      */
     public void clearAll() {
-        int count = getActiveWaiterCount();
-        waiters.clear();
+        int count = waiters.clear();
+        negativeProbes.clear();
         log.info("EventStepNotifier: Cleared {} waiter(s)", count);
     }
 
     /**
-     * Shutdown the cleanup scheduler.
+     * Shutdown the TTL timing wheel.
      */
     public void shutdown() {
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-        log.info("EventStepNotifier: Scheduler shutdown complete");
+        waiters.shutdown();
+        log.info("EventStepNotifier: Timing wheel shutdown complete");
     }
 }
\ No newline at end of file
@@ -0,0 +1,349 @@
+package com.acuver.autwit.engine.notifier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WaiterRegistry - Keyed multi-map of pending futures with timing-wheel TTL expiry.
+ *
+ * <h2>WHY</h2>
+ * <p>The original EventStepNotifier registry kept a CopyOnWriteArrayList per key
+ * (a full array copy on every add), scheduled one TTL task per waiter on a
+ * ScheduledExecutorService (one ScheduledFutureTask per waiter on the heap) and
+ * counted active waiters by streaming every list. This registry keeps each of
+ * those costs constant per waiter.</p>
+ *
+ * <h2>STRUCTURE</h2>
+ * <ul>
+ *   <li><b>Multi-map:</b> ConcurrentHashMap of plain ArrayLists, mutated only
+ *       inside {@code compute}/{@code remove}, so contention is per hash bin
+ *       and adds never copy.</li>
+ *   <li><b>Hashed timing wheel:</b> one daemon thread advances a wheel of
+ *       {@code wheelSize} buckets every {@code tickMillis}. A waiter is placed in
+ *       the bucket of its deadline tick and expires when the wheel passes it.
+ *       Completed waiters are dropped lazily when their bucket is visited.</li>
+ *   <li><b>O(1) counters:</b> active waiters, keys, completions and expiries are
+ *       maintained on every transition rather than recomputed.</li>
+ *   <li><b>Join:</b> {@link #join} hands repeat callers the in-flight future of
+ *       a key instead of registering another waiter.</li>
+ * </ul>
+ *
+ * <p>Each waiter is settled exactly once (completed, expired or cleared); the
+ * counters are driven by that single transition.</p>
+ *
+ * @param <T> Value the futures complete with
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public class WaiterRegistry<T> {
+
+    private static final Logger log = LogManager.getLogger(WaiterRegistry.class);
+
+    private final String name;
+    private final long tickMillis;
+    private final int mask;
+
+    private final ConcurrentMap<String, List<Waiter<T>>> waiters = new ConcurrentHashMap<>();
+    private final Queue<Waiter<T>>[] wheel;
+    private volatile long currentTick = 0;
+
+    private final ScheduledExecutorService ticker;
+
+    // ═══════════════════════════════════════════════════════════════
+    // COUNTERS
+    // ═══════════════════════════════════════════════════════════════
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder registered = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    /**
+     * @param name       Thread-name prefix and log label
+     * @param tickMillis Wheel resolution; TTLs are rounded up to a whole tick
+     * @param wheelSize  Number of buckets, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public WaiterRegistry(String name, long tickMillis, int wheelSize) {
+        this.name = name;
+        this.tickMillis = Math.max(1, tickMillis);
+
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, name + "-Wheel");
+            t.setDaemon(true);
+            return t;
+        });
+        ticker.scheduleAtFixedRate(this::tick, this.tickMillis, this.tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register a waiter for {@code key}.
+     *
+     * @param key Canonical key to wait on
+     * @param ttl Time after which the future completes exceptionally with TimeoutException
+     * @return Future completed by {@link #completeAll} or by TTL expiry
+     */
+    public CompletableFuture<T> register(String key, Duration ttl) {
+        Waiter<T> waiter = newWaiter(key, ttl);
+
+        waiters.compute(key, (k, list) -> {
+            if (list == null) {
+                list = new ArrayList<>(2);
+            }
+            list.add(waiter);
+            return list;
+        });
+        return enrol(waiter);
+    }
+
+    /**
+     * Return the in-flight future for {@code key}, registering one only if
+     * no pending waiter exists.
+     *
+     * <p>Repeated checks of the same expectation (step retries, resume
+     * attempts) therefore share one waiter and one TTL slot.</p>
+     *
+     * @param key Canonical key to wait on
+     * @param ttl TTL applied when a new waiter is registered
+     * @return Existing pending future, or a newly registered one
+     */
+    public CompletableFuture<T> join(String key, Duration ttl) {
+        @SuppressWarnings("unchecked")
+        Waiter<T>[] slot = new Waiter[2]; // [0] existing, [1] created
+
+        waiters.compute(key, (k, list) -> {
+            if (list == null) {
+                list = new ArrayList<>(2);
+            } else {
+                for (Waiter<T> waiter : list) {
+                    if (!waiter.isSettled() && !waiter.future.isDone()) {
+                        slot[0] = waiter;
+                        return list;
+                    }
+                }
+            }
+            slot[1] = newWaiter(key, ttl);
+            list.add(slot[1]);
+            return list;
+        });
+
+        if (slot[0] != null) {
+            joined.increment();
+            return slot[0].future;
+        }
+        return enrol(slot[1]);
+    }
+
+    private Waiter<T> newWaiter(String key, Duration ttl) {
+        long ticks = Math.max(1, (ttl.toMillis() + tickMillis - 1) / tickMillis);
+        return new Waiter<>(key, currentTick + ticks);
+    }
+
+    /**
+     * Place a waiter that is already in the map onto the wheel and count it.
+     */
+    private CompletableFuture<T> enrol(Waiter<T> waiter) {
+        wheel[(int) (waiter.deadlineTick & mask)].offer(waiter);
+        active.incrementAndGet();
+        registered.increment();
+        return waiter.future;
+    }
+
+    /**
+     * Complete every waiter registered for {@code key}.
+     *
+     * @return Number of futures completed
+     */
+    public int completeAll(String key, T value) {
+        List<Waiter<T>> list = waiters.remove(key);
+        if (list == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (Waiter<T> waiter : list) {
+            if (waiter.settle()) {
+                active.decrementAndGet();
+                completed.increment();
+                waiter.future.complete(value);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Whether any waiter is registered for {@code key}.
+     */
+    public boolean hasWaiters(String key) {
+        return waiters.containsKey(key);
+    }
+
+    /**
+     * Advance the wheel by one tick and expire due waiters in that bucket.
+     */
+    private void tick() {
+        try {
+            long tick = ++currentTick;
+            Iterator<Waiter<T>> it = wheel[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                Waiter<T> waiter = it.next();
+                if (waiter.isSettled()) {
+                    it.remove();
+                } else if (waiter.future.isDone()) {
+                    // Completed or cancelled by the caller
+                    it.remove();
+                    detach(waiter);
+                } else if (waiter.deadlineTick <= tick) {
+                    it.remove();
+                    expire(waiter);
+                }
+            }
+        } catch (Exception e) {
+            log.error("{}: Timing wheel tick failed: {}", name, e.getMessage(), e);
+        }
+    }
+
+    private void expire(Waiter<T> waiter) {
+        if (detach(waiter)) {
+            expired.increment();
+            log.warn("{}: Waiter TTL expired for key={}", name, waiter.key);
+            waiter.future.completeExceptionally(
+                    new TimeoutException("Event wait TTL expired for key=" + waiter.key));
+        }
+    }
+
+    /**
+     * Settle and unlink a single waiter.
+     */
+    private boolean detach(Waiter<T> waiter) {
+        if (!waiter.settle()) {
+            return false;
+        }
+        active.decrementAndGet();
+        waiters.computeIfPresent(waiter.key, (k, list) -> {
+            list.remove(waiter);
+            return list.isEmpty() ? null : list;
+        });
+        return true;
+    }
+
+    /**
+     * Drop every waiter without completing it.
+     *
+     * @return Number of waiters dropped
+     */
+    public int clear() {
+        int count = 0;
+        for (String key : waiters.keySet()) {
+            List<Waiter<T>> list = waiters.remove(key);
+            if (list == null) {
+                continue;
+            }
+            for (Waiter<T> waiter : list) {
+                if (waiter.settle()) {
+                    active.decrementAndGet();
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stop the wheel thread.
+     */
+    public void shutdown() {
+        ticker.shutdown();
+        try {
+            if (!ticker.awaitTermination(5, TimeUnit.SECONDS)) {
+                ticker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ticker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public int getActiveWaiterCount() {
+        return active.get();
+    }
+
+    public int getUniqueKeyCount() {
+        return waiters.size();
+    }
+
+    public long getRegisteredTotal() {
+        return registered.sum();
+    }
+
+    /**
+     * Calls to {@link #join} that reused an in-flight future.
+     */
+    public long getJoinedTotal() {
+        return joined.sum();
+    }
+
+    public long getCompletedTotal() {
+        return completed.sum();
+    }
+
+    public long getExpiredTotal() {
+        return expired.sum();
+    }
+
+    /**
+     * A registered future plus its wheel position.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class Waiter<T> {
+        private static final AtomicIntegerFieldUpdater<Waiter> SETTLED =
+                AtomicIntegerFieldUpdater.newUpdater(Waiter.class, "settled");
+
+        private final String key;
+        private final long deadlineTick;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private volatile int settled;
+
+        private Waiter(String key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+
+        boolean settle() {
+            return SETTLED.compareAndSet(this, 0, 1);
+        }
+
+        boolean isSettled() {
+            return settled != 0;
+        }
+    }
+}
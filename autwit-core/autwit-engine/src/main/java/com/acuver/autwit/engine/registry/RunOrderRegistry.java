@@ -0,0 +1,60 @@
+package com.acuver.autwit.engine.registry;
+
+import com.acuver.autwit.core.ports.RunOrderRegistryPort;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * RunOrderRegistry - Concurrent set of the orderIds owned by this run.
+ *
+ * <h2>WHY A SET</h2>
+ * <p>A run creates thousands of orders at most, so an exact concurrent set
+ * costs little memory and, unlike a Bloom filter, never lets foreign traffic
+ * through as a false positive.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public class RunOrderRegistry implements RunOrderRegistryPort {
+
+    private static final Logger log = LogManager.getLogger(RunOrderRegistry.class);
+
+    private final Set<String> orderIds = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void register(String orderId) {
+        if (orderId == null || orderId.isBlank() || !orderIds.add(orderId)) {
+            return;
+        }
+        log.debug("RunOrderRegistry: registered orderId={}", orderId);
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(orderId);
+            } catch (Exception e) {
+                log.warn("RunOrderRegistry: listener failed for orderId={}: {}", orderId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean isOwned(String orderId) {
+        return orderId != null && orderIds.contains(orderId);
+    }
+
+    @Override
+    public void onRegistered(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public int size() {
+        return orderIds.size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.acuver.autwit.engine.resume;
+
+import com.acuver.autwit.core.ports.ResumeQueuePort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default in-memory resume queue.
+ *
+ * - ResumeEngine enqueues canonical keys on resumeReady transitions.
+ *
+ * - ResumeScheduler drains them by size or linger window.
+ *
+ * - Thread-safe: LinkedBlockingQueue for hand-off, a concurrent key set
+ *   so a key that is already pending is not queued twice.
+ */
+public class InMemoryResumeQueue implements ResumeQueuePort {
+
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void enqueue(String canonicalKey) {
+        if (canonicalKey != null && pending.add(canonicalKey)) {
+            queue.offer(canonicalKey);
+        }
+    }
+
+    @Override
+    public List<String> drain(int maxBatch, long lingerMillis, long pollTimeoutMillis) throws InterruptedException {
+        String first = queue.poll(pollTimeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<String> batch = new ArrayList<>();
+        batch.add(first);
+        pending.remove(first);
+
+        long deadline = System.currentTimeMillis() + lingerMillis;
+        while (batch.size() < maxBatch) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            String next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            pending.remove(next);
+        }
+        return batch;
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+}
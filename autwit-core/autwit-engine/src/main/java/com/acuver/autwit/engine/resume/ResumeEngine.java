@@ -2,6 +2,8 @@ package com.acuver.autwit.engine.resume;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.ResumeQueuePort;
+import com.acuver.autwit.engine.metrics.LatencyHistogram;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -23,27 +25,52 @@ import java.util.function.Consumer;
  *
  * RESPONSIBILITIES:
  *  1. Receive event notifications from pollers or Kafka adapters
- *  2. Persist incoming events to storage
- *  3. Lookup paused scenarios matching the event's canonicalKey
- *  4. Evaluate resume conditions (matching, validation)
- *  5. Mark scenarios resumeReady=true if conditions satisfied
- *  6. Delegate to runner for actual scenario re-execution
+ *  2. Lookup paused scenarios matching the event's canonicalKey
+ *  3. Evaluate resume conditions (matching, validation)
+ *  4. Mark scenarios resumeReady=true if conditions satisfied
+ *  5. Enqueue the key on the ResumeQueuePort so ResumeScheduler re-executes
+ *     the scenario immediately (no scan delay)
+ *
+ * Events arrive already persisted: the Kafka adapter saves before it
+ * publishes, and pollers / change feeds read stored rows. Event saves keep
+ * the paused state of the scenario row with the same canonicalKey
+ * (EventContextPort.save), so the lookup below still finds it paused.
+ *
+ * LATENCY:
+ * Every successful transition records (now - event.createdAt) into the
+ * arrival→resumeReady histogram, so push (InMemoryEventBus) and sweep
+ * (poller) delivery can be compared from the same numbers.
  */
 public class ResumeEngine implements Consumer<EventContextEntities> {
 
     private static final Logger log = LogManager.getLogger(ResumeEngine.class);
     private final EventContextPort storagePort;
+    private final LatencyHistogram resumeLatency;
+    private final ResumeQueuePort resumeQueue;
 
     public ResumeEngine(EventContextPort storagePort) {
+        this(storagePort, new LatencyHistogram("resume.arrival-to-ready"), null);
+    }
+
+    public ResumeEngine(EventContextPort storagePort, LatencyHistogram resumeLatency, ResumeQueuePort resumeQueue) {
         this.storagePort = storagePort;
+        this.resumeLatency = resumeLatency;
+        this.resumeQueue = resumeQueue;
+    }
+
+    /**
+     * Event-arrival → resumeReady latency histogram (monitoring).
+     */
+    public LatencyHistogram getResumeLatency() {
+        return resumeLatency;
     }
 
     /**
      * Entry point for event notifications.
      *
      * Called by:
-     * - Kafka adapters when events arrive from external systems
-     * - DB pollers when they detect matching events in periodic scans
+     * - InMemoryEventBus when Kafka adapters publish a persisted event (push path)
+     * - DB pollers during their low-frequency reconciliation sweep
      * - Any component that detects an event arrival
      *
      * @param event The event that arrived
@@ -61,11 +88,10 @@ public class ResumeEngine implements Consumer<EventContextEntities> {
      * Core resume-engine logic.
      *
      * FLOW:
-     * 1. Persist the incoming event
-     * 2. Look up paused scenarios with matching canonicalKey
-     * 3. Evaluate if resume conditions are satisfied
-     * 4. Mark resumeReady=true (ONLY DONE HERE)
-     * 5. Runner detects resumeReady and re-executes scenario
+     * 1. Look up paused scenarios with matching canonicalKey
+     * 2. Evaluate if resume conditions are satisfied
+     * 3. Mark resumeReady=true (ONLY DONE HERE)
+     * 4. Enqueue for ResumeScheduler, which re-executes the scenario
      */
     private void onEvent(EventContextEntities event) {
 
@@ -73,18 +99,7 @@ public class ResumeEngine implements Consumer<EventContextEntities> {
 
         log.debug("ResumeEngine: Processing event → {}", canonicalKey);
 
-        // 1️⃣ Persist incoming event to DB
-        // This ensures the event is available for immediate DB lookup
-        // when the scenario resumes and calls matchOrPause()
-        try {
-            storagePort.save(event);
-            log.debug("ResumeEngine: Event persisted → {}", canonicalKey);
-        } catch (Exception e) {
-            log.error("ResumeEngine: Failed to persist event {}: {}", canonicalKey, e.getMessage());
-            // Continue anyway - maybe it's already persisted
-        }
-
-        // 2️⃣ Look up paused scenarios with matching canonicalKey
+        // 1️⃣ Look up paused scenarios with matching canonicalKey
         // The storage should return the PAUSED SCENARIO CONTEXT,
         // not the event itself (though they share the same canonicalKey)
         List<EventContextEntities> pausedScenarios = findPausedScenarios(canonicalKey);
@@ -96,7 +111,7 @@ public class ResumeEngine implements Consumer<EventContextEntities> {
 
         log.info("ResumeEngine: Found {} paused scenario(s) for key {}", pausedScenarios.size(), canonicalKey);
 
-        // 3️⃣ Process each paused scenario
+        // 2️⃣ Process each paused scenario
         for (EventContextEntities paused : pausedScenarios) {
             try {
                 processResume(paused, event);
@@ -137,24 +152,44 @@ public class ResumeEngine implements Consumer<EventContextEntities> {
      */
     private void processResume(EventContextEntities paused, EventContextEntities event) {
 
-        // 3️⃣ Evaluate resume conditions
+        // 2️⃣ Evaluate resume conditions
         if (!shouldResume(paused, event)) {
             log.debug("ResumeEngine: Resume condition not satisfied for {}", paused.getCanonicalKey());
             return;
         }
 
-        // 4️⃣ Mark resumeReady=true
+        // 3️⃣ Mark resumeReady=true
         // ⚠️ THIS IS THE ONLY PLACE IN AUTWIT WHERE THIS HAPPENS ⚠️
         try {
-            storagePort.markResumeReady(paused.getCanonicalKey());
+            if (storagePort.markResumeReady(paused.getCanonicalKey()) == 0) {
+                // Another path (push / poller sweep) already made the transition
+                log.debug("ResumeEngine: {} already resumeReady or no longer paused", paused.getCanonicalKey());
+                return;
+            }
+            recordLatency(event);
             log.info("⚡ ResumeEngine: Marked resumeReady for {}", paused.getCanonicalKey());
 
+            // 4️⃣ Hand off to ResumeScheduler (storage stays the source of truth)
+            if (resumeQueue != null) {
+                resumeQueue.enqueue(paused.getCanonicalKey());
+            }
+
         } catch (Exception e) {
             log.error("ResumeEngine: Failed to mark resumeReady for {}: {}",
                     paused.getCanonicalKey(), e.getMessage());
         }
     }
 
+    /**
+     * Record arrival→resumeReady latency. Events without an arrival
+     * timestamp (createdAt == 0) are not sampled.
+     */
+    private void recordLatency(EventContextEntities event) {
+        if (event.getCreatedAt() > 0) {
+            resumeLatency.record(System.currentTimeMillis() - event.getCreatedAt());
+        }
+    }
+
     /**
      * Determine if a paused scenario should resume given an arrived event.
      *
@@ -0,0 +1,329 @@
+package com.acuver.autwit.engine.scheduler;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.EventContextPort.OrderEventKey;
+import com.acuver.autwit.engine.metrics.LatencyHistogram;
+import com.acuver.autwit.engine.resume.ResumeEngine;
+import jakarta.annotation.PostConstruct;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * EventPoller - Adapter-agnostic reconciliation poller with a createdAt high-water mark.
+ *
+ * <h2>ARCHITECTURAL RESPONSIBILITY: DETECTION ONLY</h2>
+ * <p>This poller is responsible for ONE thing: detecting when a paused scenario
+ * has a matching system event available in storage. It replaces the former
+ * Postgres/Mongo/H2 pollers; all storage differences live behind
+ * {@link EventContextPort}.</p>
+ *
+ * <h2>WHAT THIS POLLER DOES</h2>
+ * <ul>
+ *   <li><b>Incremental cycle</b> (default): asks storage only for rows created since the
+ *       last cycle ({@link EventContextPort#findCreatedAfter(long, String, long, int)}). New events are
+ *       replayed to ResumeEngine exactly like the InMemoryEventBus push path; new paused
+ *       contexts have their latest event resolved in one batched query.</li>
+ *   <li><b>Full sweep</b> (first cycle, then every {@code autwit.poller.full-sweep-every}
+ *       cycles): the classic findPaused + findLatestBatch scan, which also catches rows
+ *       that were updated in place (createdAt unchanged) and so never cross the mark.</li>
+ *   <li>Exposes per-cycle metrics: rows scanned, events delegated to ResumeEngine, cycle time.
+ *       A delegated event is handed over, not necessarily resumed: ResumeEngine decides.</li>
+ * </ul>
+ *
+ * <h2>WHAT THIS POLLER DOES NOT DO</h2>
+ * <ul>
+ *   <li>❌ Does NOT call markResumeReady() - that's ResumeEngine's job</li>
+ *   <li>❌ Does NOT evaluate retry limits - that's ResumeEngine's job</li>
+ *   <li>❌ Does NOT apply business rules - that's ResumeEngine's job</li>
+ *   <li>❌ Does NOT trigger execution - that's ResumeScheduler's job</li>
+ * </ul>
+ *
+ * <h2>HIGH-WATER MARK</h2>
+ * <p>The mark is a keyset cursor: the {@code (createdAt, canonicalKey)} of the
+ * last row processed. Each page starts strictly after it, so any number of
+ * rows sharing one createdAt millisecond are read across pages instead of
+ * stalling a full page.</p>
+ * <p>createdAt is stamped when the row is built, before it commits, so a row
+ * can become visible after a newer one. The poller therefore only reads rows
+ * older than {@code safety-window-ms}: a write that commits within the window
+ * is still ahead of the cursor when it appears. Slower commits are left to
+ * the full sweep.</p>
+ *
+ * <h2>CONFIGURATION</h2>
+ * <pre>
+ * autwit.poller.delay-ms          (default 30000) - cycle interval
+ * autwit.poller.batch-size        (default 1000)  - max rows per incremental cycle
+ * autwit.poller.safety-window-ms  (default 5000)  - rows younger than this wait for the next cycle
+ * autwit.poller.full-sweep-every  (default 10)    - full sweep every N cycles
+ * </pre>
+ *
+ * <p>With push delivery in place (Kafka → InMemoryEventBus, and across JVMs
+ * {@code autwit.postgres.notify.enabled=true} or
+ * {@code autwit.mongo.change-stream.enabled=true}) this poller is only a
+ * consistency sweep, and {@code delay-ms} can be raised accordingly. It remains
+ * the only cross-JVM path on a standalone Mongo server.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ * @see ResumeEngine
+ */
+@Component
+@ConditionalOnProperty(name = "autwit.database")
+public class EventPoller {
+
+    private static final Logger log = LogManager.getLogger(EventPoller.class);
+
+    private final EventContextPort storage;
+    private final ResumeEngine resumeEngine;
+
+    @Value("${autwit.poller.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${autwit.poller.full-sweep-every:10}")
+    private int fullSweepEvery;
+
+    @Value("${autwit.poller.safety-window-ms:5000}")
+    private long safetyWindowMs;
+
+    // ═══════════════════════════════════════════════════════════════
+    // HIGH-WATER MARK STATE (guarded by poll() being synchronized)
+    // ═══════════════════════════════════════════════════════════════
+    private long markCreatedAt;
+    private String markKey = "";
+    private long cycleCount = 0;
+
+    // ═══════════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LatencyHistogram cycleTime = new LatencyHistogram("poller.cycle-time");
+    private final LongAdder totalRowsScanned = new LongAdder();
+    private final LongAdder totalDelegated = new LongAdder();
+    private volatile CycleStats lastCycle = new CycleStats(Mode.INCREMENTAL, 0, 0, 0, 0L);
+
+    /**
+     * Constructor with required dependencies.
+     *
+     * @param storage EventContextPort for storage access (any adapter)
+     * @param resumeEngine ResumeEngine for resume decisions (SOLE AUTHORITY)
+     */
+    public EventPoller(EventContextPort storage, ResumeEngine resumeEngine) {
+        this.storage = storage;
+        this.resumeEngine = resumeEngine;
+        log.info("EventPoller initialized - incremental high-water-mark sweep, delegating to ResumeEngine");
+    }
+
+    /**
+     * Start the cursor one safety window back, once {@code safety-window-ms} is injected.
+     */
+    @PostConstruct
+    public void initMark() {
+        markCreatedAt = System.currentTimeMillis() - safetyWindowMs;
+        log.debug("EventPoller: High-water mark starts at {} (safety window {}ms)", markCreatedAt, safetyWindowMs);
+    }
+
+    /**
+     * Scheduled polling task.
+     *
+     * <p>IMPORTANT: This method only DETECTS matches. It does NOT make
+     * resume decisions - that responsibility belongs to ResumeEngine.</p>
+     */
+    @Scheduled(fixedDelayString = "${autwit.poller.delay-ms:30000}")
+    public synchronized void poll() {
+        long start = System.currentTimeMillis();
+        boolean full = fullSweepEvery <= 1 || cycleCount % fullSweepEvery == 0;
+        cycleCount++;
+
+        int[] counts = full ? fullSweep() : incrementalSweep();
+
+        long elapsed = System.currentTimeMillis() - start;
+        cycleTime.record(elapsed);
+        totalRowsScanned.add(counts[0]);
+        totalDelegated.add(counts[1]);
+        lastCycle = new CycleStats(full ? Mode.FULL : Mode.INCREMENTAL, counts[0], counts[1], elapsed, markCreatedAt);
+
+        if (counts[0] > 0) {
+            log.debug("EventPoller: {}", lastCycle);
+        } else {
+            log.trace("EventPoller: {}", lastCycle);
+        }
+    }
+
+    /**
+     * Incremental cycle: only rows created since the high-water mark.
+     *
+     * @return {rowsScanned, delegated}
+     */
+    private int[] incrementalSweep() {
+        long until = System.currentTimeMillis() - safetyWindowMs;
+        List<EventContextEntities> rows = storage.findCreatedAfter(markCreatedAt, markKey, until, batchSize);
+
+        List<EventContextEntities> pausedRows = new ArrayList<>();
+        List<EventContextEntities> eventRows = new ArrayList<>();
+
+        for (EventContextEntities row : rows) {
+            advanceMark(row);
+            if (row.isPaused()) {
+                pausedRows.add(row);
+            } else {
+                eventRows.add(row);
+            }
+        }
+
+        int delegated = 0;
+
+        // New events → same path as the InMemoryEventBus push
+        for (EventContextEntities event : eventRows) {
+            if (delegate(event)) {
+                delegated++;
+            }
+        }
+
+        // New paused contexts → resolve latest events in ONE batched query
+        delegated += resolvePaused(pausedRows);
+
+        if (rows.size() >= batchSize) {
+            log.debug("EventPoller: Incremental page full ({} rows) - remainder picked up next cycle", rows.size());
+        }
+
+        return new int[]{rows.size(), delegated};
+    }
+
+    /**
+     * Full sweep: every paused context, latest events resolved in one batched query.
+     *
+     * @return {rowsScanned, delegated}
+     */
+    private int[] fullSweep() {
+        List<EventContextEntities> pausedContexts = storage.findPaused();
+
+        if (pausedContexts.isEmpty()) {
+            log.trace("EventPoller: Full sweep - no paused contexts found");
+            return new int[]{0, 0};
+        }
+
+        log.debug("EventPoller: Full sweep - {} paused context(s) to check", pausedContexts.size());
+        return new int[]{pausedContexts.size(), resolvePaused(pausedContexts)};
+    }
+
+    /**
+     * Resolve latest events for paused contexts and delegate matches to ResumeEngine.
+     *
+     * @return number of matching events delegated to ResumeEngine
+     */
+    private int resolvePaused(List<EventContextEntities> pausedContexts) {
+        if (pausedContexts.isEmpty()) {
+            return 0;
+        }
+
+        Set<OrderEventKey> keys = pausedContexts.stream()
+                .map(OrderEventKey::of)
+                .collect(Collectors.toSet());
+        Map<OrderEventKey, EventContextEntities> latestEvents = storage.findLatestBatch(keys);
+
+        int delegated = 0;
+        for (EventContextEntities pausedCtx : pausedContexts) {
+            EventContextEntities event = latestEvents.get(OrderEventKey.of(pausedCtx));
+            if (event == null) {
+                log.trace("EventPoller: No matching event found for key={}", pausedCtx.getCanonicalKey());
+                continue;
+            }
+
+            log.info("EventPoller: Match found for paused context {} - delegating to ResumeEngine",
+                    pausedCtx.getCanonicalKey());
+            if (delegate(event)) {
+                delegated++;
+            }
+        }
+        return delegated;
+    }
+
+    /**
+     * ═══════════════════════════════════════════════════════════════
+     * CRITICAL: DELEGATE TO RESUME ENGINE
+     * ═══════════════════════════════════════════════════════════════
+     * We do NOT call markResumeReady() here. ResumeEngine evaluates
+     * and applies its rules — this maintains SINGLE RESUME AUTHORITY.
+     */
+    private boolean delegate(EventContextEntities event) {
+        try {
+            resumeEngine.accept(event);
+            return true;
+        } catch (Exception e) {
+            log.error("EventPoller: Error delegating {} to ResumeEngine: {}",
+                    event.getCanonicalKey(), e.getMessage(), e);
+            // Continue with other rows - don't let one failure stop all processing
+            return false;
+        }
+    }
+
+    /**
+     * Move the keyset cursor to this row (rows arrive in cursor order).
+     */
+    private void advanceMark(EventContextEntities row) {
+        markCreatedAt = row.getCreatedAt();
+        markKey = row.getCanonicalKey();
+    }
+
+    /**
+     * Manual trigger for immediate poll.
+     *
+     * <p>Can be called programmatically to force an immediate poll cycle
+     * without waiting for the scheduled interval.</p>
+     */
+    public void triggerImmediatePoll() {
+        log.info("EventPoller: Manual poll triggered");
+        poll();
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public CycleStats getLastCycle() {
+        return lastCycle;
+    }
+
+    public LatencyHistogram getCycleTime() {
+        return cycleTime;
+    }
+
+    public long getTotalRowsScanned() {
+        return totalRowsScanned.sum();
+    }
+
+    public long getTotalDelegated() {
+        return totalDelegated.sum();
+    }
+
+    public enum Mode { INCREMENTAL, FULL }
+
+    /**
+     * Per-cycle metrics snapshot.
+     *
+     * @param mode          INCREMENTAL or FULL
+     * @param rowsScanned   rows returned by storage this cycle
+     * @param delegated     events handed to ResumeEngine without error (not necessarily resumed)
+     * @param cycleMillis   wall-clock cycle time
+     * @param highWaterMark createdAt of the cursor after the cycle
+     */
+    public record CycleStats(Mode mode, int rowsScanned, int delegated, long cycleMillis, long highWaterMark) {
+
+        @Override
+        public String toString() {
+            return String.format("cycle[%s] scanned=%d, delegated=%d, time=%dms, mark=%d",
+                    mode, rowsScanned, delegated, cycleMillis, highWaterMark);
+        }
+    }
+}
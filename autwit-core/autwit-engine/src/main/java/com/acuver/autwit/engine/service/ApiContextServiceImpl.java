@@ -1,21 +1,28 @@
 package com.acuver.autwit.engine.service;
 
+import com.acuver.autwit.core.domain.ApiCallCount;
+import com.acuver.autwit.core.domain.ApiCallLatency;
 import com.acuver.autwit.core.domain.ApiCallStatistics;
 import com.acuver.autwit.core.domain.ApiContextEntities;
 import com.acuver.autwit.core.domain.ApiContextEntities.HttpMethod;
+import com.acuver.autwit.core.ports.ApiCallMetricsPort;
 import com.acuver.autwit.core.ports.ApiContextPort;
 import com.acuver.autwit.core.ports.runtime.RuntimeContextPort;
+import com.acuver.autwit.engine.metrics.ApiCallMetrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PreDestroy;
+
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * ApiContextService - Business logic for step-isolated API context.
@@ -32,6 +39,17 @@ import java.util.stream.Collectors;
  * - Secondary: Scenario-level queries (backward compatibility)
  * - Business: Order correlation (cross-scenario tracking)
  *
+ * <h2>WRITE-BEHIND</h2>
+ * With {@code autwit.api-context.write-behind.enabled=true} (default) {@link #save}
+ * validates and stamps the context, then hands it to {@link ApiContextWriteBehind}
+ * for batched persistence. Reads wait for the pending writes of the scenario or
+ * step they target, so callers always see their own captured calls.
+ *
+ * <h2>LATENCY</h2>
+ * {@link #getStatistics()} carries the live per-API histograms of this run
+ * ({@link ApiCallMetricsPort}); scenario/step/order statistics derive the same
+ * percentiles from the durationMs stored on each row.
+ *
  * @author AUTWIT Framework
  * @since 2.0.0
  */
@@ -43,15 +61,33 @@ public class ApiContextServiceImpl implements ApiContextPort {
 
     private final ApiContextPort storageAdapter;
     private final RuntimeContextPort runtimeContextPort;
+    private final ApiContextWriteBehind writeBehind;
+    private final ApiCallMetricsPort apiCallMetrics;
 
     @Autowired
     public ApiContextServiceImpl(
             @Qualifier("storageAdapter") ApiContextPort storageAdapter,
-            RuntimeContextPort runtimeContextPort) {
+            RuntimeContextPort runtimeContextPort,
+            ApiCallMetricsPort apiCallMetrics,
+            @Value("${autwit.api-context.write-behind.enabled:true}") boolean writeBehindEnabled,
+            @Value("${autwit.api-context.write-behind.capacity:10000}") int capacity,
+            @Value("${autwit.api-context.write-behind.batch-size:100}") int batchSize,
+            @Value("${autwit.api-context.write-behind.await-timeout-ms:30000}") long awaitTimeoutMs) {
         this.storageAdapter = storageAdapter;
         this.runtimeContextPort = runtimeContextPort;
-        logger.info("ApiContextService initialized with storage: {} (step-level tracking enabled)",
-                storageAdapter.getClass().getSimpleName());
+        this.apiCallMetrics = apiCallMetrics;
+        this.writeBehind = writeBehindEnabled
+                ? new ApiContextWriteBehind(storageAdapter, capacity, batchSize, awaitTimeoutMs)
+                : null;
+        logger.info("ApiContextService initialized with storage: {} (step-level tracking enabled, write-behind={})",
+                storageAdapter.getClass().getSimpleName(), writeBehindEnabled);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
     }
 
     // ==========================================================================
@@ -87,6 +123,13 @@ public class ApiContextServiceImpl implements ApiContextPort {
 //        }
 
         // 4️⃣ Persist (let database handle uniqueness constraints)
+        if (writeBehind != null) {
+            writeBehind.submit(apiContext);
+            logger.debug("Queued API context: step={}, api={}, callIndex={}, queue depth={}",
+                    apiContext.getStepKey(), apiContext.getApiName(),
+                    apiContext.getCallIndex(), writeBehind.getQueueDepth());
+            return apiContext;
+        }
         ApiContextEntities saved = storageAdapter.save(apiContext);
 
         logger.info("Saved API context: step={}, stepName='{}', api={}, callIndex={}, isService={}",
@@ -96,6 +139,14 @@ public class ApiContextServiceImpl implements ApiContextPort {
         return saved;
     }
 
+    @Override
+    public void flush(String scenarioKey) {
+        if (writeBehind == null || scenarioKey == null || scenarioKey.isBlank()) {
+            return;
+        }
+        writeBehind.awaitScenario(scenarioKey);
+    }
+
     // ==========================================================================
     // ✅ NEW: STEP-LEVEL QUERIES (Primary)
     // ==========================================================================
@@ -109,6 +160,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return Optional.empty();
         }
 
+        awaitStep(stepKey);
         return storageAdapter.findLastByStepKeyAndApiName(stepKey, apiName);
     }
 
@@ -121,6 +173,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return List.of();
         }
 
+        awaitStep(stepKey);
         return storageAdapter.findAllByStepKey(stepKey);
     }
 
@@ -137,6 +190,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return Optional.empty();
         }
 
+        awaitScenario(scenarioKey);
         return storageAdapter.findLastByScenarioKeyAndStepNameAndApiName(scenarioKey, stepName, apiName);
     }
 
@@ -149,6 +203,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return List.of();
         }
 
+        awaitScenario(scenarioKey);
         return storageAdapter.findAllByScenarioKeyAndStepName(scenarioKey, stepName);
     }
 
@@ -161,6 +216,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return;
         }
 
+        awaitStep(stepKey);
         storageAdapter.deleteByStepKey(stepKey);
     }
 
@@ -177,6 +233,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return Optional.empty();
         }
 
+        awaitAll();
         return storageAdapter.findByOrderNo(orderNo);
     }
 
@@ -189,6 +246,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return List.of();
         }
 
+        awaitAll();
         return storageAdapter.findAllByOrderNo(orderNo);
     }
 
@@ -205,6 +263,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return Optional.empty();
         }
 
+        awaitScenario(scenarioKey);
         return storageAdapter.findByScenarioKeyAndApiName(scenarioKey, apiName);
     }
 
@@ -217,6 +276,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return List.of();
         }
 
+        awaitScenario(scenarioKey);
         return storageAdapter.findAllByScenarioKeyAndApiName(scenarioKey, apiName);
     }
 
@@ -231,6 +291,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return Optional.empty();
         }
 
+        awaitScenario(scenarioKey);
         return storageAdapter.findByScenarioKeyAndApiNameAndCallIndex(scenarioKey, apiName, callIndex);
     }
 
@@ -243,6 +304,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return List.of();
         }
 
+        awaitScenario(scenarioKey);
         return storageAdapter.findByScenarioKey(scenarioKey);
     }
 
@@ -251,6 +313,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
         if (scenarioKey == null || scenarioKey.isBlank() || apiName == null || apiName.isBlank()) {
             return false;
         }
+        awaitScenario(scenarioKey);
         return storageAdapter.existsByScenarioKeyAndApiName(scenarioKey, apiName);
     }
 
@@ -258,12 +321,14 @@ public class ApiContextServiceImpl implements ApiContextPort {
     public void deleteByScenarioKeyAndApiNameAndCallIndex(String scenarioKey, String apiName, int callIndex) {
         logger.info("Deleting API context: scenario={}, api={}, callIndex={}",
                 scenarioKey, apiName, callIndex);
+        awaitScenario(scenarioKey);
         storageAdapter.deleteByScenarioKeyAndApiNameAndCallIndex(scenarioKey, apiName, callIndex);
     }
 
     @Override
     public void deleteByScenarioKeyAndApiName(String scenarioKey, String apiName) {
         logger.info("Deleting all calls: scenario={}, api={}", scenarioKey, apiName);
+        awaitScenario(scenarioKey);
         storageAdapter.deleteByScenarioKeyAndApiName(scenarioKey, apiName);
     }
 
@@ -276,6 +341,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return;
         }
 
+        awaitScenario(scenarioKey);
         storageAdapter.deleteByScenarioKey(scenarioKey);
     }
 
@@ -284,6 +350,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
         if (scenarioKey == null || scenarioKey.isBlank()) {
             return 0;
         }
+        awaitScenario(scenarioKey);
         return storageAdapter.countByScenarioKey(scenarioKey);
     }
 
@@ -294,6 +361,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
     @Override
     public List<ApiContextEntities> findAll() {
         logger.debug("Finding all API contexts (global query)");
+        awaitAll();
         return storageAdapter.findAll();
     }
 
@@ -301,6 +369,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
     @Deprecated
     public List<ApiContextEntities> findByServiceName(String serviceName) {
         logger.warn("Using deprecated global query: findByServiceName");
+        awaitAll();
         return storageAdapter.findByServiceName(serviceName);
     }
 
@@ -308,6 +377,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
     @Deprecated
     public List<ApiContextEntities> findByHttpMethod(HttpMethod httpMethod) {
         logger.warn("Using deprecated global query: findByHttpMethod");
+        awaitAll();
         return storageAdapter.findByHttpMethod(httpMethod);
     }
 
@@ -315,20 +385,47 @@ public class ApiContextServiceImpl implements ApiContextPort {
     @Deprecated
     public List<ApiContextEntities> findByDataRepresentation(String dataRepresentation) {
         logger.warn("Using deprecated global query: findByDataRepresentation");
+        awaitAll();
         return storageAdapter.findByDataRepresentation(dataRepresentation);
     }
 
     @Override
     public void deleteAll() {
         logger.warn("Deleting ALL API contexts across all scenarios");
+        awaitAll();
         storageAdapter.deleteAll();
     }
 
     @Override
     public long count() {
+        awaitAll();
         return storageAdapter.count();
     }
 
+    @Override
+    public List<ApiCallCount> countCalls() {
+        awaitAll();
+        return storageAdapter.countCalls();
+    }
+
+    @Override
+    public List<ApiCallCount> countCallsByScenarioKey(String scenarioKey) {
+        awaitScenario(scenarioKey);
+        return storageAdapter.countCallsByScenarioKey(scenarioKey);
+    }
+
+    @Override
+    public Stream<ApiContextEntities> streamAll() {
+        awaitAll();
+        return storageAdapter.streamAll();
+    }
+
+    @Override
+    public Stream<ApiContextEntities> streamByScenarioKey(String scenarioKey) {
+        awaitScenario(scenarioKey);
+        return storageAdapter.streamByScenarioKey(scenarioKey);
+    }
+
     // ==========================================================================
     // STATISTICS (Business Logic)
     // ==========================================================================
@@ -336,7 +433,9 @@ public class ApiContextServiceImpl implements ApiContextPort {
     @Override
     public ApiCallStatistics getStatistics() {
         logger.debug("Calculating global API call statistics");
-        return calculateStatistics(storageAdapter.findAll());
+        awaitAll();
+        return ApiCallStatistics.from(storageAdapter.countCalls())
+                .withLatencies(apiCallMetrics.snapshot());
     }
 
     @Override
@@ -347,7 +446,11 @@ public class ApiContextServiceImpl implements ApiContextPort {
             throw new IllegalArgumentException("scenarioKey cannot be null or empty");
         }
 
-        return calculateStatistics(storageAdapter.findByScenarioKey(scenarioKey));
+        awaitScenario(scenarioKey);
+        ApiCallStatistics statistics = ApiCallStatistics.from(storageAdapter.countCallsByScenarioKey(scenarioKey));
+        try (Stream<ApiContextEntities> contexts = storageAdapter.streamByScenarioKey(scenarioKey)) {
+            return statistics.withLatencies(latencyOf(contexts));
+        }
     }
 
     /**
@@ -363,7 +466,10 @@ public class ApiContextServiceImpl implements ApiContextPort {
             throw new IllegalArgumentException("stepKey cannot be null or empty");
         }
 
-        return calculateStatistics(storageAdapter.findAllByStepKey(stepKey));
+        awaitStep(stepKey);
+        List<ApiContextEntities> contexts = storageAdapter.findAllByStepKey(stepKey);
+        return ApiCallStatistics.from(ApiCallCount.group(contexts))
+                .withLatencies(latencyOf(contexts.stream()));
     }
 
     /**
@@ -379,66 +485,56 @@ public class ApiContextServiceImpl implements ApiContextPort {
             throw new IllegalArgumentException("orderNo cannot be null or empty");
         }
 
-        return calculateStatistics(storageAdapter.findAllByOrderNo(orderNo));
-    }
-
-    private ApiCallStatistics calculateStatistics(List<ApiContextEntities> contexts) {
-        if (contexts == null || contexts.isEmpty()) {
-            return ApiCallStatistics.builder()
-                    .totalCalls(0L)
-                    .apiCalls(0L)
-                    .serviceCalls(0L)
-                    .callsByHttpMethod(Map.of())
-                    .callsByDataRepresentation(Map.of())
-                    .mostUsedApi("N/A")
-                    .mostUsedService("N/A")
-                    .build();
-        }
-
-        long total = contexts.size();
-        long services = contexts.stream().filter(ApiContextEntities::getIsService).count();
-        long apis = total - services;
-
-        Map<String, Long> byMethod = contexts.stream()
-                .filter(ctx -> ctx.getHttpMethod() != null)
-                .collect(Collectors.groupingBy(
-                        ctx -> ctx.getHttpMethod().name(),
-                        Collectors.counting()
-                ));
-
-        Map<String, Long> byFormat = contexts.stream()
-                .filter(ctx -> ctx.getDataRepresentation() != null)
-                .collect(Collectors.groupingBy(
-                        ApiContextEntities::getDataRepresentation,
-                        Collectors.counting()
-                ));
-
-        String mostUsedApi = contexts.stream()
-                .filter(ctx -> !ctx.getIsService())
-                .collect(Collectors.groupingBy(ApiContextEntities::getApiName, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("N/A");
-
-        String mostUsedService = contexts.stream()
-                .filter(ApiContextEntities::getIsService)
-                .filter(ctx -> ctx.getServiceName() != null)
-                .collect(Collectors.groupingBy(ApiContextEntities::getServiceName, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("N/A");
-
-        return ApiCallStatistics.builder()
-                .totalCalls(total)
-                .apiCalls(apis)
-                .serviceCalls(services)
-                .callsByHttpMethod(byMethod)
-                .callsByDataRepresentation(byFormat)
-                .mostUsedApi(mostUsedApi)
-                .mostUsedService(mostUsedService)
-                .build();
+        awaitAll();
+        List<ApiContextEntities> contexts = storageAdapter.findAllByOrderNo(orderNo);
+        return ApiCallStatistics.from(ApiCallCount.group(contexts))
+                .withLatencies(latencyOf(contexts.stream()));
+    }
+
+    /**
+     * Per-API percentiles from stored call durations (rows without durationMs are skipped).
+     */
+    private static List<ApiCallLatency> latencyOf(Stream<ApiContextEntities> contexts) {
+        ApiCallMetrics metrics = new ApiCallMetrics();
+        contexts.filter(ctx -> ctx.getDurationMs() != null)
+                .forEach(ctx -> metrics.record(ctx.getApiName(), Boolean.TRUE.equals(ctx.getIsService()),
+                        TimeUnit.MILLISECONDS.toNanos(ctx.getDurationMs()), 0L, false));
+        return metrics.snapshot();
+    }
+
+    /**
+     * Write-behind queue depth, batch size and flush latency, for logs.
+     */
+    public String getWriteBehindSummary() {
+        if (writeBehind == null) {
+            return "write-behind disabled";
+        }
+        return String.format("queue=%d (max %d), pending=%d, batches=%d, lastBatch=%d, avgBatch=%.1f, flush → %s",
+                writeBehind.getQueueDepth(), writeBehind.getMaxQueueDepth(), writeBehind.getPendingCount(),
+                writeBehind.getBatchCount(), writeBehind.getLastBatchSize(), writeBehind.getAverageBatchSize(),
+                writeBehind.getFlushLatency().summary());
+    }
+
+    // ==========================================================================
+    // WRITE-BEHIND READ BARRIERS (Private Helpers)
+    // ==========================================================================
+
+    private void awaitStep(String stepKey) {
+        if (writeBehind != null) {
+            writeBehind.awaitStep(stepKey);
+        }
+    }
+
+    private void awaitScenario(String scenarioKey) {
+        if (writeBehind != null) {
+            writeBehind.awaitScenario(scenarioKey);
+        }
+    }
+
+    private void awaitAll() {
+        if (writeBehind != null) {
+            writeBehind.awaitAll();
+        }
     }
 
     // ==========================================================================
@@ -504,6 +600,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return;
         }
 
+        awaitStep(stepKey);
         storageAdapter.deleteByStepKey(stepKey);
     }
 
@@ -518,6 +615,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
             return;
         }
 
+        awaitScenario(scenarioKey);
         storageAdapter.deleteByScenarioKey(scenarioKey);
     }
 
@@ -526,6 +624,7 @@ public class ApiContextServiceImpl implements ApiContextPort {
      */
     public void clearAll() {
         logger.warn("Clearing ALL API contexts across all scenarios");
+        awaitAll();
         storageAdapter.deleteAll();
     }
 
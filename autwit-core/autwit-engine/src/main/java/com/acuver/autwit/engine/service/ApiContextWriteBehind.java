@@ -0,0 +1,304 @@
+package com.acuver.autwit.engine.service;
+
+import com.acuver.autwit.core.domain.ApiContextEntities;
+import com.acuver.autwit.core.ports.ApiContextPort;
+import com.acuver.autwit.engine.metrics.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * ApiContextWriteBehind - Bounded asynchronous write buffer for API call capture.
+ *
+ * <h2>WHY</h2>
+ * <p>Every Sterling call used to wait on a single-row INSERT carrying both XML
+ * payloads before the step could continue. Captured calls are now queued and
+ * a single flusher thread writes them in batches through
+ * {@link ApiContextPort#saveAll}, so the storage adapter can use a JDBC batch
+ * or {@code insertMany}.</p>
+ *
+ * <h2>CONSISTENCY</h2>
+ * <p>Every queued row is counted against its scenarioKey and stepKey until it
+ * is written. Reads for a scenario or step first wait for that key's pending
+ * rows ({@link #awaitScenario}, {@link #awaitStep}); cross-scenario reads wait
+ * for everything queued ({@link #awaitAll}). Scenario end waits the same way
+ * through {@link ApiContextPort#flush}.</p>
+ *
+ * <h2>BACKPRESSURE &amp; FAILURES</h2>
+ * <ul>
+ *   <li>Queue full (or shutting down): the caller writes its row synchronously.</li>
+ *   <li>Batch failure: the batch is retried row by row; a row that still fails
+ *       is logged and dropped, as storage failures never fail a test.</li>
+ * </ul>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+class ApiContextWriteBehind {
+
+    private static final Logger logger = LogManager.getLogger(ApiContextWriteBehind.class);
+
+    private static final String SCENARIO = "scenario:";
+    private static final String STEP = "step:";
+
+    private final ApiContextPort storage;
+    private final BlockingQueue<ApiContextEntities> queue;
+    private final int batchSize;
+    private final long awaitTimeoutMs;
+
+    /** Rows queued or being written, per scenario/step key. Entries are removed at zero. */
+    private final ConcurrentMap<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingTotal = new AtomicInteger();
+    private final Object persisted = new Object();
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    // ═══════════════════════════════════════════════════════════════
+    // METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rowsFlushed = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LatencyHistogram flushLatency = new LatencyHistogram("api-context.flush");
+    private volatile int lastBatchSize;
+
+    ApiContextWriteBehind(ApiContextPort storage, int capacity, int batchSize, long awaitTimeoutMs) {
+        this.storage = storage;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.awaitTimeoutMs = awaitTimeoutMs;
+
+        this.flusher = new Thread(this::flushLoop, "ApiContextWriteBehind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Queue a validated API context for persistence.
+     */
+    void submit(ApiContextEntities apiContext) {
+        track(apiContext);
+
+        if (!running || !queue.offer(apiContext)) {
+            callerRuns.increment();
+            write(List.of(apiContext));
+            return;
+        }
+        maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    // ==========================================================================
+    // READ CONSISTENCY
+    // ==========================================================================
+
+    void awaitScenario(String scenarioKey) {
+        awaitKey(SCENARIO + scenarioKey);
+    }
+
+    void awaitStep(String stepKey) {
+        awaitKey(STEP + stepKey);
+    }
+
+    void awaitAll() {
+        await(() -> pendingTotal.get() == 0, "all");
+    }
+
+    private void awaitKey(String key) {
+        await(() -> !pending.containsKey(key), key);
+    }
+
+    private void await(BooleanSupplier done, String what) {
+        if (done.getAsBoolean()) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMs);
+        synchronized (persisted) {
+            while (!done.getAsBoolean()) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    logger.warn("Timed out after {} ms waiting for pending API context writes ({})",
+                            awaitTimeoutMs, what);
+                    return;
+                }
+                try {
+                    persisted.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // ==========================================================================
+    // FLUSHER
+    // ==========================================================================
+
+    private void flushLoop() {
+        List<ApiContextEntities> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ApiContextEntities first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("API context flusher error: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ApiContextEntities> batch) {
+        long start = System.nanoTime();
+        try {
+            storage.saveAll(batch);
+        } catch (Exception e) {
+            logger.warn("Batch insert of {} API contexts failed, retrying row by row: {}",
+                    batch.size(), e.getMessage());
+            for (ApiContextEntities apiContext : batch) {
+                try {
+                    storage.save(apiContext);
+                } catch (Exception rowError) {
+                    rowsFailed.increment();
+                    logger.error("Failed to store API context: step={}, api={}, callIndex={}: {}",
+                            apiContext.getStepKey(), apiContext.getApiName(),
+                            apiContext.getCallIndex(), rowError.getMessage(), rowError);
+                }
+            }
+        } finally {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            flushLatency.record(millis);
+            batches.increment();
+            rowsFlushed.add(batch.size());
+            lastBatchSize = batch.size();
+            settle(batch);
+
+            logger.debug("📊 API context flush: batch={} in {} ms, queue depth={}",
+                    batch.size(), millis, queue.size());
+        }
+    }
+
+    // ==========================================================================
+    // PENDING COUNTERS
+    // ==========================================================================
+
+    private void track(ApiContextEntities apiContext) {
+        pendingTotal.incrementAndGet();
+        increment(SCENARIO + apiContext.getScenarioKey());
+        increment(STEP + apiContext.getStepKey());
+    }
+
+    private void settle(List<ApiContextEntities> batch) {
+        for (ApiContextEntities apiContext : batch) {
+            decrement(SCENARIO + apiContext.getScenarioKey());
+            decrement(STEP + apiContext.getStepKey());
+        }
+        pendingTotal.addAndGet(-batch.size());
+        synchronized (persisted) {
+            persisted.notifyAll();
+        }
+    }
+
+    private void increment(String key) {
+        pending.compute(key, (k, count) -> {
+            if (count == null) {
+                return new AtomicInteger(1);
+            }
+            count.incrementAndGet();
+            return count;
+        });
+    }
+
+    private void decrement(String key) {
+        pending.computeIfPresent(key, (k, count) -> count.decrementAndGet() == 0 ? null : count);
+    }
+
+    // ==========================================================================
+    // LIFECYCLE
+    // ==========================================================================
+
+    /**
+     * Stop accepting queued writes and drain what is buffered.
+     */
+    void shutdown() {
+        running = false;
+        try {
+            flusher.join(awaitTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pendingTotal.get() > 0) {
+            logger.warn("API context write-behind stopped with {} rows unwritten", pendingTotal.get());
+        }
+        logger.info("📊 API context write-behind: {} rows in {} batches (avg {}), {} failed, " +
+                        "{} caller-runs, max queue depth {} → {}",
+                getRowsFlushed(), getBatchCount(), String.format("%.1f", getAverageBatchSize()),
+                rowsFailed.sum(), callerRuns.sum(), maxQueueDepth.get(), flushLatency.summary());
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    int getPendingCount() {
+        return pendingTotal.get();
+    }
+
+    long getBatchCount() {
+        return batches.sum();
+    }
+
+    long getRowsFlushed() {
+        return rowsFlushed.sum();
+    }
+
+    long getRowsFailed() {
+        return rowsFailed.sum();
+    }
+
+    long getCallerRuns() {
+        return callerRuns.sum();
+    }
+
+    int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    double getAverageBatchSize() {
+        long n = batches.sum();
+        return n == 0 ? 0.0 : (double) rowsFlushed.sum() / n;
+    }
+
+    LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+}
@@ -0,0 +1,303 @@
+package com.acuver.autwit.engine.notifier;
+
+import com.acuver.autwit.core.domain.EventContextEntities;
+import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.runtime.RuntimeContextPort;
+import com.acuver.autwit.core.utils.CanonicalKeyGenerator;
+import com.acuver.autwit.engine.registry.RunOrderRegistry;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Register-then-probe under races between match() and eventArrived().
+ *
+ * <p>The first tests pin each race window with a storage hook, so every
+ * interleaving is exercised on every run. The stress test then runs pairs of
+ * threads released together by a barrier - one calls match(), the other
+ * persists the event and calls eventArrived() - with a fixed, per-iteration
+ * delay pattern. A match() future that is not completed afterwards is a stall.</p>
+ */
+public class EventStepNotifierRaceTest {
+
+    private static final String SCENARIO = "Race scenario";
+    private static final String EVENT_TYPE = "ORDER_CREATED";
+
+    private RaceStore store;
+    private EventStepNotifier notifier;
+
+    @BeforeMethod
+    public void setUp() {
+        store = new RaceStore();
+        notifier = new EventStepNotifier(store, new FixedScenario(), new RunOrderRegistry());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        notifier.shutdown();
+    }
+
+    // ==========================================================================
+    // PINNED INTERLEAVINGS
+    // ==========================================================================
+
+    @Test
+    public void eventStoredBeforeMatchIsFoundByTheProbe() {
+        EventContextEntities event = event("ORD-1");
+        store.rows.put(event.getCanonicalKey(), event);
+        notifier.eventArrived(event);
+
+        assertSame(notifier.match("ORD-1", EVENT_TYPE).getNow(null), event);
+        assertEquals(notifier.getActiveWaiterCount(), 0);
+    }
+
+    @Test
+    public void eventArrivingWhileTheProbeMissesCompletesTheWaiter() {
+        EventContextEntities event = event("ORD-2");
+        // The probe has already read "no row" when the event is persisted and published
+        store.afterProbe = key -> arrive(event);
+
+        CompletableFuture<EventContextEntities> future = notifier.match("ORD-2", EVENT_TYPE);
+
+        assertSame(future.getNow(null), event);
+        assertEquals(notifier.getActiveWaiterCount(), 0);
+    }
+
+    @Test
+    public void arrivalDuringTheProbeInvalidatesTheCachedMiss() {
+        EventContextEntities event = event("ORD-3");
+        store.afterProbe = key -> arrive(event);
+        notifier.match("ORD-3", EVENT_TYPE);
+        store.afterProbe = null;
+
+        // A repeated check inside the negative-cache window must not trust the stale miss
+        int probesBefore = store.probes.get();
+        CompletableFuture<EventContextEntities> again = notifier.match("ORD-3", EVENT_TYPE);
+
+        assertSame(again.getNow(null), event);
+        assertTrue(store.probes.get() > probesBefore, "stale miss was trusted");
+    }
+
+    @Test
+    public void eventArrivingAfterAMissCompletesTheWaiter() {
+        CompletableFuture<EventContextEntities> future = notifier.match("ORD-4", EVENT_TYPE);
+        assertNull(future.getNow(null));
+
+        EventContextEntities event = event("ORD-4");
+        arrive(event);
+
+        assertSame(future.getNow(null), event);
+        assertSame(notifier.match("ORD-4", EVENT_TYPE).getNow(null), event);
+    }
+
+    // ==========================================================================
+    // STRESS
+    // ==========================================================================
+
+    @Test
+    public void concurrentRegisterAndArrivalNeverStalls() throws Exception {
+        int pairs = 4;
+        int perPair = 5_000;
+
+        List<Thread> threads = new ArrayList<>();
+        List<List<CompletableFuture<EventContextEntities>>> futures = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int p = 0; p < pairs; p++) {
+            int pair = p;
+            CyclicBarrier start = new CyclicBarrier(2);
+            List<CompletableFuture<EventContextEntities>> matched = new ArrayList<>(perPair);
+            futures.add(matched);
+
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perPair; i++) {
+                    await(start, failure);
+                    jitter(i, 0);
+                    matched.add(notifier.match(orderId(pair, i), EVENT_TYPE));
+                }
+            }, "race-match-" + p));
+
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < perPair; i++) {
+                    await(start, failure);
+                    jitter(i, 1);
+                    arrive(event(orderId(pair, i)));
+                }
+            }, "race-arrive-" + p));
+        }
+
+        threads.forEach(Thread::start);
+        for (Thread t : threads) {
+            t.join(TimeUnit.MINUTES.toMillis(2));
+        }
+        assertNull(failure.get(), "race thread failed");
+
+        int stalls = 0;
+        for (int p = 0; p < pairs; p++) {
+            for (int i = 0; i < perPair; i++) {
+                EventContextEntities result = futures.get(p).get(i).getNow(null);
+                if (result == null || !result.getOrderId().equals(orderId(p, i))) {
+                    stalls++;
+                }
+            }
+        }
+        assertEquals(stalls, 0, "match() futures left waiting after their event arrived");
+        assertEquals(notifier.getActiveWaiterCount(), 0);
+    }
+
+    // ==========================================================================
+    // HELPERS
+    // ==========================================================================
+
+    /** Persist, then publish - the order the ingestion path uses. */
+    private void arrive(EventContextEntities event) {
+        store.rows.put(event.getCanonicalKey(), event);
+        notifier.eventArrived(event);
+    }
+
+    /**
+     * Fixed delay pattern: for each iteration one side is delayed by a
+     * different amount, so both orders and the near-simultaneous case recur.
+     */
+    private static void jitter(int iteration, int side) {
+        int pattern = iteration % 4;
+        if (pattern == 0 || pattern % 2 != side) {
+            return;
+        }
+        for (int spins = (iteration * 31) % 512; spins > 0; spins--) {
+            Thread.onSpinWait();
+        }
+        if (pattern == 3) {
+            Thread.yield();
+        }
+    }
+
+    private static void await(CyclicBarrier barrier, AtomicReference<Throwable> failure) {
+        try {
+            barrier.await(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String orderId(int pair, int i) {
+        return "ORD-" + pair + "-" + i;
+    }
+
+    private static EventContextEntities event(String orderId) {
+        return EventContextEntities.builder()
+                .canonicalKey(CanonicalKeyGenerator.generate(SCENARIO, orderId, EVENT_TYPE))
+                .orderId(orderId)
+                .eventType(EVENT_TYPE)
+                .eventTimestamp(System.currentTimeMillis())
+                .createdAt(System.currentTimeMillis())
+                .build();
+    }
+
+    /** Scenario name the notifier reads to build V2 keys. */
+    private static final class FixedScenario implements RuntimeContextPort {
+
+        @Override
+        public <T> void set(String key, T value) {
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T get(String key) {
+            return "scenarioName".equals(key) ? (T) SCENARIO : null;
+        }
+
+        @Override
+        public void remove(String key) {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+
+    /**
+     * In-memory storage whose probe can run a hook after it has read the row.
+     */
+    private static final class RaceStore implements EventContextPort {
+
+        final Map<String, EventContextEntities> rows = new ConcurrentHashMap<>();
+        final AtomicInteger probes = new AtomicInteger();
+        volatile Consumer<String> afterProbe;
+
+        @Override
+        public Optional<EventContextEntities> findByCanonicalKey(String key) {
+            probes.incrementAndGet();
+            Optional<EventContextEntities> found = Optional.ofNullable(rows.get(key));
+            Consumer<String> hook = afterProbe;
+            if (hook != null) {
+                hook.accept(key);
+            }
+            return found;
+        }
+
+        @Override
+        public void save(EventContextEntities ctx) {
+            rows.put(ctx.getCanonicalKey(), ctx);
+        }
+
+        @Override
+        public Optional<EventContextEntities> findLatest(String orderId, String eventType) {
+            return Optional.empty();
+        }
+
+        @Override
+        public int markPaused(EventContextEntities ctx) {
+            return 0;
+        }
+
+        @Override
+        public int markResumeReady(String canonicalKey) {
+            return 0;
+        }
+
+        @Override
+        public boolean isResumeReady(String canonicalKey) {
+            return false;
+        }
+
+        @Override
+        public List<EventContextEntities> findByOrderId(String orderId) {
+            return List.of();
+        }
+
+        @Override
+        public List<EventContextEntities> findPaused() {
+            return List.of();
+        }
+
+        @Override
+        public List<EventContextEntities> findResumeReady(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<EventContextEntities> findCreatedAfter(long afterCreatedAt, String afterKey, long untilInclusive,
+                                                           int limit) {
+            return List.of();
+        }
+    }
+}
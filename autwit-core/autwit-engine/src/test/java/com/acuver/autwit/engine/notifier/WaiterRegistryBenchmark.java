@@ -0,0 +1,290 @@
+package com.acuver.autwit.engine.notifier;
+
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * WaiterRegistry vs the registry it replaced in EventStepNotifier.
+ *
+ * <p>{@code legacy} is the previous code: a CopyOnWriteArrayList per key, one
+ * ScheduledFutureTask per waiter (cancelled on completion) and an active count
+ * that streams every list. {@code wheel} is {@link WaiterRegistry}. Each
+ * invocation handles {@code waiters} waiters spread over {@code waiters / 4}
+ * keys:</p>
+ * <ul>
+ *   <li>{@code registerOrJoin}: one call per waiter - join() on the wheel,
+ *       register on legacy, which had no join</li>
+ *   <li>{@code completeByKey}: complete every key of a populated registry</li>
+ *   <li>{@code activeCount}: monitoring read on a populated registry</li>
+ *   <li>{@code expireAll}: register with a 1 ms TTL and wait for every expiry</li>
+ * </ul>
+ *
+ * <p>Not run by surefire (no TestNG methods). Run it from the test classpath (in autwit-core):</p>
+ * <pre>
+ * mvn -pl autwit-engine test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.acuver.autwit.engine.notifier.WaiterRegistryBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class WaiterRegistryBenchmark {
+
+    private static final int WAITERS_PER_KEY = 4;
+    /** EventStepNotifier's default waiter TTL. */
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration EXPIRY_TTL = Duration.ofMillis(1);
+
+    @State(Scope.Benchmark)
+    public static class Config {
+
+        @Param({"10000", "100000"})
+        public int waiters;
+
+        @Param({"wheel", "legacy"})
+        public String impl;
+
+        String[] keys;
+
+        @Setup
+        public void setUp() {
+            keys = new String[waiters];
+            for (int i = 0; i < waiters; i++) {
+                keys[i] = "Scenario::ORD-" + (i / WAITERS_PER_KEY) + "::ORDER_CREATED";
+            }
+            // One warn line per expired waiter would dominate expireAll
+            Configurator.setLevel(WaiterRegistry.class.getName(), org.apache.logging.log4j.Level.ERROR);
+        }
+
+        Registry newRegistry() {
+            // Production wheel is 1 s x 512; 1 ms ticks let expireAll finish quickly
+            return "wheel".equals(impl) ? new Wheel(new WaiterRegistry<>("Bench", 1, 512)) : new Legacy();
+        }
+    }
+
+    /** Fresh, empty registry per iteration. */
+    @State(Scope.Thread)
+    public static class Empty {
+        Registry registry;
+
+        @Setup(Level.Iteration)
+        public void setUp(Config config) {
+            registry = config.newRegistry();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            registry.shutdown();
+        }
+    }
+
+    /** Registry holding one waiter per key slot, rebuilt per iteration. */
+    @State(Scope.Thread)
+    public static class Populated {
+        Registry registry;
+
+        @Setup(Level.Iteration)
+        public void setUp(Config config) {
+            registry = config.newRegistry();
+            for (String key : config.keys) {
+                registry.register(key, TTL);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            registry.shutdown();
+        }
+    }
+
+    // ==========================================================================
+    // BENCHMARKS
+    // ==========================================================================
+
+    @Benchmark
+    public void registerOrJoin(Config config, Empty state, Blackhole bh) {
+        for (String key : config.keys) {
+            bh.consume(state.registry.join(key, TTL));
+        }
+    }
+
+    @Benchmark
+    public int completeByKey(Config config, Populated state) {
+        int completed = 0;
+        for (int i = 0; i < config.keys.length; i += WAITERS_PER_KEY) {
+            completed += state.registry.completeAll(config.keys[i], "event");
+        }
+        return completed;
+    }
+
+    @Benchmark
+    public int activeCount(Populated state) {
+        return state.registry.active();
+    }
+
+    @Benchmark
+    public int expireAll(Config config, Empty state) throws InterruptedException {
+        List<CompletableFuture<String>> futures = new ArrayList<>(config.keys.length);
+        for (String key : config.keys) {
+            futures.add(state.registry.register(key, EXPIRY_TTL));
+        }
+        int expired = 0;
+        for (CompletableFuture<String> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(WaiterRegistryBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    // ==========================================================================
+    // REGISTRIES
+    // ==========================================================================
+
+    private interface Registry {
+        CompletableFuture<String> register(String key, Duration ttl);
+
+        CompletableFuture<String> join(String key, Duration ttl);
+
+        int completeAll(String key, String value);
+
+        int active();
+
+        void shutdown();
+    }
+
+    private record Wheel(WaiterRegistry<String> registry) implements Registry {
+
+        @Override
+        public CompletableFuture<String> register(String key, Duration ttl) {
+            return registry.register(key, ttl);
+        }
+
+        @Override
+        public CompletableFuture<String> join(String key, Duration ttl) {
+            return registry.join(key, ttl);
+        }
+
+        @Override
+        public int completeAll(String key, String value) {
+            return registry.completeAll(key, value);
+        }
+
+        @Override
+        public int active() {
+            return registry.getActiveWaiterCount();
+        }
+
+        @Override
+        public void shutdown() {
+            registry.clear();
+            registry.shutdown();
+        }
+    }
+
+    /**
+     * EventStepNotifier's waiter handling before WaiterRegistry.
+     */
+    private static final class Legacy implements Registry {
+
+        private final ConcurrentMap<String, List<CompletableFuture<String>>> waiters = new ConcurrentHashMap<>();
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Bench-Legacy-TTL");
+            t.setDaemon(true);
+            return t;
+        });
+
+        @Override
+        public CompletableFuture<String> register(String key, Duration ttl) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            waiters.compute(key, (k, list) -> {
+                if (list == null) {
+                    list = new CopyOnWriteArrayList<>();
+                }
+                list.add(future);
+                return list;
+            });
+
+            ScheduledFuture<?> cleanupTask = scheduler.schedule(() -> {
+                if (!future.isDone()) {
+                    future.completeExceptionally(new TimeoutException("Event wait TTL expired for key=" + key));
+                    waiters.computeIfPresent(key, (k, list) -> {
+                        list.remove(future);
+                        return list.isEmpty() ? null : list;
+                    });
+                }
+            }, ttl.toMillis(), TimeUnit.MILLISECONDS);
+            future.whenComplete((result, error) -> cleanupTask.cancel(true));
+            return future;
+        }
+
+        /** Every match() registered a new waiter. */
+        @Override
+        public CompletableFuture<String> join(String key, Duration ttl) {
+            return register(key, ttl);
+        }
+
+        @Override
+        public int completeAll(String key, String value) {
+            List<CompletableFuture<String>> futures = waiters.remove(key);
+            if (futures == null) {
+                return 0;
+            }
+            futures.forEach(future -> future.complete(value));
+            return futures.size();
+        }
+
+        @Override
+        public int active() {
+            return waiters.values().stream().mapToInt(List::size).sum();
+        }
+
+        @Override
+        public void shutdown() {
+            waiters.clear();
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.acuver.autwit.internal.config.FileReaderManager;
 import com.acuver.autwit.internal.context.RuntimeContextAdapter;
 import com.acuver.autwit.internal.context.ScenarioContext;
 import com.acuver.autwit.internal.context.ScenarioMDC;
+import com.acuver.autwit.internal.context.ScenarioScope;
 import com.acuver.autwit.internal.context.TestThreadContext;
 import com.acuver.autwit.internal.helper.BaseActionsNew;
 import com.acuver.autwit.internal.listeners.TestNGListenerNew;
@@ -97,9 +98,9 @@ public class Hooks {
     // ==========================================================================
 
     /** Thread-local scenario reference (from OLD) */
-    private static final ThreadLocal<Scenario> scenarioThreadLocal = new ThreadLocal<>();
-    private static final ThreadLocal<Map<String, Integer>> stepExecutionCounters =
-            ThreadLocal.withInitial(HashMap::new);
+    private static final ScenarioScope.Slot<Scenario> scenarioThreadLocal = ScenarioScope.Slot.empty();
+    private static final ScenarioScope.Slot<Map<String, Integer>> stepExecutionCounters =
+            ScenarioScope.Slot.withInitial(HashMap::new);
     // ==========================================================================
     // BEFORE HOOKS
     // ==========================================================================
@@ -346,6 +347,10 @@ public class Hooks {
         // Clear contexts
         log.info("🧹 Cleaning up scenario context...");
         try {
+            // 0️⃣ Flush buffered API context writes for this scenario
+            BaseActionsNew.flushApiContext(scenarioKey);
+            log.info("✓ API context writes flushed");
+
             // 1️⃣ Clear RuntimeContextPort
             if (runtimeContext instanceof RuntimeContextAdapter) {
                 ((RuntimeContextAdapter) runtimeContext).clear();
@@ -1,8 +1,9 @@
 package com.acuver.autwit.internal.asserts;
+import com.acuver.autwit.internal.context.ScenarioScope;
 import org.testng.asserts.SoftAssert;
 
 public final class SoftAssertUtils {
-    private static final ThreadLocal<SoftAssert> TL = new ThreadLocal<>();
+    private static final ScenarioScope.Slot<SoftAssert> TL = ScenarioScope.Slot.empty();
 
     private SoftAssertUtils(){}
 
@@ -28,13 +28,21 @@ public class ConfigFileReader {
     private final String BASE_DIRECTORY = "target/testData";
 
     public ConfigFileReader(long threadId) {
+        this("Thread_" + threadId);
+    }
+
+    /**
+     * @param workspaceName Workspace directory under target/testData
+     *                      ({@code Thread_<id>} or {@code Scope_<id>}, see ScenarioScope)
+     */
+    public ConfigFileReader(String workspaceName) {
         BufferedReader reader = null;
-        String configFilePath = BASE_DIRECTORY + "/Thread_" + threadId + "/config.properties";
+        String configFilePath = BASE_DIRECTORY + "/" + workspaceName + "/config.properties";
         File sourceDirectory = new File(configFilePath);
 
         try {
-            if (!configFilePath.startsWith(BASE_DIRECTORY + "/Thread_" + threadId)) {
-                throw new RuntimeException("Thread ID mismatch: Cannot access file " + configFilePath);
+            if (workspaceName.contains("..") || workspaceName.contains("/")) {
+                throw new RuntimeException("Workspace mismatch: Cannot access file " + configFilePath);
             }
 
             if (!sourceDirectory.exists()) {
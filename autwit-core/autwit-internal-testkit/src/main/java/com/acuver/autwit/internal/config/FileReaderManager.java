@@ -1,15 +1,51 @@
 package com.acuver.autwit.internal.config;
 
+import com.acuver.autwit.internal.context.ScenarioScope;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
 /**
- * FileReaderManager - Singleton for ConfigFileReader access.
+ * FileReaderManager - Singleton for cached ConfigFileReader access.
  *
  * <h2>LOCATION</h2>
  * Module: autwit-internal
  * Package: com.acuver.autwit.internal.config
  *
+ * <h2>CACHING</h2>
+ * <p>A ConfigFileReader is an immutable snapshot of one workspace's
+ * {@code config.properties}. Snapshots are cached per workspace
+ * ({@code Thread_<id>} / {@code Scope_<id>}) and pinned in a ScenarioScope
+ * slot, so the hot path of {@link #getConfigReader()} is one slot read and
+ * one volatile flag check — no monitor, no file I/O, no allocation.</p>
+ *
+ * <h2>INVALIDATION</h2>
+ * <ul>
+ *   <li>Explicit: TestNGListenerNew calls {@link #invalidate(String)} right
+ *       after it rewrites a workspace's config file.</li>
+ *   <li>File watch: a daemon WatchService thread drops the snapshot when
+ *       {@code config.properties} is created, modified or deleted on disk.</li>
+ *   <li>Release: when a ScenarioScope closes, {@link #release(String)} drops
+ *       its {@code Scope_<id>} snapshot and cancels the directory's watch key,
+ *       so short-lived scopes leave neither cache entries nor watches behind.</li>
+ * </ul>
+ *
  * @author AUTWIT Framework
  * @since 2.0.0
  */
@@ -17,10 +53,23 @@ public class FileReaderManager {
 
     private static final Logger logger = LogManager.getLogger(FileReaderManager.class);
 
+    private static final String BASE_DIRECTORY = "target/testData";
+    private static final String CONFIG_FILE_NAME = "config.properties";
+
     private static FileReaderManager fileReaderManager = new FileReaderManager();
-    private ConfigFileReader configFileReader;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ScenarioScope.Slot<Snapshot> pinned = ScenarioScope.Slot.empty();
+
+    private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+    private final WatchService watchService;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
 
     private FileReaderManager() {
+        watchService = startWatcher();
     }
 
     public static FileReaderManager getInstance() {
@@ -30,9 +79,152 @@ public class FileReaderManager {
         return fileReaderManager;
     }
 
-    public synchronized ConfigFileReader getConfigReader() {
-        long threadId = Thread.currentThread().getId();
-        configFileReader = new ConfigFileReader(threadId);
-        return configFileReader;
+    /**
+     * Config snapshot for the current workspace.
+     */
+    public ConfigFileReader getConfigReader() {
+        Snapshot snapshot = pinned.get();
+        if (snapshot != null && !snapshot.stale) {
+            hits.increment();
+            return snapshot.reader;
+        }
+
+        snapshot = snapshots.computeIfAbsent(ScenarioScope.workspaceName(), this::load);
+        pinned.set(snapshot);
+        return snapshot.reader;
+    }
+
+    /**
+     * Drop the cached snapshot of a workspace (e.g. after rewriting its config file).
+     *
+     * @param workspaceName Workspace directory name under target/testData
+     */
+    public void invalidate(String workspaceName) {
+        Snapshot snapshot = snapshots.remove(workspaceName);
+        if (snapshot != null) {
+            snapshot.stale = true;
+            invalidations.increment();
+            logger.debug("Config snapshot invalidated for {}", workspaceName);
+        }
+    }
+
+    /**
+     * Forget a workspace that is going away: drop its snapshot and stop
+     * watching its directory.
+     *
+     * @param workspaceName Workspace directory name under target/testData
+     */
+    public void release(String workspaceName) {
+        invalidate(workspaceName);
+        WatchKey key = watchKeys.remove(Paths.get(BASE_DIRECTORY, workspaceName));
+        if (key != null) {
+            key.cancel();
+        }
+    }
+
+    /**
+     * Drop every cached snapshot.
+     */
+    public void invalidateAll() {
+        snapshots.keySet().forEach(this::invalidate);
+    }
+
+    private Snapshot load(String workspaceName) {
+        ConfigFileReader reader = new ConfigFileReader(workspaceName);
+        loads.increment();
+        watch(Paths.get(BASE_DIRECTORY, workspaceName));
+        return new Snapshot(reader);
+    }
+
+    // ==========================================================================
+    // FILE WATCH
+    // ==========================================================================
+
+    private WatchService startWatcher() {
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            Thread watcher = new Thread(() -> watchLoop(service), "ConfigFileWatcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            return service;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warn("Config file watch unavailable, relying on explicit invalidation: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void watch(Path directory) {
+        if (watchService == null || watchKeys.containsKey(directory)) {
+            return;
+        }
+        try {
+            // Registering the same directory twice returns the same key
+            watchKeys.put(directory, directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+        } catch (IOException e) {
+            logger.warn("Could not watch {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void watchLoop(WatchService service) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            String workspaceName = directory.getFileName().toString();
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW
+                        || CONFIG_FILE_NAME.equals(String.valueOf(event.context()))) {
+                    invalidate(workspaceName);
+                }
+            }
+
+            if (!key.reset()) {
+                // Directory deleted or released - re-registered on next load
+                watchKeys.remove(directory, key);
+                invalidate(workspaceName);
+            }
+        }
+    }
+
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    public long getCacheLoads() {
+        return loads.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public int getCachedSnapshots() {
+        return snapshots.size();
+    }
+
+    public int getWatchedDirectories() {
+        return watchKeys.size();
+    }
+
+    /**
+     * Cached reader plus its invalidation flag.
+     */
+    private static final class Snapshot {
+        private final ConfigFileReader reader;
+        private volatile boolean stale;
+
+        private Snapshot(ConfigFileReader reader) {
+            this.reader = reader;
+        }
     }
-}
\ No newline at end of file
+}
@@ -10,9 +10,9 @@ import org.apache.http.params.CoreConnectionPNames;
 
 public final class ApiContext {
 
-    private static final ThreadLocal<RequestSpecification> threadLocalRequest = new ThreadLocal<>();
-    private static final ThreadLocal<Response> threadLocalResponse = new ThreadLocal<>();
-    private static final ThreadLocal<RestAssuredConfig> threadLocalConfig = ThreadLocal.withInitial(() ->
+    private static final ScenarioScope.Slot<RequestSpecification> threadLocalRequest = ScenarioScope.Slot.empty();
+    private static final ScenarioScope.Slot<Response> threadLocalResponse = ScenarioScope.Slot.empty();
+    private static final ScenarioScope.Slot<RestAssuredConfig> threadLocalConfig = ScenarioScope.Slot.withInitial(() ->
             RestAssured.config()
                     .httpClient(HttpClientConfig.httpClientConfig()
                             .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, 5000))
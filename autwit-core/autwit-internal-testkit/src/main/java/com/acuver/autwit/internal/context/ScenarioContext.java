@@ -4,15 +4,15 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Runtime (ThreadLocal) scenario context.
+ * Runtime (ScenarioScope / ThreadLocal) scenario context.
  * 
  * This is execution-time, thread-scoped service.
  * It is NOT persisted service (see ScenarioStateContextEntities in core.domain).
  */
 public final class ScenarioContext {
 
-    private static final ThreadLocal<Map<String, Object>> store =
-            ThreadLocal.withInitial(HashMap::new);
+    private static final ScenarioScope.Slot<Map<String, Object>> store =
+            ScenarioScope.Slot.withInitial(HashMap::new);
 
     private ScenarioContext() {}
 
@@ -0,0 +1,189 @@
+package com.acuver.autwit.internal.context;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * ScenarioScope - Scenario-owned runtime state, independent of thread identity.
+ *
+ * <h2>WHY</h2>
+ * <p>Runtime context (ScenarioContext, ApiContext, TestThreadContext, Hooks,
+ * SoftAssertUtils) used to be pure ThreadLocals and the test data workspace
+ * was {@code target/testData/Thread_<threadId>}. That ties a scenario to one
+ * platform thread for its whole life. A ScenarioScope owns that state
+ * instead, so a scenario can run on a short-lived virtual thread and
+ * thousands of in-flight scenarios cost one small object each.</p>
+ *
+ * <h2>HOW</h2>
+ * <ul>
+ *   <li>Context classes declare {@link Slot}s instead of ThreadLocals.</li>
+ *   <li>While a scope is bound ({@link #runIn}/{@link #callIn}) a slot reads
+ *       and writes the scope's map.</li>
+ *   <li>With no scope bound, a slot behaves exactly like the ThreadLocal it
+ *       replaced, so the TestNG/platform-thread path is unchanged.</li>
+ * </ul>
+ *
+ * <h2>USAGE</h2>
+ * <pre>
+ * ScenarioScope scope = ScenarioScope.open();
+ * Thread.ofVirtual().start(() -> ScenarioScope.runIn(scope, () -> runner.runScenario(pickle)));
+ * </pre>
+ *
+ * <p>Java 21 {@code ScopedValue} is still a preview API, so the binding itself
+ * is a ThreadLocal holding the scope reference; the state lives in the scope.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+public final class ScenarioScope {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<ScenarioScope> BOUND = new ThreadLocal<>();
+
+    private final long id;
+    private final Map<Slot<?>, Object> values = new ConcurrentHashMap<>();
+
+    private ScenarioScope(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Create a new, unbound scope.
+     */
+    public static ScenarioScope open() {
+        return new ScenarioScope(SEQUENCE.incrementAndGet());
+    }
+
+    /**
+     * Scope bound to the current thread, or null on the ThreadLocal path.
+     */
+    public static ScenarioScope current() {
+        return BOUND.get();
+    }
+
+    /**
+     * Run {@code task} with {@code scope} bound, restoring the previous binding afterwards.
+     */
+    public static void runIn(ScenarioScope scope, Runnable task) {
+        ScenarioScope previous = BOUND.get();
+        BOUND.set(scope);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Call {@code task} with {@code scope} bound, restoring the previous binding afterwards.
+     */
+    public static <V> V callIn(ScenarioScope scope, Callable<V> task) throws Exception {
+        ScenarioScope previous = BOUND.get();
+        BOUND.set(scope);
+        try {
+            return task.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(ScenarioScope previous) {
+        if (previous == null) {
+            BOUND.remove();
+        } else {
+            BOUND.set(previous);
+        }
+    }
+
+    /**
+     * Test data workspace directory name under {@code target/testData}.
+     *
+     * @return {@code Scope_<id>} when a scope is bound, otherwise {@code Thread_<threadId>}
+     */
+    public static String workspaceName() {
+        ScenarioScope scope = BOUND.get();
+        return scope != null
+                ? scope.getWorkspaceName()
+                : "Thread_" + Thread.currentThread().threadId();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return {@code Scope_<id>}, this scope's workspace under {@code target/testData}
+     */
+    public String getWorkspaceName() {
+        return "Scope_" + id;
+    }
+
+    /**
+     * Drop all state held by this scope.
+     */
+    public void close() {
+        values.clear();
+    }
+
+    // ==========================================================================
+    // SLOT
+    // ==========================================================================
+
+    /**
+     * Drop-in replacement for a ThreadLocal: scope-backed when a scope is
+     * bound, thread-backed otherwise.
+     */
+    public static final class Slot<T> {
+
+        private final Supplier<? extends T> initial;
+        private final ThreadLocal<T> fallback;
+
+        private Slot(Supplier<? extends T> initial) {
+            this.initial = initial;
+            this.fallback = initial != null ? ThreadLocal.withInitial(initial) : new ThreadLocal<>();
+        }
+
+        public static <T> Slot<T> empty() {
+            return new Slot<>(null);
+        }
+
+        public static <T> Slot<T> withInitial(Supplier<? extends T> initial) {
+            return new Slot<>(initial);
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get() {
+            ScenarioScope scope = BOUND.get();
+            if (scope == null) {
+                return fallback.get();
+            }
+            if (initial == null) {
+                return (T) scope.values.get(this);
+            }
+            return (T) scope.values.computeIfAbsent(this, k -> initial.get());
+        }
+
+        public void set(T value) {
+            ScenarioScope scope = BOUND.get();
+            if (scope == null) {
+                fallback.set(value);
+            } else if (value == null) {
+                scope.values.remove(this);
+            } else {
+                scope.values.put(this, value);
+            }
+        }
+
+        public void remove() {
+            ScenarioScope scope = BOUND.get();
+            if (scope == null) {
+                fallback.remove();
+            } else {
+                scope.values.remove(this);
+            }
+        }
+    }
+}
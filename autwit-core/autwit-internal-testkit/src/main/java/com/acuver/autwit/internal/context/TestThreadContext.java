@@ -12,8 +12,8 @@ import java.util.Map;
 public final class TestThreadContext {
     private static final Logger logger = LogManager.getLogger(TestThreadContext.class);
 
-    private static final ThreadLocal<Map<String, Object>> threadContextTest =
-            ThreadLocal.withInitial(HashMap::new);
+    private static final ScenarioScope.Slot<Map<String, Object>> threadContextTest =
+            ScenarioScope.Slot.withInitial(HashMap::new);
 
     private TestThreadContext() { /* utility */ }
 
@@ -1,9 +1,12 @@
 package com.acuver.autwit.internal.helper;
 
 import com.acuver.autwit.core.domain.ApiContextEntities;
+import com.acuver.autwit.core.ports.ApiCallMetricsPort;
 import com.acuver.autwit.core.ports.ApiContextPort;
+import com.acuver.autwit.core.ports.RunOrderRegistryPort;
 import com.acuver.autwit.core.ports.runtime.RuntimeContextPort;
 import com.acuver.autwit.internal.config.FileReaderManager;
+import com.acuver.autwit.internal.context.ScenarioScope;
 import io.restassured.RestAssured;
 import io.restassured.config.HttpClientConfig;
 import io.restassured.config.RestAssuredConfig;
@@ -44,6 +47,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -59,6 +63,7 @@ import static io.restassured.RestAssured.given;
  *   <li>Retrieves stored responses for assertions and reference</li>
  *   <li>Supports multiple calls to same API within one scenario</li>
  *   <li>Thread-safe for parallel execution</li>
+ *   <li>Times every call (per-API latency histograms, duration stored per row)</li>
  * </ul>
  *
  * <h2>USAGE - MAKING CALLS</h2>
@@ -114,8 +119,8 @@ public class BaseActionsNew {
      * - NEW: Tracked at step level (stepKey + apiName)
      * - REASON: Prevents cross-step contamination in parallel execution
      */
-    private static final ThreadLocal<Map<String, Integer>> callIndexTracker =
-            ThreadLocal.withInitial(ConcurrentHashMap::new);
+    private static final ScenarioScope.Slot<Map<String, Integer>> callIndexTracker =
+            ScenarioScope.Slot.withInitial(ConcurrentHashMap::new);
 
     @Autowired(required = false)
     @Qualifier("apiContextService")
@@ -124,6 +129,12 @@ public class BaseActionsNew {
     @Autowired(required = false)
     private RuntimeContextPort runtimeContext;
 
+    @Autowired(required = false)
+    private ApiCallMetricsPort apiCallMetrics;
+
+    @Autowired(required = false)
+    private RunOrderRegistryPort runOrders;
+
     private static BaseActionsNew instance;
 
     @PostConstruct
@@ -197,13 +208,22 @@ public class BaseActionsNew {
             logger.debug("Output Template provided for: {}", name);
         }
 
-        // Execute request
-        Response response = executeHttpRequest(request, httpMethod);
-        Response xmlResponse = response.then().assertThat().statusCode(200).and().extract().response();
+        // Execute request (timed; failures are counted as errors before rethrowing)
+        long start = System.nanoTime();
+        Response xmlResponse;
+        try {
+            Response response = executeHttpRequest(request, httpMethod);
+            xmlResponse = response.then().assertThat().statusCode(200).and().extract().response();
+        } catch (RuntimeException | AssertionError e) {
+            recordCallMetrics(name, isService, System.nanoTime() - start, 0L, true);
+            throw e;
+        }
+        long durationNanos = System.nanoTime() - start;
 
         // Log response
         String responseBody = xmlResponse.asString();
         String rootName = getXmlRootName(responseBody);
+        recordCallMetrics(name, isService, durationNanos, xmlResponse.asByteArray().length, ERRORS.equals(rootName));
 
         if (!ERRORS.equals(rootName)) {
             logger.info("Response: {}\n{}", name, responseBody);
@@ -212,11 +232,25 @@ public class BaseActionsNew {
         }
 
         // ✅ Store to database with scenario isolation and call index
-        storeToDatabase(name, httpMethod, inputXml, responseBody, template, isService);
+        storeToDatabase(name, httpMethod, inputXml, responseBody, template, isService,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
 
         return xmlResponse;
     }
 
+    /**
+     * Record the call into the live per-API histograms (no-op without an engine).
+     */
+    private void recordCallMetrics(String name, boolean isService, long durationNanos,
+                                   long responseBytes, boolean error) {
+        if (apiCallMetrics == null) {
+            return;
+        }
+        apiCallMetrics.record(name, isService, durationNanos, responseBytes, error);
+        logger.debug("⏱️ {} took {} ms ({} bytes{})", name, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                responseBytes, error ? ", error" : "");
+    }
+
     /**
      * Execute HTTP request based on method.
      */
@@ -276,7 +310,7 @@ public class BaseActionsNew {
      * - Enables cross-scenario order tracking
      */
     private void storeToDatabase(String apiName, String httpMethod, String request,
-                                 String response, String template, boolean isService) {
+                                 String response, String template, boolean isService, long durationMs) {
         if (apiContextService == null) {
             logger.debug("ApiContextService not available - skipping database storage");
             return;
@@ -326,6 +360,9 @@ public class BaseActionsNew {
 
             // Extract business entity correlation from response
             String orderNo = extractOrderNo(response);
+            if (runOrders != null) {
+                runOrders.register(orderNo); // events for this order pass the Kafka relevance filter
+            }
             String orderHeaderKey = extractOrderHeaderKey(response);
 
 
@@ -357,6 +394,7 @@ public class BaseActionsNew {
                     .serviceName(isService ? apiName : null)
                     .orderNo(orderNo)
                     .orderHeaderKey(orderHeaderKey)
+                    .durationMs(durationMs)
                     .build();
 
             // Save to database
@@ -404,6 +442,19 @@ public class BaseActionsNew {
         return currentIndex;
     }
 
+    /**
+     * Wait until API contexts captured for the scenario are persisted
+     * (called from Hooks.cleanupScenarioContext).
+     *
+     * @param scenarioKey Scenario identifier
+     */
+    public static void flushApiContext(String scenarioKey) {
+        if (instance == null || instance.apiContextService == null) {
+            return;
+        }
+        instance.apiContextService.flush(scenarioKey);
+    }
+
     /**
      * Clear call index tracker (called from Hooks.cleanupScenarioContext).
      */
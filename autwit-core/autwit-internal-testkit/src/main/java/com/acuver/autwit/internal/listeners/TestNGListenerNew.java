@@ -4,6 +4,7 @@ package com.acuver.autwit.internal.listeners;
 import com.acuver.autwit.internal.asserts.SoftAssertUtils;
 import com.acuver.autwit.internal.config.FileReaderManager;
 import com.acuver.autwit.internal.context.ScenarioContext;
+import com.acuver.autwit.internal.context.ScenarioScope;
 import com.acuver.autwit.internal.context.TestThreadContext;
 import com.acuver.autwit.internal.helper.BaseActions;
 import com.acuver.autwit.internal.integration.CreateIssue;
@@ -104,10 +105,10 @@ public class TestNGListenerNew implements ITestListener, ISuiteListener {
     // ==========================================================================
 
     /** Thread-local SterlingApiCalls instance (from OLD) */
-    public static final ThreadLocal<Object> apiCalls = new ThreadLocal<>();
+    public static final ScenarioScope.Slot<Object> apiCalls = ScenarioScope.Slot.empty();
 
     /** Thread-local current scenario */
-    private static final ThreadLocal<Scenario> currentScenario = new ThreadLocal<>();
+    private static final ScenarioScope.Slot<Scenario> currentScenario = ScenarioScope.Slot.empty();
 
     // ==========================================================================
     // SYNCHRONIZATION (from OLD)
@@ -174,8 +175,22 @@ public class TestNGListenerNew implements ITestListener, ISuiteListener {
 
         log.info("➡ Test START [{}] on thread {}", getTestKey(result), threadId);
 
-        // Setup thread-specific directories (from OLD)
-        String destination = BASE_DIRECTORY + "/Thread_" + threadId;
+        prepareThreadWorkspace();
+    }
+
+    /**
+     * Prepare the current workspace's test data directory and SterlingApiCalls.
+     *
+     * <p>Invoked per test by TestNG, and directly by the warm resume runtime
+     * which dispatches pickles without going through a TestNG suite. When a
+     * ScenarioScope is bound the workspace is {@code Scope_<id>} rather than
+     * {@code Thread_<id>}.</p>
+     */
+    public void prepareThreadWorkspace() {
+        long threadId = Thread.currentThread().threadId();
+
+        // Setup workspace-specific directories (from OLD)
+        String destination = BASE_DIRECTORY + "/" + ScenarioScope.workspaceName();
         String source = "src/test/resources/testData";
         File sourceDirectory = new File(source);
         File destinationDirectory = new File(destination);
@@ -194,11 +209,29 @@ public class TestNGListenerNew implements ITestListener, ISuiteListener {
             copyDirectory(sourceDirectory, destinationDirectory, threadId);
             copyConfigFile(destinationDirectory, threadId);
             updateConfigFilePath(destinationDirectory.getPath(), threadId);
+            FileReaderManager.getInstance().invalidate(ScenarioScope.workspaceName());
         } catch (IOException e) {
             log.error("Failed to initialize directories and copy files for thread {}", threadId, e);
         }
     }
 
+    /**
+     * Remove a closing ScenarioScope's {@code Scope_<id>} workspace.
+     *
+     * <p>Thread_<id> workspaces are reused by their platform thread; a scope
+     * workspace never is, so without this every virtual-thread scenario would
+     * leave a copy of testData, a config snapshot and a directory watch behind.</p>
+     */
+    public void releaseScopeWorkspace(ScenarioScope scope) {
+        String workspaceName = scope.getWorkspaceName();
+        FileReaderManager.getInstance().release(workspaceName);
+
+        File directory = new File(BASE_DIRECTORY, workspaceName);
+        if (directory.exists() && !deleteDirectoryRecursively(directory)) {
+            log.warn("Failed to delete scope workspace: {}", directory.getAbsolutePath());
+        }
+    }
+
     /**
      * Called when test succeeds.
      * (from OLD: onTestSuccess + NEW: retry tracking)
@@ -404,8 +437,7 @@ public class TestNGListenerNew implements ITestListener, ISuiteListener {
      * Get error response path for current thread.
      */
     private String getErrorResponsePath() {
-        long threadId = Thread.currentThread().threadId();
-        return BASE_DIRECTORY + "/Thread_" + threadId + "/responseXmls/ErrorResponse.xml";
+        return BASE_DIRECTORY + "/" + ScenarioScope.workspaceName() + "/responseXmls/ErrorResponse.xml";
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.acuver.autwit.internal.reporting;
 
+import com.acuver.autwit.internal.context.ScenarioScope;
 import io.qameta.allure.Allure;
 import io.qameta.allure.AllureLifecycle;
 import io.qameta.allure.model.Status;
@@ -37,7 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * </pre>
  *
  * <h2>THREAD SAFETY</h2>
- * Uses ThreadLocal for test UUID and ConcurrentHashMap for active test tracking.
+ * Uses a ScenarioScope slot (ThreadLocal fallback) for test UUID and ConcurrentHashMap for active test tracking.
  * Safe for parallel Cucumber execution with proper isolation.
  *
  * <h2>CLEANUP STRATEGY</h2>
@@ -53,7 +54,7 @@ public class AllureLifecycleManager {
     private static final Logger log = LogManager.getLogger(AllureLifecycleManager.class);
 
     /** Thread-local storage for current test UUID */
-    private static final ThreadLocal<String> currentTestUuid = new ThreadLocal<>();
+    private static final ScenarioScope.Slot<String> currentTestUuid = ScenarioScope.Slot.empty();
 
     /** Track active test cases for verification and cleanup (thread-safe) */
     private static final ConcurrentHashMap<String, TestInfo> activeTests = new ConcurrentHashMap<>();
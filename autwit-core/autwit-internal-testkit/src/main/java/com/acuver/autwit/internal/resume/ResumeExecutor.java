@@ -3,6 +3,7 @@ package com.acuver.autwit.internal.resume;
 import com.acuver.autwit.internal.listeners.TestNGListenerNew;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.testng.TestNG;
@@ -24,6 +25,7 @@ import java.util.Map;
  *   <li>Build dynamic TestNG configuration for specific scenarios</li>
  *   <li>Execute tests programmatically using TestNG API</li>
  *   <li>Report execution results with metrics</li>
+ *   <li>Delegate to {@link WarmResumeRuntime} when enabled (no suite rebuild, no feature re-parse)</li>
  * </ul>
  *
  * <h2>HARDENED FEATURES</h2>
@@ -43,6 +45,7 @@ import java.util.Map;
  *   resume:
  *     parallel: false
  *     thread-count: 1
+ *     warm-runtime: false
  * </pre>
  *
  * @author AUTWIT Framework
@@ -62,6 +65,9 @@ public class ResumeExecutor {
     @Value("${autwit.resume.thread-count:1}")
     private int threadCount;
 
+    @Autowired(required = false)
+    private WarmResumeRuntime warmRuntime;
+
     /**
      * Execute specific scenarios by their keys.
      *
@@ -95,6 +101,11 @@ public class ResumeExecutor {
             cleanedKeys.forEach(k -> log.debug("   - {}", k));
         }
 
+        // Warm path: pickles already parsed and indexed
+        if (warmRuntime != null) {
+            return warmRuntime.execute(cleanedKeys);
+        }
+
         long startTime = System.currentTimeMillis();
         ExecutionResult result = new ExecutionResult();
         result.setTotalScenarios(cleanedKeys.size());
@@ -148,6 +159,8 @@ public class ResumeExecutor {
             } else {
                 log.info("✅ Resume execution completed successfully ({}ms)", duration);
             }
+            log.info("❄️ Cold resume: {} scenario(s) in {}ms (avg {}ms/scenario)",
+                    cleanedKeys.size(), duration, duration / cleanedKeys.size());
 
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
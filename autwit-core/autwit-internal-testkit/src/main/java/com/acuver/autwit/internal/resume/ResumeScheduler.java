@@ -2,8 +2,12 @@ package com.acuver.autwit.internal.resume;
 
 import com.acuver.autwit.core.domain.EventContextEntities;
 import com.acuver.autwit.core.ports.EventContextPort;
+import com.acuver.autwit.core.ports.ResumeQueuePort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -12,6 +16,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
@@ -19,11 +25,26 @@ import java.util.stream.Collectors;
  *
  * <h2>RESPONSIBILITY</h2>
  * <ul>
- *   <li>Poll for scenarios marked resumeReady in database</li>
+ *   <li>Drain resumeReady transitions from the ResumeQueuePort (event-driven path)</li>
+ *   <li>Scan for scenarios marked resumeReady in database (fallback path)</li>
  *   <li>Build dynamic TestNG configuration for resume</li>
  *   <li>Trigger programmatic test execution via ResumeExecutor</li>
  * </ul>
  *
+ * <h2>EVENT-DRIVEN RESUME</h2>
+ * <p>ResumeEngine enqueues each key on ResumeQueuePort as soon as it marks it
+ * resumeReady. A dedicated drain thread collects keys until either
+ * {@code batch-size} keys are gathered or {@code linger-ms} elapses, then
+ * re-executes the batch. The periodic scan only catches keys lost across a
+ * restart or enqueued while no queue was wired, and it reads at most
+ * {@code scan-limit} rows via {@code findResumeReady(limit)}.</p>
+ *
+ * <h2>BACKLOG-SIZED BATCHES</h2>
+ * <p>With {@code parallel: true} a drained batch grows with the queue depth
+ * (up to {@code scan-limit}) so a burst of resumeReady keys reaches the
+ * adaptive worker pool in one hand-off. After every batch the scheduler logs
+ * queue depth and drain rate (scenarios/s).</p>
+ *
  * <h2>ARCHITECTURAL CONSTRAINT</h2>
  * This component does NOT make resume decisions. That is the sole responsibility
  * of ResumeEngine. This component only orchestrates re-execution of scenarios
@@ -37,6 +58,9 @@ import java.util.stream.Collectors;
  *     poll-interval: 30000       # Poll every 30 seconds
  *     batch-size: 10             # Process 10 scenarios per batch
  *     max-retries: 3             # Maximum resume attempts per scenario
+ *     linger-ms: 200             # Max wait to fill a queue-driven batch
+ *     scan-limit: 500            # Max rows per fallback scan
+ *     parallel: false            # Backlog-sized batches + adaptive pool
  * </pre>
  *
  * @author AUTWIT Framework
@@ -51,6 +75,13 @@ public class ResumeScheduler {
 
     private final EventContextPort eventContextPort;
     private final ResumeExecutor resumeExecutor;
+    private final ResumeQueuePort resumeQueue;
+
+    /** Serializes queue-driven and scan-driven batches so a scenario is never resumed twice. */
+    private final Object executionLock = new Object();
+
+    private volatile boolean running;
+    private Thread drainThread;
 
     @Value("${autwit.resume.batch-size:10}")
     private int batchSize;
@@ -58,23 +89,125 @@ public class ResumeScheduler {
     @Value("${autwit.resume.max-retries:3}")
     private int maxRetries;
 
+    @Value("${autwit.resume.linger-ms:200}")
+    private long lingerMs;
+
+    @Value("${autwit.resume.scan-limit:500}")
+    private int scanLimit;
+
+    @Value("${autwit.resume.parallel:false}")
+    private boolean parallel;
+
+    // ═══════════════════════════════════════════════════════════════
+    // DRAIN METRICS
+    // ═══════════════════════════════════════════════════════════════
+    private final LongAdder drainedTotal = new LongAdder();
+    private final LongAdder drainMillisTotal = new LongAdder();
+    private volatile double lastDrainRate;
+
     /**
      * Constructor with dependency injection.
      *
      * @param eventContextPort Port for querying event/scenario state
      * @param resumeExecutor Executor for running resumed scenarios
+     * @param resumeQueueProvider Optional queue fed by ResumeEngine on resumeReady transitions
      */
-    public ResumeScheduler(EventContextPort eventContextPort, ResumeExecutor resumeExecutor) {
+    public ResumeScheduler(EventContextPort eventContextPort,
+                           ResumeExecutor resumeExecutor,
+                           ObjectProvider<ResumeQueuePort> resumeQueueProvider) {
         this.eventContextPort = eventContextPort;
         this.resumeExecutor = resumeExecutor;
-        log.info("✅ ResumeScheduler initialized (batch-size={}, max-retries={})", batchSize, maxRetries);
+        this.resumeQueue = resumeQueueProvider.getIfAvailable();
+    }
+
+    /**
+     * Start the queue drain thread (if a ResumeQueuePort is available).
+     */
+    @PostConstruct
+    public void start() {
+        log.info("✅ ResumeScheduler initialized (batch-size={}, max-retries={}, linger-ms={}, queue={})",
+                batchSize, maxRetries, lingerMs, resumeQueue != null ? "enabled" : "disabled - scan only");
+
+        if (resumeQueue == null) {
+            return;
+        }
+
+        running = true;
+        drainThread = new Thread(this::drainLoop, "ResumeScheduler-Drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Stop the drain thread.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (drainThread != null) {
+            drainThread.interrupt();
+        }
+    }
+
+    /**
+     * Event-driven path: drain keys by size or linger window and resume them.
+     */
+    private void drainLoop() {
+        while (running) {
+            try {
+                List<String> keys = resumeQueue.drain(maxDrainBatch(), lingerMs, 1000);
+                if (keys.isEmpty()) {
+                    continue;
+                }
+
+                log.debug("⚡ Drained {} resumeReady key(s) from queue", keys.size());
+                processBatch(keys);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ Error draining resume queue: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Batch bound for the next drain: fixed in sequential mode, sized from
+     * the current queue depth in parallel mode.
+     */
+    private int maxDrainBatch() {
+        if (!parallel) {
+            return batchSize;
+        }
+        return Math.max(batchSize, Math.min(resumeQueue.size() + 1, scanLimit));
     }
 
     /**
-     * Scheduled task to check for resumable scenarios.
+     * Re-read keys from storage under the execution lock: the queue is only a
+     * signal and scan results may be stale, storage decides eligibility.
+     */
+    private List<EventContextEntities> resolveEligible(List<String> keys) {
+        List<EventContextEntities> eligible = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Optional<EventContextEntities> ctx = eventContextPort.findByCanonicalKey(key);
+                ctx.filter(EventContextEntities::isResumeReady)
+                        .filter(c -> c.getRetryCount() < maxRetries)
+                        .ifPresent(eligible::add);
+            } catch (Exception e) {
+                log.warn("Failed to load queued scenario {}: {}", key, e.getMessage());
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * Scheduled fallback check for resumable scenarios.
      *
      * <p>Runs at fixed intervals (default: 30 seconds). Queries database for
-     * scenarios with resumeReady=true, then triggers re-execution.</p>
+     * scenarios with resumeReady=true, then triggers re-execution. In normal
+     * operation the queue drain thread has already resumed them.</p>
      */
     @Scheduled(fixedDelayString = "${autwit.resume.poll-interval:30000}")
     public void checkForResumableScenarios() {
@@ -98,7 +231,9 @@ public class ResumeScheduler {
                 List<EventContextEntities> batch = batches.get(i);
                 log.info("📦 Processing batch {}/{} ({} scenarios)",
                         i + 1, batches.size(), batch.size());
-                processBatch(batch);
+                processBatch(batch.stream()
+                        .map(EventContextEntities::getCanonicalKey)
+                        .collect(Collectors.toList()));
             }
 
         } catch (Exception e) {
@@ -118,14 +253,13 @@ public class ResumeScheduler {
     }
 
     /**
-     * Find all scenarios that are ready for resume.
+     * Find scenarios that are ready for resume (bounded by scan-limit).
      */
     private List<EventContextEntities> findResumeReadyScenarios() {
         try {
-            List<EventContextEntities> paused = eventContextPort.findPaused();
+            List<EventContextEntities> ready = eventContextPort.findResumeReady(scanLimit);
 
-            return paused.stream()
-                    .filter(EventContextEntities::isResumeReady)
+            return ready.stream()
                     .filter(ctx -> ctx.getRetryCount() < maxRetries)
                     .collect(Collectors.toList());
 
@@ -138,7 +272,33 @@ public class ResumeScheduler {
     /**
      * Process a batch of scenarios for resume.
      */
-    private void processBatch(List<EventContextEntities> batch) {
+    private void processBatch(List<String> canonicalKeys) {
+        synchronized (executionLock) {
+            List<EventContextEntities> batch = resolveEligible(canonicalKeys);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            executeBatch(batch);
+            recordDrain(batch.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Update drain counters and report queue depth / drain rate.
+     */
+    private void recordDrain(int scenarios, long elapsedMs) {
+        drainedTotal.add(scenarios);
+        drainMillisTotal.add(elapsedMs);
+        lastDrainRate = elapsedMs > 0 ? scenarios * 1000.0 / elapsedMs : scenarios;
+
+        log.info("📊 Resume drain: {} scenario(s) in {}ms ({} /s), queue depth={}, total drained={} (avg {} /s)",
+                scenarios, elapsedMs, String.format("%.2f", lastDrainRate), getQueueDepth(),
+                drainedTotal.sum(), String.format("%.2f", getAverageDrainRate()));
+    }
+
+    private void executeBatch(List<EventContextEntities> batch) {
         // Extract unique scenario identifiers
         List<String> scenarioKeys = batch.stream()
                 .map(this::extractScenarioKey)
@@ -222,6 +382,36 @@ public class ResumeScheduler {
         }
     }
 
+    // ==========================================================================
+    // MONITORING
+    // ==========================================================================
+
+    /**
+     * Keys waiting in the resume queue (0 when running scan-only).
+     */
+    public int getQueueDepth() {
+        return resumeQueue != null ? resumeQueue.size() : 0;
+    }
+
+    public long getDrainedTotal() {
+        return drainedTotal.sum();
+    }
+
+    /**
+     * Scenarios per second over the most recent batch.
+     */
+    public double getLastDrainRate() {
+        return lastDrainRate;
+    }
+
+    /**
+     * Scenarios per second of execution time since startup.
+     */
+    public double getAverageDrainRate() {
+        long millis = drainMillisTotal.sum();
+        return millis > 0 ? drainedTotal.sum() * 1000.0 / millis : 0.0;
+    }
+
     /**
      * Partition a list into smaller batches.
      */
@@ -0,0 +1,415 @@
+package com.acuver.autwit.internal.resume;
+
+import com.acuver.autwit.core.utils.CanonicalKeyGenerator;
+import com.acuver.autwit.internal.context.ScenarioScope;
+import com.acuver.autwit.internal.listeners.TestNGListenerNew;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.testng.SkipException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WarmResumeRuntime - Long-lived Cucumber runtime for resumed scenarios.
+ *
+ * <h2>WHY</h2>
+ * <p>The cold path (ResumeExecutor → new TestNG → filteredScenarios) rebuilds
+ * the XmlSuite, re-parses every feature file and scans every pickle with
+ * {@code contains} for each batch. This runtime parses features ONCE, keeps
+ * the pickles indexed by scenario name, and dispatches resumed pickles
+ * straight onto a worker pool.</p>
+ *
+ * <p>Every example row of a Scenario Outline becomes its own pickle with the
+ * outline's name, so a name maps to ALL its pickles and resuming it runs each
+ * of them - the same set filteredScenarios would select.</p>
+ *
+ * <h2>KEY RESOLUTION</h2>
+ * <ol>
+ *   <li>Exact scenario name</li>
+ *   <li>Scenario name component of a V2 canonical key (scenarioName::orderId::eventType)</li>
+ *   <li>Legacy {@code contains} match over every name (same rule as filteredScenarios)</li>
+ * </ol>
+ *
+ * <h2>ADAPTIVE PARALLEL MODE</h2>
+ * <p>With {@code parallel: true} the workers are a work-stealing
+ * {@link ForkJoinPool} whose parallelism is resized per batch to
+ * {@code min(batch size, max-parallel)}, so a burst of resumeReady scenarios
+ * (e.g. one batch-shipment event) drains concurrently while a single resume
+ * does not spin up idle threads. Scenarios tagged {@code @system:<name>} are
+ * additionally gated by a per-system semaphore from {@code system-limits}, so
+ * one downstream system is never hit by more than its cap. Waiting for a
+ * permit is a managed block, so the pool compensates instead of losing the
+ * worker.</p>
+ *
+ * <h2>VIRTUAL-THREAD MODE</h2>
+ * <p>With {@code virtual-threads: true} every resumed pickle runs on its own
+ * virtual thread inside a fresh {@link ScenarioScope}. Runtime context and the
+ * test data workspace ({@code target/testData/Scope_<id>}) belong to the scope,
+ * not to a pooled platform thread, so in-flight scenarios are bounded by
+ * memory rather than by {@code thread-count}. The workspace, its config
+ * snapshot and its directory watch are released when the scope closes.
+ * Per-system caps still apply.
+ * Takes precedence over {@code parallel}.</p>
+ *
+ * <h2>CONFIGURATION</h2>
+ * <pre>
+ * autwit:
+ *   resume:
+ *     warm-runtime: true      # Enable warm runtime (default false → cold TestNG path)
+ *     thread-count: 1         # Worker pool size (sequential mode)
+ *     parallel: true          # Adaptive work-stealing pool
+ *     max-parallel: 0         # Upper bound (0 → available processors)
+ *     system-limits: oms=4,wms=2
+ *     virtual-threads: false  # One virtual thread + ScenarioScope per pickle
+ * </pre>
+ *
+ * <h2>ARCHITECTURAL CONSTRAINT</h2>
+ * <p>Like ResumeExecutor, this component only re-executes scenarios that
+ * ResumeEngine has ALREADY approved. It makes no resume decisions.</p>
+ *
+ * @author AUTWIT Framework
+ * @since 2.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "autwit.resume.warm-runtime", havingValue = "true")
+public class WarmResumeRuntime {
+
+    private static final Logger log = LogManager.getLogger(WarmResumeRuntime.class);
+
+    @Value("${autwit.runner.class:com.bjs.tests.runner.ClientCucumberRunner}")
+    private String runnerClass;
+
+    @Value("${autwit.resume.thread-count:1}")
+    private int threadCount;
+
+    @Value("${autwit.resume.parallel:false}")
+    private boolean parallelResume;
+
+    @Value("${autwit.resume.max-parallel:0}")
+    private int maxParallel;
+
+    @Value("${autwit.resume.system-limits:}")
+    private String systemLimits;
+
+    @Value("${autwit.resume.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    private static final String SYSTEM_TAG_PREFIX = "@system:";
+
+    private final TestNGListenerNew workspaceListener = new TestNGListenerNew();
+
+    private volatile TestNGCucumberRunner cucumberRunner;
+    private volatile Map<String, List<Pickle>> pickleIndex = Collections.emptyMap();
+    private ExecutorService workers;
+    private Map<String, Semaphore> systemPermits = Collections.emptyMap();
+
+    /**
+     * Parse features and build the pickle index (first use only).
+     */
+    private synchronized void ensureStarted() throws ClassNotFoundException {
+        if (cucumberRunner != null) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        TestNGCucumberRunner runner = new TestNGCucumberRunner(Class.forName(runnerClass));
+
+        Map<String, List<Pickle>> index = new LinkedHashMap<>();
+        int pickleCount = 0;
+        for (Object[] row : runner.provideScenarios()) {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            index.computeIfAbsent(pickle.getName(), name -> new ArrayList<>()).add(pickle);
+            pickleCount++;
+        }
+
+        AtomicInteger seq = new AtomicInteger();
+        int poolSize;
+        if (virtualThreads) {
+            poolSize = 0;
+            workers = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("WarmResume-VT-", 0).factory());
+        } else if (parallelResume) {
+            poolSize = maxParallelism();
+            workers = new ForkJoinPool(poolSize, pool -> {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                t.setName("WarmResume-FJ-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }, null, true);
+        } else {
+            poolSize = Math.max(1, threadCount);
+            workers = Executors.newFixedThreadPool(poolSize, r -> {
+                Thread t = new Thread(r, "WarmResume-Worker-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+
+        systemPermits = parseSystemLimits(systemLimits);
+        pickleIndex = index;
+        cucumberRunner = runner;
+
+        log.info("🔥 WarmResumeRuntime ready: {} pickle(s) under {} name(s) indexed from {} in {}ms (workers={})",
+                pickleCount, index.size(), runnerClass, System.currentTimeMillis() - start,
+                virtualThreads ? "virtual" : String.valueOf(poolSize));
+    }
+
+    /**
+     * Execute resumed scenarios on the warm runtime.
+     *
+     * @param scenarioKeys Cleaned, de-duplicated scenario keys
+     * @return ExecutionResult with the same semantics as the cold TestNG path
+     */
+    public ResumeExecutor.ExecutionResult execute(List<String> scenarioKeys) {
+        long startTime = System.currentTimeMillis();
+        ResumeExecutor.ExecutionResult result = new ResumeExecutor.ExecutionResult();
+        result.setTotalScenarios(scenarioKeys.size());
+        result.setScenarioKeys(new ArrayList<>(scenarioKeys));
+
+        try {
+            ensureStarted();
+        } catch (Exception e) {
+            log.error("❌ WarmResumeRuntime failed to start: {}", e.getMessage(), e);
+            result.setSuccess(false);
+            result.setErrorMessage("Warm runtime unavailable: " + e.getMessage());
+            result.setException(e);
+            result.setDurationMs(System.currentTimeMillis() - startTime);
+            return result;
+        }
+
+        List<Pickle> pickles = resolve(scenarioKeys);
+
+        // Size the work-stealing pool from the backlog in hand
+        if (workers instanceof ForkJoinPool pool && !pickles.isEmpty()) {
+            int target = Math.min(pickles.size(), maxParallelism());
+            if (pool.getParallelism() != target) {
+                pool.setParallelism(target);
+                log.debug("WarmResumeRuntime: parallelism → {} (backlog={})", target, pickles.size());
+            }
+        }
+
+        List<Future<?>> futures = new ArrayList<>(pickles.size());
+        for (Pickle pickle : pickles) {
+            futures.add(workers.submit(() -> virtualThreads
+                    ? runScoped(pickle)
+                    : runPickle(pickle)));
+        }
+
+        boolean failures = false;
+        boolean skipped = false;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SkipException) {
+                    skipped = true;
+                } else {
+                    failures = true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures = true;
+                break;
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        result.setDurationMs(duration);
+        result.setHasFailures(failures);
+        result.setHasSkipped(skipped);
+        result.setSuccess(!failures && !skipped);
+        if (failures) {
+            result.setErrorMessage("Some scenarios failed during execution");
+        } else if (skipped) {
+            result.setErrorMessage("Some scenarios are still waiting for events");
+        }
+
+        log.info("🔥 Warm resume: {} pickle(s) in {}ms (avg {}ms/scenario, failures={}, skipped={})",
+                pickles.size(), duration, pickles.isEmpty() ? 0 : duration / pickles.size(), failures, skipped);
+        return result;
+    }
+
+    /**
+     * Run one pickle inside its own ScenarioScope (virtual-thread mode).
+     * The scope's workspace is removed when it closes.
+     */
+    private Void runScoped(Pickle pickle) throws Exception {
+        ScenarioScope scope = ScenarioScope.open();
+        try {
+            return ScenarioScope.callIn(scope, () -> runPickle(pickle));
+        } finally {
+            workspaceListener.releaseScopeWorkspace(scope);
+            scope.close();
+        }
+    }
+
+    /**
+     * Run one pickle on the current worker thread.
+     */
+    private Void runPickle(Pickle pickle) throws Exception {
+        Semaphore permit = systemPermits.get(systemOf(pickle));
+        if (permit != null) {
+            acquire(permit);
+        }
+        try {
+            workspaceListener.prepareThreadWorkspace();
+            cucumberRunner.runScenario(pickle);
+            return null;
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        } finally {
+            if (permit != null) {
+                permit.release();
+            }
+        }
+    }
+
+    /**
+     * Take a per-system permit without starving the work-stealing pool.
+     *
+     * <p>A worker blocked on a plain {@code acquire()} is lost to the pool, so
+     * a burst for one capped system could park every worker while pickles for
+     * other systems wait in the queue. Blocking through
+     * {@link ForkJoinPool#managedBlock} lets the pool add a compensating
+     * worker; on other threads it simply blocks.</p>
+     */
+    private static void acquire(Semaphore permit) throws InterruptedException {
+        if (permit.tryAcquire()) {
+            return;
+        }
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            private boolean acquired;
+
+            @Override
+            public boolean block() throws InterruptedException {
+                if (!acquired) {
+                    permit.acquire();
+                    acquired = true;
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return acquired || (acquired = permit.tryAcquire());
+            }
+        });
+    }
+
+    /**
+     * Downstream system of a pickle from its {@code @system:<name>} tag, or null.
+     */
+    private String systemOf(Pickle pickle) {
+        for (String tag : pickle.getTags()) {
+            if (tag.startsWith(SYSTEM_TAG_PREFIX)) {
+                return tag.substring(SYSTEM_TAG_PREFIX.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse {@code system=limit} pairs, e.g. {@code oms=4,wms=2}.
+     */
+    private Map<String, Semaphore> parseSystemLimits(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Semaphore> permits = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                log.warn("WarmResumeRuntime: Ignoring malformed system limit '{}'", entry);
+                continue;
+            }
+            try {
+                int limit = Integer.parseInt(parts[1].trim());
+                permits.put(parts[0].trim(), new Semaphore(Math.max(1, limit), true));
+            } catch (NumberFormatException e) {
+                log.warn("WarmResumeRuntime: Ignoring non-numeric system limit '{}'", entry);
+            }
+        }
+        log.info("WarmResumeRuntime: Per-system concurrency caps {}", permits.keySet());
+        return permits;
+    }
+
+    private int maxParallelism() {
+        return maxParallel > 0 ? maxParallel : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Resolve scenario keys to indexed pickles (every example of an outline).
+     */
+    private List<Pickle> resolve(List<String> scenarioKeys) {
+        Map<String, List<Pickle>> index = pickleIndex;
+        Set<Pickle> resolved = new LinkedHashSet<>();
+
+        for (String key : scenarioKeys) {
+            List<Pickle> pickles = index.get(key);
+
+            if (pickles == null && CanonicalKeyGenerator.isV2Format(key)) {
+                pickles = index.get(CanonicalKeyGenerator.extractScenarioName(key));
+            }
+
+            if (pickles == null) {
+                // Legacy rule kept for parity with filteredScenarios
+                pickles = index.entrySet().stream()
+                        .filter(e -> e.getKey().contains(key))
+                        .flatMap(e -> e.getValue().stream())
+                        .toList();
+            }
+
+            if (pickles.isEmpty()) {
+                log.warn("WarmResumeRuntime: No pickle found for key {}", key);
+            } else {
+                resolved.addAll(pickles);
+            }
+        }
+        return new ArrayList<>(resolved);
+    }
+
+    /**
+     * Number of indexed pickles (0 until first use).
+     */
+    public int getIndexedPickleCount() {
+        return pickleIndex.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Flush Cucumber plugins and stop workers.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+        if (cucumberRunner != null) {
+            cucumberRunner.finish();
+            log.info("WarmResumeRuntime: Cucumber runtime finished");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.acuver.autwit.internal.config;
+
+import com.acuver.autwit.internal.context.ScenarioScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of FileReaderManager.getConfigReader().
+ *
+ * <p>{@code cachedSnapshot} is the current hot path: the snapshot pinned in
+ * the scope slot. {@code synchronizedNew} is the previous implementation: a
+ * synchronized method that builds a new ConfigFileReader (file read and
+ * Properties parse) on every call. Both run single-threaded and on 4 threads,
+ * where the old monitor is contended.</p>
+ *
+ * <p>{@link #main} runs with the GC profiler ({@code -prof gc}):
+ * {@code gc.alloc.rate.norm} is the allocation per call, expected to be about
+ * 0 B/op for the cached path.</p>
+ *
+ * <p>Not run by surefire (no TestNG methods). Run it from the test classpath (in autwit-core):</p>
+ * <pre>
+ * mvn -pl autwit-internal-testkit test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.acuver.autwit.internal.config.ConfigReaderBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    private static final Object LEGACY_LOCK = new Object();
+
+    /**
+     * Workspace of the benchmark thread, as TestNGListenerNew prepares it.
+     */
+    @State(Scope.Thread)
+    public static class Workspace {
+
+        @Setup
+        public void setUp() throws IOException {
+            Path dir = Paths.get("target/testData", ScenarioScope.workspaceName());
+            Files.createDirectories(dir);
+            try (InputStream config = ConfigReaderBenchmark.class.getResourceAsStream("/configs/config.properties")) {
+                Files.copy(config, dir.resolve("config.properties"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            // First call loads and pins the snapshot
+            FileReaderManager.getInstance().getConfigReader();
+        }
+    }
+
+    @Benchmark
+    public ConfigFileReader cachedSnapshot(Workspace workspace) {
+        return FileReaderManager.getInstance().getConfigReader();
+    }
+
+    @Benchmark
+    public ConfigFileReader synchronizedNew(Workspace workspace) {
+        return legacyGetConfigReader();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ConfigFileReader cachedSnapshot4Threads(Workspace workspace) {
+        return FileReaderManager.getInstance().getConfigReader();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ConfigFileReader synchronizedNew4Threads(Workspace workspace) {
+        return legacyGetConfigReader();
+    }
+
+    /**
+     * FileReaderManager.getConfigReader() before snapshots: one shared
+     * monitor, one new reader per call.
+     */
+    private static ConfigFileReader legacyGetConfigReader() {
+        synchronized (LEGACY_LOCK) {
+            return new ConfigFileReader(ScenarioScope.workspaceName());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ConfigReaderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,127 @@
+package com.acuver.autwit.internal.resume;
+
+import com.acuver.autwit.internal.config.FileReaderManager;
+import com.acuver.autwit.internal.resume.bench.PausedScenarioSteps;
+import com.acuver.autwit.internal.resume.bench.ResumeBenchmarkRunner;
+import com.acuver.autwit.internal.resume.bench.ResumeBenchmarkSteps;
+import com.acuver.autwit.internal.resume.bench.ScenarioLoadRunner;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Concurrency ceiling of paused scenarios in WarmResumeRuntime, pooled
+ * platform threads vs virtual threads, and scope workspace cleanup.
+ *
+ * <p>paused-scenarios.feature resumes {@link #SCENARIOS} pickles that each
+ * write their context and wait for one shared event. The test counts how many
+ * reach the wait in each runtime mode, then delivers the event and checks
+ * every scenario still saw its own context. With pooled workers at most
+ * {@code thread-count} wait at once; with one virtual thread and one
+ * ScenarioScope per pickle all of them do.</p>
+ */
+public class ScenarioScopeLoadTest {
+
+    private static final Logger LOG = LogManager.getLogger(ScenarioScopeLoadTest.class);
+
+    private static final String PAUSED_SCENARIO = "Paused scenario";
+    private static final int SCENARIOS = 1_000;
+    private static final int THREAD_COUNT = 8;
+    private static final long SETTLE_MS = 5_000;
+
+    @Test
+    public void virtualThreadModeLiftsTheConcurrencyCeiling() throws Exception {
+        int platform = pausedInFlight(false);
+        int virtual = pausedInFlight(true);
+
+        LOG.info("📊 Paused scenarios in flight: {} with thread-count={}, {} with virtual-threads=true ({} resumed)",
+                platform, THREAD_COUNT, virtual, SCENARIOS);
+        assertTrue(platform > 0 && platform <= THREAD_COUNT, "platform mode in flight: " + platform);
+        assertEquals(virtual, SCENARIOS);
+    }
+
+    @Test
+    public void closedScopesLeaveNoWorkspaceBehind() throws Exception {
+        WarmResumeRuntime warm = new WarmResumeRuntime();
+        set(warm, "runnerClass", ResumeBenchmarkRunner.class.getName());
+        set(warm, "virtualThreads", true);
+        set(warm, "systemLimits", "");
+
+        FileReaderManager files = FileReaderManager.getInstance();
+        int watchedBefore = files.getWatchedDirectories();
+        int cachedBefore = files.getCachedSnapshots();
+        ResumeBenchmarkSteps.RUNS.clear();
+        try {
+            for (int i = 0; i < 20; i++) {
+                ResumeExecutor.ExecutionResult result = warm.execute(List.of("Resume workspace"));
+                assertTrue(result.isSuccess(), String.valueOf(result));
+            }
+        } finally {
+            warm.shutdown();
+        }
+
+        assertEquals(ResumeBenchmarkSteps.runs("workspace"), 20);
+        String[] scopeDirs = new File("target/testData").list((dir, name) -> name.startsWith("Scope_"));
+        assertEquals(scopeDirs == null ? 0 : scopeDirs.length, 0, "scope workspaces left behind");
+        assertEquals(files.getWatchedDirectories(), watchedBefore, "scope directories still watched");
+        assertEquals(files.getCachedSnapshots(), cachedBefore, "scope config snapshots still cached");
+    }
+
+    // ==========================================================================
+    // HELPERS
+    // ==========================================================================
+
+    /**
+     * Resume every paused scenario through a WarmResumeRuntime in the given
+     * mode, count how many reach the pause, then deliver the event and check
+     * each scenario kept its own context.
+     */
+    private static int pausedInFlight(boolean virtualThreads) throws Exception {
+        WarmResumeRuntime warm = new WarmResumeRuntime();
+        set(warm, "runnerClass", ScenarioLoadRunner.class.getName());
+        set(warm, "threadCount", THREAD_COUNT);
+        set(warm, "virtualThreads", virtualThreads);
+        set(warm, "systemLimits", "");
+
+        PausedScenarioSteps.reset();
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResumeExecutor.ExecutionResult> resumed =
+                    caller.submit(() -> warm.execute(List.of(PAUSED_SCENARIO)));
+
+            long deadline = System.currentTimeMillis() + SETTLE_MS;
+            while (PausedScenarioSteps.PAUSED.get() < SCENARIOS && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            int inFlight = PausedScenarioSteps.PAUSED.get();
+
+            PausedScenarioSteps.deliverEvent();
+            ResumeExecutor.ExecutionResult result = resumed.get(5, TimeUnit.MINUTES);
+            assertTrue(result.isSuccess(), String.valueOf(result));
+            assertEquals(PausedScenarioSteps.FINISHED.get(), SCENARIOS);
+            assertEquals(PausedScenarioSteps.MIXED_UP.get(), 0, "scenario saw another scenario's context");
+            return inFlight;
+        } finally {
+            PausedScenarioSteps.deliverEvent();
+            caller.shutdownNow();
+            warm.shutdown();
+        }
+    }
+
+    private static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field f = target.getClass().getDeclaredField(field);
+        f.setAccessible(true);
+        f.set(target, value);
+    }
+}
@@ -0,0 +1,151 @@
+package com.acuver.autwit.internal.resume;
+
+import com.acuver.autwit.internal.listeners.TestNGListenerNew;
+import com.acuver.autwit.internal.resume.bench.ResumeBenchmarkRunner;
+import com.acuver.autwit.internal.resume.bench.ResumeBenchmarkSteps;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestNG;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Cold vs warm resume of the same batches (resume-benchmark.feature).
+ *
+ * <p>Cold: per batch, a new XmlSuite and {@code new TestNG()} whose runner
+ * re-parses every feature and filters pickles with {@code contains} - what
+ * ResumeExecutor does without the warm runtime. Warm: {@link WarmResumeRuntime}
+ * with features parsed once. The test checks both run the same pickles and
+ * logs resume overhead per scenario for each; it does not assert on timings.</p>
+ */
+public class WarmResumeBenchmarkTest {
+
+    private static final Logger LOG = LogManager.getLogger(WarmResumeBenchmarkTest.class);
+
+    private static final int BATCHES = 5;
+    private static final int BATCH_SIZE = 4;
+
+    private WarmResumeRuntime warm;
+
+    @BeforeClass
+    public void startWarmRuntime() throws Exception {
+        warm = new WarmResumeRuntime();
+        set(warm, "runnerClass", ResumeBenchmarkRunner.class.getName());
+        set(warm, "threadCount", 1);
+        set(warm, "systemLimits", "");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopWarmRuntime() {
+        if (warm != null) {
+            warm.shutdown();
+        }
+    }
+
+    @BeforeMethod
+    public void resetRuns() {
+        ResumeBenchmarkSteps.RUNS.clear();
+    }
+
+    @Test
+    public void outlineNameResumesEveryExample() {
+        ResumeExecutor.ExecutionResult result = warm.execute(List.of("Resume outline"));
+
+        assertTrue(result.isSuccess(), String.valueOf(result));
+        assertEquals(ResumeBenchmarkSteps.runs("outline-1"), 1);
+        assertEquals(ResumeBenchmarkSteps.runs("outline-2"), 1);
+        assertEquals(ResumeBenchmarkSteps.runs("outline-3"), 1);
+        assertEquals(warm.getIndexedPickleCount(), 24);
+    }
+
+    @Test
+    public void coldAndWarmPathsRunTheSameScenarios() {
+        // Warm-up: JIT, class loading, first feature parse of the warm runtime
+        runCold(batch(0));
+        warm.execute(batch(0));
+        ResumeBenchmarkSteps.RUNS.clear();
+
+        long coldNanos = 0;
+        long warmNanos = 0;
+        for (int b = 0; b < BATCHES; b++) {
+            List<String> keys = batch(b);
+
+            long start = System.nanoTime();
+            runCold(keys);
+            coldNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ResumeExecutor.ExecutionResult result = warm.execute(keys);
+            warmNanos += System.nanoTime() - start;
+            assertTrue(result.isSuccess(), String.valueOf(result));
+        }
+
+        int scenarios = BATCHES * BATCH_SIZE;
+        for (int b = 0; b < BATCHES; b++) {
+            for (String key : batch(b)) {
+                assertEquals(ResumeBenchmarkSteps.runs(key), 2, key + " should run once per path");
+            }
+        }
+
+        double coldMs = coldNanos / 1e6 / scenarios;
+        double warmMs = warmNanos / 1e6 / scenarios;
+        // Wall-clock figures are reported only: asserting on them would flake on loaded machines
+        LOG.info("📊 Resume overhead per scenario: cold {} ms, warm {} ms ({} batches x {} scenarios)",
+                String.format("%.2f", coldMs), String.format("%.2f", warmMs), BATCHES, BATCH_SIZE);
+    }
+
+    // ==========================================================================
+    // HELPERS
+    // ==========================================================================
+
+    private static List<String> batch(int b) {
+        return IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> String.format("Resume benchmark %02d", b * BATCH_SIZE + i + 1))
+                .toList();
+    }
+
+    /**
+     * Same suite shape as ResumeExecutor.buildSuite (sequential).
+     */
+    private static void runCold(List<String> keys) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("AUTWIT-Resume-Suite-" + System.currentTimeMillis());
+        suite.setParallel(XmlSuite.ParallelMode.NONE);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("Resume-Test");
+        test.setParameters(Map.of("scenariosToRun", String.join(",", keys), "resumeMode", "true"));
+
+        XmlClass xmlClass = new XmlClass(ResumeBenchmarkRunner.class.getName());
+        xmlClass.setIncludedMethods(List.of(new XmlInclude("runScenario")));
+        test.setXmlClasses(List.of(xmlClass));
+
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(List.of(suite));
+        testng.setUseDefaultListeners(true);
+        testng.addListener(new TestNGListenerNew());
+        testng.run();
+        assertFalse(testng.hasFailure(), "cold batch failed: " + keys);
+    }
+
+    private static void set(Object target, String field, Object value) throws ReflectiveOperationException {
+        Field f = target.getClass().getDeclaredField(field);
+        f.setAccessible(true);
+        f.set(target, value);
+    }
+}
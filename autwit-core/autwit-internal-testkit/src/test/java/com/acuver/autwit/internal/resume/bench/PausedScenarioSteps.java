@@ -0,0 +1,50 @@
+package com.acuver.autwit.internal.resume.bench;
+
+import com.acuver.autwit.internal.context.ScenarioContext;
+import io.cucumber.java.en.Given;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Glue for paused-scenarios.feature: a scenario writes its order into the
+ * runtime context, waits for the shared event, then checks it still sees
+ * its own order.
+ */
+public class PausedScenarioSteps {
+
+    private static final long MAX_PAUSE_SECONDS = 60;
+
+    public static final AtomicInteger PAUSED = new AtomicInteger();
+    public static final AtomicInteger MIXED_UP = new AtomicInteger();
+    public static final AtomicInteger FINISHED = new AtomicInteger();
+    private static volatile CountDownLatch event = new CountDownLatch(1);
+
+    /** Reset the counters and arm a new event. */
+    public static void reset() {
+        PAUSED.set(0);
+        MIXED_UP.set(0);
+        FINISHED.set(0);
+        event = new CountDownLatch(1);
+    }
+
+    /** Deliver the event every paused scenario waits for. */
+    public static void deliverEvent() {
+        event.countDown();
+    }
+
+    @Given("the scenario pauses for order {string}")
+    public void theScenarioPausesForOrder(String orderId) throws InterruptedException {
+        ScenarioContext.set("orderId", orderId);
+        PAUSED.incrementAndGet();
+        if (!event.await(MAX_PAUSE_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Event never arrived for " + orderId);
+        }
+        if (!orderId.equals(ScenarioContext.get("orderId"))) {
+            MIXED_UP.incrementAndGet();
+        }
+        ScenarioContext.clear();
+        FINISHED.incrementAndGet();
+    }
+}
@@ -0,0 +1,49 @@
+package com.acuver.autwit.internal.resume.bench;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Cucumber runner for the resume benchmark.
+ *
+ * <p>filteredScenarios is the same filter as BaseAutwitCucumberRunner's
+ * (autwit-runner is downstream of this module), wired straight to
+ * runScenario so a cold suite with {@code scenariosToRun} runs the
+ * selected pickles.</p>
+ */
+@CucumberOptions(
+        features = "classpath:features/resume",
+        glue = "com.acuver.autwit.internal.resume.bench",
+        monochrome = true
+)
+public class ResumeBenchmarkRunner extends AbstractTestNGCucumberTests {
+
+    @Override
+    @Test(groups = "cucumber", dataProvider = "filteredScenarios")
+    public void runScenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        super.runScenario(pickleWrapper, featureWrapper);
+    }
+
+    @DataProvider(name = "filteredScenarios", parallel = false)
+    public Object[][] filteredScenarios(ITestContext context) {
+        String retryParam = context.getCurrentXmlTest().getParameter("scenariosToRun");
+        Object[][] original = scenarios();
+
+        if (retryParam == null || retryParam.isBlank()) {
+            return original;
+        }
+
+        String[] wanted = retryParam.split(",");
+        return Arrays.stream(original)
+                .filter(s -> Arrays.stream(wanted)
+                        .anyMatch(w -> s[0].toString().contains(w.trim())))
+                .toArray(Object[][]::new);
+    }
+}
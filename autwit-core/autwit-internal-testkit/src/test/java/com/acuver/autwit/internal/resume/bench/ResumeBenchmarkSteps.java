@@ -0,0 +1,37 @@
+package com.acuver.autwit.internal.resume.bench;
+
+import com.acuver.autwit.internal.config.FileReaderManager;
+import io.cucumber.java.en.Given;
+import io.cucumber.spring.CucumberContextConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Glue for resume-benchmark.feature: each step only counts its runs.
+ */
+@CucumberContextConfiguration
+@ContextConfiguration(classes = ResumeBenchmarkSteps.class)
+public class ResumeBenchmarkSteps {
+
+    /** Runs per step argument (scenario name or outline example). */
+    public static final Map<String, AtomicInteger> RUNS = new ConcurrentHashMap<>();
+
+    @Given("the resumed step {string} runs")
+    public void theResumedStepRuns(String name) {
+        RUNS.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Given("the scenario reads its workspace config")
+    public void theScenarioReadsItsWorkspaceConfig() {
+        FileReaderManager.getInstance().getConfigReader();
+        RUNS.computeIfAbsent("workspace", n -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public static int runs(String name) {
+        AtomicInteger count = RUNS.get(name);
+        return count == null ? 0 : count.get();
+    }
+}
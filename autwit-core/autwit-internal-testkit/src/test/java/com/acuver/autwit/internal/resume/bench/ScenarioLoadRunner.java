@@ -0,0 +1,16 @@
+package com.acuver.autwit.internal.resume.bench;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+
+/**
+ * Cucumber runner for paused-scenarios.feature, resumed through
+ * WarmResumeRuntime by ScenarioScopeLoadTest.
+ */
+@CucumberOptions(
+        features = "classpath:features/load",
+        glue = "com.acuver.autwit.internal.resume.bench",
+        monochrome = true
+)
+public class ScenarioLoadRunner extends AbstractTestNGCucumberTests {
+}
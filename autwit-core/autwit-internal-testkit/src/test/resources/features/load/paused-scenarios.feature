@@ -0,0 +1,1010 @@
+Feature: Paused scenarios load
+
+  Scenarios resumed by ScenarioScopeLoadTest: each one writes its context and
+  waits for its event, so the number waiting at once is the concurrency ceiling.
+
+  Scenario Outline: Paused scenario
+    Given the scenario pauses for order "<order>"
+
+    Examples:
+      | order    |
+      | ORD-0001 |
+      | ORD-0002 |
+      | ORD-0003 |
+      | ORD-0004 |
+      | ORD-0005 |
+      | ORD-0006 |
+      | ORD-0007 |
+      | ORD-0008 |
+      | ORD-0009 |
+      | ORD-0010 |
+      | ORD-0011 |
+      | ORD-0012 |
+      | ORD-0013 |
+      | ORD-0014 |
+      | ORD-0015 |
+      | ORD-0016 |
+      | ORD-0017 |
+      | ORD-0018 |
+      | ORD-0019 |
+      | ORD-0020 |
+      | ORD-0021 |
+      | ORD-0022 |
+      | ORD-0023 |
+      | ORD-0024 |
+      | ORD-0025 |
+      | ORD-0026 |
+      | ORD-0027 |
+      | ORD-0028 |
+      | ORD-0029 |
+      | ORD-0030 |
+      | ORD-0031 |
+      | ORD-0032 |
+      | ORD-0033 |
+      | ORD-0034 |
+      | ORD-0035 |
+      | ORD-0036 |
+      | ORD-0037 |
+      | ORD-0038 |
+      | ORD-0039 |
+      | ORD-0040 |
+      | ORD-0041 |
+      | ORD-0042 |
+      | ORD-0043 |
+      | ORD-0044 |
+      | ORD-0045 |
+      | ORD-0046 |
+      | ORD-0047 |
+      | ORD-0048 |
+      | ORD-0049 |
+      | ORD-0050 |
+      | ORD-0051 |
+      | ORD-0052 |
+      | ORD-0053 |
+      | ORD-0054 |
+      | ORD-0055 |
+      | ORD-0056 |
+      | ORD-0057 |
+      | ORD-0058 |
+      | ORD-0059 |
+      | ORD-0060 |
+      | ORD-0061 |
+      | ORD-0062 |
+      | ORD-0063 |
+      | ORD-0064 |
+      | ORD-0065 |
+      | ORD-0066 |
+      | ORD-0067 |
+      | ORD-0068 |
+      | ORD-0069 |
+      | ORD-0070 |
+      | ORD-0071 |
+      | ORD-0072 |
+      | ORD-0073 |
+      | ORD-0074 |
+      | ORD-0075 |
+      | ORD-0076 |
+      | ORD-0077 |
+      | ORD-0078 |
+      | ORD-0079 |
+      | ORD-0080 |
+      | ORD-0081 |
+      | ORD-0082 |
+      | ORD-0083 |
+      | ORD-0084 |
+      | ORD-0085 |
+      | ORD-0086 |
+      | ORD-0087 |
+      | ORD-0088 |
+      | ORD-0089 |
+      | ORD-0090 |
+      | ORD-0091 |
+      | ORD-0092 |
+      | ORD-0093 |
+      | ORD-0094 |
+      | ORD-0095 |
+      | ORD-0096 |
+      | ORD-0097 |
+      | ORD-0098 |
+      | ORD-0099 |
+      | ORD-0100 |
+      | ORD-0101 |
+      | ORD-0102 |
+      | ORD-0103 |
+      | ORD-0104 |
+      | ORD-0105 |
+      | ORD-0106 |
+      | ORD-0107 |
+      | ORD-0108 |
+      | ORD-0109 |
+      | ORD-0110 |
+      | ORD-0111 |
+      | ORD-0112 |
+      | ORD-0113 |
+      | ORD-0114 |
+      | ORD-0115 |
+      | ORD-0116 |
+      | ORD-0117 |
+      | ORD-0118 |
+      | ORD-0119 |
+      | ORD-0120 |
+      | ORD-0121 |
+      | ORD-0122 |
+      | ORD-0123 |
+      | ORD-0124 |
+      | ORD-0125 |
+      | ORD-0126 |
+      | ORD-0127 |
+      | ORD-0128 |
+      | ORD-0129 |
+      | ORD-0130 |
+      | ORD-0131 |
+      | ORD-0132 |
+      | ORD-0133 |
+      | ORD-0134 |
+      | ORD-0135 |
+      | ORD-0136 |
+      | ORD-0137 |
+      | ORD-0138 |
+      | ORD-0139 |
+      | ORD-0140 |
+      | ORD-0141 |
+      | ORD-0142 |
+      | ORD-0143 |
+      | ORD-0144 |
+      | ORD-0145 |
+      | ORD-0146 |
+      | ORD-0147 |
+      | ORD-0148 |
+      | ORD-0149 |
+      | ORD-0150 |
+      | ORD-0151 |
+      | ORD-0152 |
+      | ORD-0153 |
+      | ORD-0154 |
+      | ORD-0155 |
+      | ORD-0156 |
+      | ORD-0157 |
+      | ORD-0158 |
+      | ORD-0159 |
+      | ORD-0160 |
+      | ORD-0161 |
+      | ORD-0162 |
+      | ORD-0163 |
+      | ORD-0164 |
+      | ORD-0165 |
+      | ORD-0166 |
+      | ORD-0167 |
+      | ORD-0168 |
+      | ORD-0169 |
+      | ORD-0170 |
+      | ORD-0171 |
+      | ORD-0172 |
+      | ORD-0173 |
+      | ORD-0174 |
+      | ORD-0175 |
+      | ORD-0176 |
+      | ORD-0177 |
+      | ORD-0178 |
+      | ORD-0179 |
+      | ORD-0180 |
+      | ORD-0181 |
+      | ORD-0182 |
+      | ORD-0183 |
+      | ORD-0184 |
+      | ORD-0185 |
+      | ORD-0186 |
+      | ORD-0187 |
+      | ORD-0188 |
+      | ORD-0189 |
+      | ORD-0190 |
+      | ORD-0191 |
+      | ORD-0192 |
+      | ORD-0193 |
+      | ORD-0194 |
+      | ORD-0195 |
+      | ORD-0196 |
+      | ORD-0197 |
+      | ORD-0198 |
+      | ORD-0199 |
+      | ORD-0200 |
+      | ORD-0201 |
+      | ORD-0202 |
+      | ORD-0203 |
+      | ORD-0204 |
+      | ORD-0205 |
+      | ORD-0206 |
+      | ORD-0207 |
+      | ORD-0208 |
+      | ORD-0209 |
+      | ORD-0210 |
+      | ORD-0211 |
+      | ORD-0212 |
+      | ORD-0213 |
+      | ORD-0214 |
+      | ORD-0215 |
+      | ORD-0216 |
+      | ORD-0217 |
+      | ORD-0218 |
+      | ORD-0219 |
+      | ORD-0220 |
+      | ORD-0221 |
+      | ORD-0222 |
+      | ORD-0223 |
+      | ORD-0224 |
+      | ORD-0225 |
+      | ORD-0226 |
+      | ORD-0227 |
+      | ORD-0228 |
+      | ORD-0229 |
+      | ORD-0230 |
+      | ORD-0231 |
+      | ORD-0232 |
+      | ORD-0233 |
+      | ORD-0234 |
+      | ORD-0235 |
+      | ORD-0236 |
+      | ORD-0237 |
+      | ORD-0238 |
+      | ORD-0239 |
+      | ORD-0240 |
+      | ORD-0241 |
+      | ORD-0242 |
+      | ORD-0243 |
+      | ORD-0244 |
+      | ORD-0245 |
+      | ORD-0246 |
+      | ORD-0247 |
+      | ORD-0248 |
+      | ORD-0249 |
+      | ORD-0250 |
+      | ORD-0251 |
+      | ORD-0252 |
+      | ORD-0253 |
+      | ORD-0254 |
+      | ORD-0255 |
+      | ORD-0256 |
+      | ORD-0257 |
+      | ORD-0258 |
+      | ORD-0259 |
+      | ORD-0260 |
+      | ORD-0261 |
+      | ORD-0262 |
+      | ORD-0263 |
+      | ORD-0264 |
+      | ORD-0265 |
+      | ORD-0266 |
+      | ORD-0267 |
+      | ORD-0268 |
+      | ORD-0269 |
+      | ORD-0270 |
+      | ORD-0271 |
+      | ORD-0272 |
+      | ORD-0273 |
+      | ORD-0274 |
+      | ORD-0275 |
+      | ORD-0276 |
+      | ORD-0277 |
+      | ORD-0278 |
+      | ORD-0279 |
+      | ORD-0280 |
+      | ORD-0281 |
+      | ORD-0282 |
+      | ORD-0283 |
+      | ORD-0284 |
+      | ORD-0285 |
+      | ORD-0286 |
+      | ORD-0287 |
+      | ORD-0288 |
+      | ORD-0289 |
+      | ORD-0290 |
+      | ORD-0291 |
+      | ORD-0292 |
+      | ORD-0293 |
+      | ORD-0294 |
+      | ORD-0295 |
+      | ORD-0296 |
+      | ORD-0297 |
+      | ORD-0298 |
+      | ORD-0299 |
+      | ORD-0300 |
+      | ORD-0301 |
+      | ORD-0302 |
+      | ORD-0303 |
+      | ORD-0304 |
+      | ORD-0305 |
+      | ORD-0306 |
+      | ORD-0307 |
+      | ORD-0308 |
+      | ORD-0309 |
+      | ORD-0310 |
+      | ORD-0311 |
+      | ORD-0312 |
+      | ORD-0313 |
+      | ORD-0314 |
+      | ORD-0315 |
+      | ORD-0316 |
+      | ORD-0317 |
+      | ORD-0318 |
+      | ORD-0319 |
+      | ORD-0320 |
+      | ORD-0321 |
+      | ORD-0322 |
+      | ORD-0323 |
+      | ORD-0324 |
+      | ORD-0325 |
+      | ORD-0326 |
+      | ORD-0327 |
+      | ORD-0328 |
+      | ORD-0329 |
+      | ORD-0330 |
+      | ORD-0331 |
+      | ORD-0332 |
+      | ORD-0333 |
+      | ORD-0334 |
+      | ORD-0335 |
+      | ORD-0336 |
+      | ORD-0337 |
+      | ORD-0338 |
+      | ORD-0339 |
+      | ORD-0340 |
+      | ORD-0341 |
+      | ORD-0342 |
+      | ORD-0343 |
+      | ORD-0344 |
+      | ORD-0345 |
+      | ORD-0346 |
+      | ORD-0347 |
+      | ORD-0348 |
+      | ORD-0349 |
+      | ORD-0350 |
+      | ORD-0351 |
+      | ORD-0352 |
+      | ORD-0353 |
+      | ORD-0354 |
+      | ORD-0355 |
+      | ORD-0356 |
+      | ORD-0357 |
+      | ORD-0358 |
+      | ORD-0359 |
+      | ORD-0360 |
+      | ORD-0361 |
+      | ORD-0362 |
+      | ORD-0363 |
+      | ORD-0364 |
+      | ORD-0365 |
+      | ORD-0366 |
+      | ORD-0367 |
+      | ORD-0368 |
+      | ORD-0369 |
+      | ORD-0370 |
+      | ORD-0371 |
+      | ORD-0372 |
+      | ORD-0373 |
+      | ORD-0374 |
+      | ORD-0375 |
+      | ORD-0376 |
+      | ORD-0377 |
+      | ORD-0378 |
+      | ORD-0379 |
+      | ORD-0380 |
+      | ORD-0381 |
+      | ORD-0382 |
+      | ORD-0383 |
+      | ORD-0384 |
+      | ORD-0385 |
+      | ORD-0386 |
+      | ORD-0387 |
+      | ORD-0388 |
+      | ORD-0389 |
+      | ORD-0390 |
+      | ORD-0391 |
+      | ORD-0392 |
+      | ORD-0393 |
+      | ORD-0394 |
+      | ORD-0395 |
+      | ORD-0396 |
+      | ORD-0397 |
+      | ORD-0398 |
+      | ORD-0399 |
+      | ORD-0400 |
+      | ORD-0401 |
+      | ORD-0402 |
+      | ORD-0403 |
+      | ORD-0404 |
+      | ORD-0405 |
+      | ORD-0406 |
+      | ORD-0407 |
+      | ORD-0408 |
+      | ORD-0409 |
+      | ORD-0410 |
+      | ORD-0411 |
+      | ORD-0412 |
+      | ORD-0413 |
+      | ORD-0414 |
+      | ORD-0415 |
+      | ORD-0416 |
+      | ORD-0417 |
+      | ORD-0418 |
+      | ORD-0419 |
+      | ORD-0420 |
+      | ORD-0421 |
+      | ORD-0422 |
+      | ORD-0423 |
+      | ORD-0424 |
+      | ORD-0425 |
+      | ORD-0426 |
+      | ORD-0427 |
+      | ORD-0428 |
+      | ORD-0429 |
+      | ORD-0430 |
+      | ORD-0431 |
+      | ORD-0432 |
+      | ORD-0433 |
+      | ORD-0434 |
+      | ORD-0435 |
+      | ORD-0436 |
+      | ORD-0437 |
+      | ORD-0438 |
+      | ORD-0439 |
+      | ORD-0440 |
+      | ORD-0441 |
+      | ORD-0442 |
+      | ORD-0443 |
+      | ORD-0444 |
+      | ORD-0445 |
+      | ORD-0446 |
+      | ORD-0447 |
+      | ORD-0448 |
+      | ORD-0449 |
+      | ORD-0450 |
+      | ORD-0451 |
+      | ORD-0452 |
+      | ORD-0453 |
+      | ORD-0454 |
+      | ORD-0455 |
+      | ORD-0456 |
+      | ORD-0457 |
+      | ORD-0458 |
+      | ORD-0459 |
+      | ORD-0460 |
+      | ORD-0461 |
+      | ORD-0462 |
+      | ORD-0463 |
+      | ORD-0464 |
+      | ORD-0465 |
+      | ORD-0466 |
+      | ORD-0467 |
+      | ORD-0468 |
+      | ORD-0469 |
+      | ORD-0470 |
+      | ORD-0471 |
+      | ORD-0472 |
+      | ORD-0473 |
+      | ORD-0474 |
+      | ORD-0475 |
+      | ORD-0476 |
+      | ORD-0477 |
+      | ORD-0478 |
+      | ORD-0479 |
+      | ORD-0480 |
+      | ORD-0481 |
+      | ORD-0482 |
+      | ORD-0483 |
+      | ORD-0484 |
+      | ORD-0485 |
+      | ORD-0486 |
+      | ORD-0487 |
+      | ORD-0488 |
+      | ORD-0489 |
+      | ORD-0490 |
+      | ORD-0491 |
+      | ORD-0492 |
+      | ORD-0493 |
+      | ORD-0494 |
+      | ORD-0495 |
+      | ORD-0496 |
+      | ORD-0497 |
+      | ORD-0498 |
+      | ORD-0499 |
+      | ORD-0500 |
+      | ORD-0501 |
+      | ORD-0502 |
+      | ORD-0503 |
+      | ORD-0504 |
+      | ORD-0505 |
+      | ORD-0506 |
+      | ORD-0507 |
+      | ORD-0508 |
+      | ORD-0509 |
+      | ORD-0510 |
+      | ORD-0511 |
+      | ORD-0512 |
+      | ORD-0513 |
+      | ORD-0514 |
+      | ORD-0515 |
+      | ORD-0516 |
+      | ORD-0517 |
+      | ORD-0518 |
+      | ORD-0519 |
+      | ORD-0520 |
+      | ORD-0521 |
+      | ORD-0522 |
+      | ORD-0523 |
+      | ORD-0524 |
+      | ORD-0525 |
+      | ORD-0526 |
+      | ORD-0527 |
+      | ORD-0528 |
+      | ORD-0529 |
+      | ORD-0530 |
+      | ORD-0531 |
+      | ORD-0532 |
+      | ORD-0533 |
+      | ORD-0534 |
+      | ORD-0535 |
+      | ORD-0536 |
+      | ORD-0537 |
+      | ORD-0538 |
+      | ORD-0539 |
+      | ORD-0540 |
+      | ORD-0541 |
+      | ORD-0542 |
+      | ORD-0543 |
+      | ORD-0544 |
+      | ORD-0545 |
+      | ORD-0546 |
+      | ORD-0547 |
+      | ORD-0548 |
+      | ORD-0549 |
+      | ORD-0550 |
+      | ORD-0551 |
+      | ORD-0552 |
+      | ORD-0553 |
+      | ORD-0554 |
+      | ORD-0555 |
+      | ORD-0556 |
+      | ORD-0557 |
+      | ORD-0558 |
+      | ORD-0559 |
+      | ORD-0560 |
+      | ORD-0561 |
+      | ORD-0562 |
+      | ORD-0563 |
+      | ORD-0564 |
+      | ORD-0565 |
+      | ORD-0566 |
+      | ORD-0567 |
+      | ORD-0568 |
+      | ORD-0569 |
+      | ORD-0570 |
+      | ORD-0571 |
+      | ORD-0572 |
+      | ORD-0573 |
+      | ORD-0574 |
+      | ORD-0575 |
+      | ORD-0576 |
+      | ORD-0577 |
+      | ORD-0578 |
+      | ORD-0579 |
+      | ORD-0580 |
+      | ORD-0581 |
+      | ORD-0582 |
+      | ORD-0583 |
+      | ORD-0584 |
+      | ORD-0585 |
+      | ORD-0586 |
+      | ORD-0587 |
+      | ORD-0588 |
+      | ORD-0589 |
+      | ORD-0590 |
+      | ORD-0591 |
+      | ORD-0592 |
+      | ORD-0593 |
+      | ORD-0594 |
+      | ORD-0595 |
+      | ORD-0596 |
+      | ORD-0597 |
+      | ORD-0598 |
+      | ORD-0599 |
+      | ORD-0600 |
+      | ORD-0601 |
+      | ORD-0602 |
+      | ORD-0603 |
+      | ORD-0604 |
+      | ORD-0605 |
+      | ORD-0606 |
+      | ORD-0607 |
+      | ORD-0608 |
+      | ORD-0609 |
+      | ORD-0610 |
+      | ORD-0611 |
+      | ORD-0612 |
+      | ORD-0613 |
+      | ORD-0614 |
+      | ORD-0615 |
+      | ORD-0616 |
+      | ORD-0617 |
+      | ORD-0618 |
+      | ORD-0619 |
+      | ORD-0620 |
+      | ORD-0621 |
+      | ORD-0622 |
+      | ORD-0623 |
+      | ORD-0624 |
+      | ORD-0625 |
+      | ORD-0626 |
+      | ORD-0627 |
+      | ORD-0628 |
+      | ORD-0629 |
+      | ORD-0630 |
+      | ORD-0631 |
+      | ORD-0632 |
+      | ORD-0633 |
+      | ORD-0634 |
+      | ORD-0635 |
+      | ORD-0636 |
+      | ORD-0637 |
+      | ORD-0638 |
+      | ORD-0639 |
+      | ORD-0640 |
+      | ORD-0641 |
+      | ORD-0642 |
+      | ORD-0643 |
+      | ORD-0644 |
+      | ORD-0645 |
+      | ORD-0646 |
+      | ORD-0647 |
+      | ORD-0648 |
+      | ORD-0649 |
+      | ORD-0650 |
+      | ORD-0651 |
+      | ORD-0652 |
+      | ORD-0653 |
+      | ORD-0654 |
+      | ORD-0655 |
+      | ORD-0656 |
+      | ORD-0657 |
+      | ORD-0658 |
+      | ORD-0659 |
+      | ORD-0660 |
+      | ORD-0661 |
+      | ORD-0662 |
+      | ORD-0663 |
+      | ORD-0664 |
+      | ORD-0665 |
+      | ORD-0666 |
+      | ORD-0667 |
+      | ORD-0668 |
+      | ORD-0669 |
+      | ORD-0670 |
+      | ORD-0671 |
+      | ORD-0672 |
+      | ORD-0673 |
+      | ORD-0674 |
+      | ORD-0675 |
+      | ORD-0676 |
+      | ORD-0677 |
+      | ORD-0678 |
+      | ORD-0679 |
+      | ORD-0680 |
+      | ORD-0681 |
+      | ORD-0682 |
+      | ORD-0683 |
+      | ORD-0684 |
+      | ORD-0685 |
+      | ORD-0686 |
+      | ORD-0687 |
+      | ORD-0688 |
+      | ORD-0689 |
+      | ORD-0690 |
+      | ORD-0691 |
+      | ORD-0692 |
+      | ORD-0693 |
+      | ORD-0694 |
+      | ORD-0695 |
+      | ORD-0696 |
+      | ORD-0697 |
+      | ORD-0698 |
+      | ORD-0699 |
+      | ORD-0700 |
+      | ORD-0701 |
+      | ORD-0702 |
+      | ORD-0703 |
+      | ORD-0704 |
+      | ORD-0705 |
+      | ORD-0706 |
+      | ORD-0707 |
+      | ORD-0708 |
+      | ORD-0709 |
+      | ORD-0710 |
+      | ORD-0711 |
+      | ORD-0712 |
+      | ORD-0713 |
+      | ORD-0714 |
+      | ORD-0715 |
+      | ORD-0716 |
+      | ORD-0717 |
+      | ORD-0718 |
+      | ORD-0719 |
+      | ORD-0720 |
+      | ORD-0721 |
+      | ORD-0722 |
+      | ORD-0723 |
+      | ORD-0724 |
+      | ORD-0725 |
+      | ORD-0726 |
+      | ORD-0727 |
+      | ORD-0728 |
+      | ORD-0729 |
+      | ORD-0730 |
+      | ORD-0731 |
+      | ORD-0732 |
+      | ORD-0733 |
+      | ORD-0734 |
+      | ORD-0735 |
+      | ORD-0736 |
+      | ORD-0737 |
+      | ORD-0738 |
+      | ORD-0739 |
+      | ORD-0740 |
+      | ORD-0741 |
+      | ORD-0742 |
+      | ORD-0743 |
+      | ORD-0744 |
+      | ORD-0745 |
+      | ORD-0746 |
+      | ORD-0747 |
+      | ORD-0748 |
+      | ORD-0749 |
+      | ORD-0750 |
+      | ORD-0751 |
+      | ORD-0752 |
+      | ORD-0753 |
+      | ORD-0754 |
+      | ORD-0755 |
+      | ORD-0756 |
+      | ORD-0757 |
+      | ORD-0758 |
+      | ORD-0759 |
+      | ORD-0760 |
+      | ORD-0761 |
+      | ORD-0762 |
+      | ORD-0763 |
+      | ORD-0764 |
+      | ORD-0765 |
+      | ORD-0766 |
+      | ORD-0767 |
+      | ORD-0768 |
+      | ORD-0769 |
+      | ORD-0770 |
+      | ORD-0771 |
+      | ORD-0772 |
+      | ORD-0773 |
+      | ORD-0774 |
+      | ORD-0775 |
+      | ORD-0776 |
+      | ORD-0777 |
+      | ORD-0778 |
+      | ORD-0779 |
+      | ORD-0780 |
+      | ORD-0781 |
+      | ORD-0782 |
+      | ORD-0783 |
+      | ORD-0784 |
+      | ORD-0785 |
+      | ORD-0786 |
+      | ORD-0787 |
+      | ORD-0788 |
+      | ORD-0789 |
+      | ORD-0790 |
+      | ORD-0791 |
+      | ORD-0792 |
+      | ORD-0793 |
+      | ORD-0794 |
+      | ORD-0795 |
+      | ORD-0796 |
+      | ORD-0797 |
+      | ORD-0798 |
+      | ORD-0799 |
+      | ORD-0800 |
+      | ORD-0801 |
+      | ORD-0802 |
+      | ORD-0803 |
+      | ORD-0804 |
+      | ORD-0805 |
+      | ORD-0806 |
+      | ORD-0807 |
+      | ORD-0808 |
+      | ORD-0809 |
+      | ORD-0810 |
+      | ORD-0811 |
+      | ORD-0812 |
+      | ORD-0813 |
+      | ORD-0814 |
+      | ORD-0815 |
+      | ORD-0816 |
+      | ORD-0817 |
+      | ORD-0818 |
+      | ORD-0819 |
+      | ORD-0820 |
+      | ORD-0821 |
+      | ORD-0822 |
+      | ORD-0823 |
+      | ORD-0824 |
+      | ORD-0825 |
+      | ORD-0826 |
+      | ORD-0827 |
+      | ORD-0828 |
+      | ORD-0829 |
+      | ORD-0830 |
+      | ORD-0831 |
+      | ORD-0832 |
+      | ORD-0833 |
+      | ORD-0834 |
+      | ORD-0835 |
+      | ORD-0836 |
+      | ORD-0837 |
+      | ORD-0838 |
+      | ORD-0839 |
+      | ORD-0840 |
+      | ORD-0841 |
+      | ORD-0842 |
+      | ORD-0843 |
+      | ORD-0844 |
+      | ORD-0845 |
+      | ORD-0846 |
+      | ORD-0847 |
+      | ORD-0848 |
+      | ORD-0849 |
+      | ORD-0850 |
+      | ORD-0851 |
+      | ORD-0852 |
+      | ORD-0853 |
+      | ORD-0854 |
+      | ORD-0855 |
+      | ORD-0856 |
+      | ORD-0857 |
+      | ORD-0858 |
+      | ORD-0859 |
+      | ORD-0860 |
+      | ORD-0861 |
+      | ORD-0862 |
+      | ORD-0863 |
+      | ORD-0864 |
+      | ORD-0865 |
+      | ORD-0866 |
+      | ORD-0867 |
+      | ORD-0868 |
+      | ORD-0869 |
+      | ORD-0870 |
+      | ORD-0871 |
+      | ORD-0872 |
+      | ORD-0873 |
+      | ORD-0874 |
+      | ORD-0875 |
+      | ORD-0876 |
+      | ORD-0877 |
+      | ORD-0878 |
+      | ORD-0879 |
+      | ORD-0880 |
+      | ORD-0881 |
+      | ORD-0882 |
+      | ORD-0883 |
+      | ORD-0884 |
+      | ORD-0885 |
+      | ORD-0886 |
+      | ORD-0887 |
+      | ORD-0888 |
+      | ORD-0889 |
+      | ORD-0890 |
+      | ORD-0891 |
+      | ORD-0892 |
+      | ORD-0893 |
+      | ORD-0894 |
+      | ORD-0895 |
+      | ORD-0896 |
+      | ORD-0897 |
+      | ORD-0898 |
+      | ORD-0899 |
+      | ORD-0900 |
+      | ORD-0901 |
+      | ORD-0902 |
+      | ORD-0903 |
+      | ORD-0904 |
+      | ORD-0905 |
+      | ORD-0906 |
+      | ORD-0907 |
+      | ORD-0908 |
+      | ORD-0909 |
+      | ORD-0910 |
+      | ORD-0911 |
+      | ORD-0912 |
+      | ORD-0913 |
+      | ORD-0914 |
+      | ORD-0915 |
+      | ORD-0916 |
+      | ORD-0917 |
+      | ORD-0918 |
+      | ORD-0919 |
+      | ORD-0920 |
+      | ORD-0921 |
+      | ORD-0922 |
+      | ORD-0923 |
+      | ORD-0924 |
+      | ORD-0925 |
+      | ORD-0926 |
+      | ORD-0927 |
+      | ORD-0928 |
+      | ORD-0929 |
+      | ORD-0930 |
+      | ORD-0931 |
+      | ORD-0932 |
+      | ORD-0933 |
+      | ORD-0934 |
+      | ORD-0935 |
+      | ORD-0936 |
+      | ORD-0937 |
+      | ORD-0938 |
+      | ORD-0939 |
+      | ORD-0940 |
+      | ORD-0941 |
+      | ORD-0942 |
+      | ORD-0943 |
+      | ORD-0944 |
+      | ORD-0945 |
+      | ORD-0946 |
+      | ORD-0947 |
+      | ORD-0948 |
+      | ORD-0949 |
+      | ORD-0950 |
+      | ORD-0951 |
+      | ORD-0952 |
+      | ORD-0953 |
+      | ORD-0954 |
+      | ORD-0955 |
+      | ORD-0956 |
+      | ORD-0957 |
+      | ORD-0958 |
+      | ORD-0959 |
+      | ORD-0960 |
+      | ORD-0961 |
+      | ORD-0962 |
+      | ORD-0963 |
+      | ORD-0964 |
+      | ORD-0965 |
+      | ORD-0966 |
+      | ORD-0967 |
+      | ORD-0968 |
+      | ORD-0969 |
+      | ORD-0970 |
+      | ORD-0971 |
+      | ORD-0972 |
+      | ORD-0973 |
+      | ORD-0974 |
+      | ORD-0975 |
+      | ORD-0976 |
+      | ORD-0977 |
+      | ORD-0978 |
+      | ORD-0979 |
+      | ORD-0980 |
+      | ORD-0981 |
+      | ORD-0982 |
+      | ORD-0983 |
+      | ORD-0984 |
+      | ORD-0985 |
+      | ORD-0986 |
+      | ORD-0987 |
+      | ORD-0988 |
+      | ORD-0989 |
+      | ORD-0990 |
+      | ORD-0991 |
+      | ORD-0992 |
+      | ORD-0993 |
+      | ORD-0994 |
+      | ORD-0995 |
+      | ORD-0996 |
+      | ORD-0997 |
+      | ORD-0998 |
+      | ORD-0999 |
+      | ORD-1000 |
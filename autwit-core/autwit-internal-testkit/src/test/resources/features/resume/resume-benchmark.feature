@@ -0,0 +1,75 @@
+Feature: Warm resume benchmark
+
+  Scenarios resumed by WarmResumeBenchmarkTest through the cold and warm paths.
+
+  Scenario: Resume benchmark 01
+    Given the resumed step "Resume benchmark 01" runs
+
+  Scenario: Resume benchmark 02
+    Given the resumed step "Resume benchmark 02" runs
+
+  Scenario: Resume benchmark 03
+    Given the resumed step "Resume benchmark 03" runs
+
+  Scenario: Resume benchmark 04
+    Given the resumed step "Resume benchmark 04" runs
+
+  Scenario: Resume benchmark 05
+    Given the resumed step "Resume benchmark 05" runs
+
+  Scenario: Resume benchmark 06
+    Given the resumed step "Resume benchmark 06" runs
+
+  Scenario: Resume benchmark 07
+    Given the resumed step "Resume benchmark 07" runs
+
+  Scenario: Resume benchmark 08
+    Given the resumed step "Resume benchmark 08" runs
+
+  Scenario: Resume benchmark 09
+    Given the resumed step "Resume benchmark 09" runs
+
+  Scenario: Resume benchmark 10
+    Given the resumed step "Resume benchmark 10" runs
+
+  Scenario: Resume benchmark 11
+    Given the resumed step "Resume benchmark 11" runs
+
+  Scenario: Resume benchmark 12
+    Given the resumed step "Resume benchmark 12" runs
+
+  Scenario: Resume benchmark 13
+    Given the resumed step "Resume benchmark 13" runs
+
+  Scenario: Resume benchmark 14
+    Given the resumed step "Resume benchmark 14" runs
+
+  Scenario: Resume benchmark 15
+    Given the resumed step "Resume benchmark 15" runs
+
+  Scenario: Resume benchmark 16
+    Given the resumed step "Resume benchmark 16" runs
+
+  Scenario: Resume benchmark 17
+    Given the resumed step "Resume benchmark 17" runs
+
+  Scenario: Resume benchmark 18
+    Given the resumed step "Resume benchmark 18" runs
+
+  Scenario: Resume benchmark 19
+    Given the resumed step "Resume benchmark 19" runs
+
+  Scenario: Resume benchmark 20
+    Given the resumed step "Resume benchmark 20" runs
+
+  Scenario Outline: Resume outline
+    Given the resumed step "<example>" runs
+
+    Examples:
+      | example   |
+      | outline-1 |
+      | outline-2 |
+      | outline-3 |
+
+  Scenario: Resume workspace
+    Given the scenario reads its workspace config
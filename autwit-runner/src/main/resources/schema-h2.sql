@@ -10,4 +10,44 @@ CREATE TABLE IF NOT EXISTS scenario_context (
     scenario_status VARCHAR(100)
 );
 
-CREATE INDEX IF NOT EXISTS idx_scenario_context_scenario_name ON scenario_context(scenario_name);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_scenario_context_scenario_name ON scenario_context(scenario_name);
+
+-- ======================================================
+--  TABLE: autwit_schema_version
+-- ======================================================
+CREATE TABLE IF NOT EXISTS autwit_schema_version (
+    version INT PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+MERGE INTO autwit_schema_version (version, description) KEY (version)
+VALUES
+    (1, 'Baseline tables'),
+    (2, 'event_context indexes for poller / matcher / resume queries'),
+    (6, 'event_context (created_at, canonical_key) keyset index for the poller');
+
+-- ======================================================
+--  TABLE: event_context
+-- ======================================================
+CREATE TABLE IF NOT EXISTS event_context (
+    canonical_key VARCHAR(200) PRIMARY KEY,
+    order_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(200),
+    event_timestamp BIGINT,
+    kafka_payload TEXT,
+    paused BOOLEAN DEFAULT FALSE,
+    resume_ready BOOLEAN DEFAULT FALSE,
+    retry_count INT DEFAULT 0,
+    first_paused_at BIGINT,
+    last_retry_at BIGINT,
+    status VARCHAR(100),
+    created_at BIGINT
+);
+
+-- H2 has no partial indexes: the flag-leading composites below serve the
+-- same paused / resumeReady queries. Verified at startup by H2SchemaVerifier.
+CREATE INDEX IF NOT EXISTS idx_event_context_order_event_ts ON event_context(order_id, event_type, event_timestamp DESC);
+CREATE INDEX IF NOT EXISTS idx_event_context_paused ON event_context(paused, resume_ready, first_paused_at);
+CREATE INDEX IF NOT EXISTS idx_event_context_created_key ON event_context(created_at, canonical_key);
+DROP INDEX IF EXISTS idx_event_context_created_at;
@@ -3,6 +3,28 @@
 --  AUTWIT Framework v2.0.0
 -- ======================================================
 
+-- ======================================================
+--  TABLE: autwit_schema_version
+--  One row per applied schema version. Every statement in
+--  this file is idempotent, so re-running it is safe.
+-- ======================================================
+
+CREATE TABLE IF NOT EXISTS autwit_schema_version (
+    version INT PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO autwit_schema_version (version, description)
+VALUES
+    (1, 'Baseline tables'),
+    (2, 'event_context indexes for poller / matcher / resume queries'),
+    (3, 'api_context pooled id sequence'),
+    (4, 'api_payload blobs for compressed payload storage'),
+    (5, 'api_context call duration'),
+    (6, 'event_context (created_at, canonical_key) keyset index for the poller')
+ON CONFLICT (version) DO NOTHING;
+
 -- ======================================================
 --  TABLE: event_context
 -- ======================================================
@@ -22,8 +44,42 @@ CREATE TABLE IF NOT EXISTS event_context (
     created_at BIGINT
 );
 
-CREATE INDEX IF NOT EXISTS idx_event_context_order_id ON event_context(order_id);
-CREATE INDEX IF NOT EXISTS idx_event_context_resume_ready ON event_context(resume_ready);
+-- ------------------------------------------------------
+--  event_context indexes (schema version 2)
+--  Shaped after the EventContextPort queries:
+--    findLatest / findLatestBatch  → order_id, event_type, MAX(event_timestamp)
+--    findPaused (full sweep)       → paused = true
+--    ResumeEngine candidate lookup → paused AND NOT resume_ready
+--    findResumeReady (scheduler)   → paused AND resume_ready ORDER BY first_paused_at
+--    findCreatedAfter (poller)     → (created_at, canonical_key) > (?, ?) ORDER BY both
+--  Verified at startup by PostgresSchemaVerifier.
+-- ------------------------------------------------------
+
+CREATE INDEX IF NOT EXISTS idx_event_context_order_event_ts
+    ON event_context (order_id, event_type, event_timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_event_context_paused
+    ON event_context (first_paused_at)
+    WHERE paused = true;
+
+CREATE INDEX IF NOT EXISTS idx_event_context_paused_waiting
+    ON event_context (order_id, event_type)
+    WHERE paused = true AND resume_ready = false;
+
+CREATE INDEX IF NOT EXISTS idx_event_context_resume_queue
+    ON event_context (first_paused_at) INCLUDE (canonical_key, retry_count)
+    WHERE paused = true AND resume_ready = true;
+
+-- schema version 6: keyset paging needs canonical_key as tie-breaker
+CREATE INDEX IF NOT EXISTS idx_event_context_created_key
+    ON event_context (created_at, canonical_key);
+
+-- v1 indexes superseded by the set above
+--   order_id alone is a prefix of idx_event_context_order_event_ts,
+--   a plain boolean index on resume_ready is never selective.
+DROP INDEX IF EXISTS idx_event_context_order_id;
+DROP INDEX IF EXISTS idx_event_context_resume_ready;
+DROP INDEX IF EXISTS idx_event_context_created_at;
 
 -- ======================================================
 --  TABLE: event_store
@@ -124,6 +180,34 @@ CREATE INDEX IF NOT EXISTS idx_api_context_is_service ON api_context(is_service)
 CREATE INDEX IF NOT EXISTS idx_api_context_created_at ON api_context(created_at);
 CREATE INDEX IF NOT EXISTS idx_api_context_updated_at ON api_context(updated_at);
 
+-- Pooled id allocation (allocationSize = 50 on PostgresApiContextEntity)
+-- so Hibernate can batch inserts; the column default still works for raw SQL.
+ALTER SEQUENCE IF EXISTS api_context_id_seq INCREMENT BY 50;
+
+-- Compressed payload storage (autwit.api-context.payload-storage=compressed):
+-- payload columns stay NULL and the hashes reference api_payload.
+ALTER TABLE api_context ADD COLUMN IF NOT EXISTS request_hash VARCHAR(64);
+ALTER TABLE api_context ADD COLUMN IF NOT EXISTS response_hash VARCHAR(64);
+
+-- Wall-clock duration of the Sterling call, measured in BaseActionsNew.executeCall.
+-- NULL for rows captured before schema version 5.
+ALTER TABLE api_context ADD COLUMN IF NOT EXISTS duration_ms BIGINT;
+
+
+-- ======================================================
+--  TABLE: api_payload
+--  One compressed copy per distinct payload, keyed by the
+--  SHA-256 of the uncompressed body (see PayloadCodec).
+-- ======================================================
+
+CREATE TABLE IF NOT EXISTS api_payload (
+    hash VARCHAR(64) PRIMARY KEY,
+    codec VARCHAR(32) NOT NULL,
+    original_size INTEGER NOT NULL,
+    data BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 
 -- ======================================================
 --  TABLE: api_template